@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.codec.Codec;
+import org.mariadb.r2dbc.codec.Codecs;
+import org.openjdk.jmh.annotations.*;
+
+/** Value decoding of each codec of {@link Codecs#LIST}, from text and binary encoded values. */
+public class CodecBenchmark extends MicroCommon {
+
+  @State(Scope.Thread)
+  public static class CodecState {
+
+    /** codec class name, without "Codec" suffix */
+    @Param({
+      "BigDecimal",
+      "BigInteger",
+      "BitSet",
+      "Blob",
+      "Boolean",
+      "ByteArray",
+      "ByteBuffer",
+      "Byte",
+      "Clob",
+      "Double",
+      "Duration",
+      "Float",
+      "Int",
+      "LocalDate",
+      "LocalDateTime",
+      "LocalTime",
+      "Long",
+      "Short",
+      "Stream",
+      "String"
+    })
+    public String codec;
+
+    protected Codec<Object> decoder;
+    protected Class<Object> type;
+    protected Fixtures.Value value;
+    protected ByteBuf text;
+    protected ByteBuf binary;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+      for (Codec<?> c : Codecs.LIST) {
+        if (c.getClass().getSimpleName().equals(codec + "Codec")) decoder = (Codec<Object>) c;
+      }
+      value = Fixtures.codecValue(codec);
+      type = (Class<Object>) value.type;
+      text = Unpooled.directBuffer().writeBytes(value.text);
+      binary = Unpooled.directBuffer().writeBytes(value.binary);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      text.release();
+      binary.release();
+    }
+  }
+
+  @Benchmark
+  public Object decodeText(CodecState state) {
+    state.text.readerIndex(0);
+    return released(
+        state.text,
+        state.decoder.decodeText(
+            state.text,
+            state.value.text.length,
+            state.value.column,
+            state.type,
+            ExceptionFactory.INSTANCE));
+  }
+
+  @Benchmark
+  public Object decodeBinary(CodecState state) {
+    state.binary.readerIndex(0);
+    return released(
+        state.binary,
+        state.decoder.decodeBinary(
+            state.binary,
+            state.value.binary.length,
+            state.value.column,
+            state.type,
+            ExceptionFactory.INSTANCE));
+  }
+
+  private static Object released(ByteBuf buf, Object value) {
+    // Blob and InputStream values retain a slice of the row buffer
+    if (buf.refCnt() > 1) buf.release(buf.refCnt() - 1);
+    return value;
+  }
+}
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.ReferenceCountUtil;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import org.mariadb.r2dbc.client.MariadbFrameDecoder;
+import org.mariadb.r2dbc.codec.DataType;
+import org.openjdk.jmh.annotations.*;
+
+/** Decoding of a text result-set, fed to {@link MariadbFrameDecoder} in an embedded channel. */
+public class DecoderBenchmark extends MicroCommon {
+
+  @State(Scope.Thread)
+  public static class DecoderState {
+
+    /** result-set shape, like server benchmarks Select_1, Select_100_cols and Select_1000_Rows */
+    @Param({"1_col", "100_cols", "1000_rows"})
+    public String resultSet;
+
+    /** network read size, 0 to feed the whole result-set at once */
+    @Param({"0", "8192"})
+    public int chunkSize;
+
+    protected EmbeddedChannel channel;
+    protected ByteBuf fixture;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      List<byte[]> columns = new ArrayList<>();
+      List<byte[][]> rows = new ArrayList<>();
+      switch (resultSet) {
+        case "1_col":
+          columns.add(Fixtures.columnDefinition("1", DataType.INTEGER, Fixtures.BINARY, 1, 0, 0));
+          rows.add(new byte[][] {Fixtures.ascii("1")});
+          break;
+        case "100_cols":
+          byte[][] row = new byte[100][];
+          for (int i = 0; i < 100; i++) {
+            columns.add(
+                Fixtures.columnDefinition("i" + i, DataType.INTEGER, Fixtures.BINARY, 11, 0, 0));
+            row[i] = Fixtures.ascii(String.valueOf(i));
+          }
+          rows.add(row);
+          break;
+        case "1000_rows":
+          columns.add(
+              Fixtures.columnDefinition("t", DataType.VARSTRING, Fixtures.UTF8MB4, 400, 0, 0));
+          for (int i = 0; i < 1000; i++) {
+            rows.add(new byte[][] {Fixtures.repeat('a', 100)});
+          }
+          break;
+        default:
+          throw new IllegalArgumentException(resultSet);
+      }
+      fixture = Fixtures.textResultSet(columns, rows);
+
+      MariadbFrameDecoder decoder =
+          new MariadbFrameDecoder(new ArrayDeque<>(), null, Fixtures.CONF);
+      decoder.setContext(Fixtures.context());
+      channel = new EmbeddedChannel(decoder);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      channel.finishAndReleaseAll();
+      fixture.release();
+    }
+  }
+
+  @Benchmark
+  public int decode(DecoderState state) {
+    ByteBuf fixture = state.fixture;
+    if (state.chunkSize == 0) {
+      state.channel.writeInbound(fixture.retainedDuplicate());
+    } else {
+      for (int pos = 0; pos < fixture.writerIndex(); pos += state.chunkSize) {
+        state.channel.writeInbound(
+            fixture.retainedSlice(pos, Math.min(state.chunkSize, fixture.writerIndex() - pos)));
+      }
+    }
+
+    int messages = 0;
+    Object msg;
+    while ((msg = state.channel.readInbound()) != null) {
+      ReferenceCountUtil.release(msg);
+      messages++;
+    }
+    return messages;
+  }
+}
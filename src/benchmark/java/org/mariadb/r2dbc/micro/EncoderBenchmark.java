@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import io.netty.buffer.ByteBuf;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.mariadb.r2dbc.api.MariadbMetrics;
+import org.mariadb.r2dbc.client.MariadbPacketEncoder;
+import org.mariadb.r2dbc.codec.Codecs;
+import org.mariadb.r2dbc.message.client.ExecutePacket;
+import org.mariadb.r2dbc.message.client.QueryPacket;
+import org.mariadb.r2dbc.message.client.QueryWithParametersPacket;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.BindValue;
+import org.mariadb.r2dbc.util.ClientParser;
+import org.mariadb.r2dbc.util.ServerPrepareResult;
+import org.openjdk.jmh.annotations.*;
+
+/** Command encoding with {@link MariadbPacketEncoder}, packet header included. */
+public class EncoderBenchmark extends MicroCommon {
+
+  private static final String SQL = "INSERT INTO perfTest(i, s, d, n) VALUES (?, ?, ?, ?)";
+
+  @State(Scope.Thread)
+  public static class EncoderState {
+
+    protected MariadbPacketEncoder encoder;
+    protected ClientParser parser;
+    protected ServerPrepareResult prepareResult;
+    protected BindValue[] bindValues;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      encoder = new MariadbPacketEncoder(MariadbMetrics.NONE);
+      encoder.setContext(Fixtures.context());
+      parser = ClientParser.parameterParts(SQL, false);
+      prepareResult = new ServerPrepareResult(1, 4, new ColumnDefinitionPacket[0]);
+      Object[] values =
+          new Object[] {
+            123456789,
+            "some string value with accents \u00e9\u00e0\u00f9",
+            LocalDateTime.of(2022, 12, 31, 12, 34, 56, 123456000),
+            new BigDecimal("123456789.1234")
+          };
+      bindValues = new BindValue[values.length];
+      for (int i = 0; i < values.length; i++) {
+        bindValues[i] = Codecs.encode(values[i], i);
+      }
+    }
+  }
+
+  @Benchmark
+  public int query(EncoderState state) {
+    return encode(state, new QueryPacket("SELECT 1"));
+  }
+
+  @Benchmark
+  public int textParameters(EncoderState state) {
+    return encode(state, new QueryWithParametersPacket(state.parser, state.bindValues, null));
+  }
+
+  @Benchmark
+  public int binaryExecute(EncoderState state) {
+    return encode(state, new ExecutePacket(SQL, state.prepareResult, state.bindValues));
+  }
+
+  private static int encode(EncoderState state, org.mariadb.r2dbc.message.ClientMessage msg) {
+    ByteBuf buf = state.encoder.encodeFlux(msg).block();
+    int size = buf.readableBytes();
+    buf.release();
+    return size;
+  }
+}
@@ -0,0 +1,605 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.traffic.ChannelTrafficShapingHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.ClientParser;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+import org.mariadb.r2dbc.util.constants.ServerStatus;
+
+/**
+ * In-process stand-in for a MariaDB server, speaking enough of the protocol for the driver to run
+ * realistic workloads without any database, so that only driver overhead shows up in results.
+ *
+ * <p>Supported: handshake with mysql_native_password (password is not checked), COM_QUERY,
+ * COM_STMT_PREPARE / EXECUTE / CLOSE / RESET, COM_PING, COM_INIT_DB, COM_RESET_CONNECTION and
+ * COM_QUIT. Queries registered with {@link #result(String, ResultSet)} return their canned
+ * result-set (text or binary), other queries return an OK packet, or an error for unknown SELECT.
+ * Transaction status follows autocommit / BEGIN / COMMIT / ROLLBACK commands.
+ *
+ * <p>Response latency and bandwidth are configurable, and {@link #closeConnections()} kills all
+ * connections, permitting to measure pipelining, backpressure or failover behaviour.
+ *
+ * <pre>
+ * FakeServer server =
+ *     new FakeServer().latency(Duration.ofMillis(1)).result("SELECT 1", ResultSet.ints(1, 1));
+ * server.start();
+ * MariadbConnectionConfiguration conf =
+ *     MariadbConnectionConfiguration.builder().host("localhost").port(server.getPort())
+ *         .username("bench").build();
+ * </pre>
+ */
+public final class FakeServer implements Closeable {
+
+  private static final String VERSION = "5.5.5-10.6.11-MariaDB-fake";
+  private static final int CAPABILITIES =
+      Capabilities.FOUND_ROWS
+          | Capabilities.LONG_FLAG
+          | Capabilities.CONNECT_WITH_DB
+          | Capabilities.IGNORE_SPACE
+          | Capabilities.CLIENT_PROTOCOL_41
+          | Capabilities.TRANSACTIONS
+          | Capabilities.SECURE_CONNECTION
+          | Capabilities.MULTI_STATEMENTS
+          | Capabilities.MULTI_RESULTS
+          | Capabilities.PS_MULTI_RESULTS
+          | Capabilities.PLUGIN_AUTH
+          | Capabilities.CONNECT_ATTRS
+          | Capabilities.PLUGIN_AUTH_LENENC_CLIENT_DATA;
+
+  private final Map<String, ResultSet> results = new ConcurrentHashMap<>();
+  private final AtomicInteger threadIds = new AtomicInteger();
+  private final ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+  private volatile long latencyNanos;
+  private volatile long bandwidth;
+  private int ioThreads = 1;
+  private EventLoopGroup group;
+  private Channel serverChannel;
+
+  /**
+   * Delay before sending each response.
+   *
+   * @param latency response latency
+   * @return this server
+   */
+  public FakeServer latency(Duration latency) {
+    this.latencyNanos = latency.toNanos();
+    return this;
+  }
+
+  /**
+   * Limit response bandwidth of each connection. Only applies to connections created afterward.
+   *
+   * @param bytesPerSecond maximum bytes per second, 0 for no limit
+   * @return this server
+   */
+  public FakeServer bandwidth(long bytesPerSecond) {
+    this.bandwidth = bytesPerSecond;
+    return this;
+  }
+
+  /**
+   * Number of server threads, to be set before start. Default 1.
+   *
+   * @param ioThreads number of threads
+   * @return this server
+   */
+  public FakeServer ioThreads(int ioThreads) {
+    this.ioThreads = ioThreads;
+    return this;
+  }
+
+  /**
+   * Register result-set returned by a query, or by a prepared statement with the same sql.
+   *
+   * @param sql sql command
+   * @param resultSet result-set
+   * @return this server
+   */
+  public FakeServer result(String sql, ResultSet resultSet) {
+    results.put(sql, resultSet);
+    return this;
+  }
+
+  /**
+   * Start server, listening on an ephemeral port of loopback interface.
+   *
+   * @return this server
+   */
+  public FakeServer start() {
+    group = new NioEventLoopGroup(ioThreads);
+    serverChannel =
+        new ServerBootstrap()
+            .group(group)
+            .channel(NioServerSocketChannel.class)
+            .childHandler(
+                new ChannelInitializer<SocketChannel>() {
+                  @Override
+                  protected void initChannel(SocketChannel ch) {
+                    channels.add(ch);
+                    if (bandwidth > 0) {
+                      ch.pipeline().addLast(new ChannelTrafficShapingHandler(bandwidth, 0, 100));
+                    }
+                    ch.pipeline()
+                        .addLast(
+                            new LengthFieldBasedFrameDecoder(
+                                ByteOrder.LITTLE_ENDIAN, 0xffffff + 4, 0, 3, 1, 0, true),
+                            new ConnectionHandler());
+                  }
+                })
+            .bind("localhost", 0)
+            .syncUninterruptibly()
+            .channel();
+    return this;
+  }
+
+  public int getPort() {
+    return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+  }
+
+  /** Abruptly close all current connections, server still accepting new ones. */
+  public void closeConnections() {
+    channels.close().syncUninterruptibly();
+  }
+
+  @Override
+  public void close() {
+    if (serverChannel != null) serverChannel.close().syncUninterruptibly();
+    closeConnections();
+    if (group != null) group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+  }
+
+  /** Canned result-set, pre-encoded in text and binary protocol. */
+  public static final class ResultSet {
+    private final List<String> names = new ArrayList<>();
+    private final List<DataType> types = new ArrayList<>();
+    private final List<String[]> rows = new ArrayList<>();
+    private byte[][] columnDefinitions;
+    // column count and column definitions packets
+    private ByteBuf head;
+    // row packets
+    private ByteBuf text;
+    private ByteBuf binary;
+
+    /**
+     * Add a column. Supported types are TINYINT, SMALLINT, INTEGER, BIGINT, FLOAT, DOUBLE and types
+     * transmitted as strings (VARSTRING, STRING, DECIMAL, TEXT, BLOB, JSON).
+     *
+     * @param name column name
+     * @param type column type
+     * @return this result-set
+     */
+    public ResultSet column(String name, DataType type) {
+      binaryEncode(type, "0");
+      names.add(name);
+      types.add(type);
+      return this;
+    }
+
+    /**
+     * Add a row.
+     *
+     * @param values text values, null for NULL
+     * @return this result-set
+     */
+    public ResultSet row(String... values) {
+      if (values.length != names.size()) {
+        throw new IllegalArgumentException("Expected " + names.size() + " values");
+      }
+      rows.add(values);
+      return this;
+    }
+
+    /**
+     * Result-set of integer columns, value being row number, starting at 1.
+     *
+     * @param columns number of columns
+     * @param rows number of rows
+     * @return result-set
+     */
+    public static ResultSet ints(int columns, int rows) {
+      ResultSet rs = new ResultSet();
+      for (int i = 0; i < columns; i++) rs.column("i" + i, DataType.INTEGER);
+      for (int i = 0; i < rows; i++) {
+        String[] row = new String[columns];
+        for (int j = 0; j < columns; j++) row[j] = String.valueOf(i + 1);
+        rs.row(row);
+      }
+      return rs;
+    }
+
+    /**
+     * Result-set of one VARCHAR column.
+     *
+     * @param rows number of rows
+     * @param length value length
+     * @return result-set
+     */
+    public static ResultSet strings(int rows, int length) {
+      ResultSet rs = new ResultSet().column("t", DataType.VARSTRING);
+      String value = new String(Fixtures.repeat('a', length), StandardCharsets.US_ASCII);
+      for (int i = 0; i < rows; i++) rs.row(value);
+      return rs;
+    }
+
+    /**
+     * Encode packets once. Sequence numbers of a result-set response only depend on number of
+     * columns and rows, so only EOF packets, containing server status, are written per response.
+     */
+    private synchronized void encode() {
+      if (head != null) return;
+      int columnCount = names.size();
+      columnDefinitions = new byte[columnCount][];
+      ColumnDefinitionPacket[] columns = new ColumnDefinitionPacket[columnCount];
+      ByteBuf headBuf = Unpooled.directBuffer();
+      ByteBuf count = Unpooled.buffer();
+      writeLength(count, columnCount);
+      int seq = writePacket(headBuf, 1, toArray(count));
+      for (int i = 0; i < columnCount; i++) {
+        DataType type = types.get(i);
+        boolean utf8 =
+            type == DataType.VARSTRING
+                || type == DataType.STRING
+                || type == DataType.TEXT
+                || type == DataType.JSON;
+        DataType serverType = type == DataType.TEXT ? DataType.BLOB : type;
+        int charset = utf8 ? Fixtures.UTF8MB4 : Fixtures.BINARY;
+        int decimals = type == DataType.DOUBLE || type == DataType.FLOAT ? 31 : 0;
+        columnDefinitions[i] =
+            Fixtures.columnDefinition(names.get(i), serverType, charset, 255, 0, decimals);
+        columns[i] = Fixtures.column(names.get(i), serverType, charset, 255, 0, decimals);
+        seq = writePacket(headBuf, seq, columnDefinitions[i]);
+      }
+
+      // rows follow intermediate EOF
+      ByteBuf textBuf = Unpooled.directBuffer();
+      ByteBuf binaryBuf = Unpooled.directBuffer();
+      seq++;
+      for (String[] row : rows) {
+        byte[][] textValues = new byte[columnCount][];
+        byte[][] binaryValues = new byte[columnCount][];
+        for (int i = 0; i < columnCount; i++) {
+          if (row[i] == null) continue;
+          textValues[i] = row[i].getBytes(StandardCharsets.UTF_8);
+          binaryValues[i] = binaryEncode(types.get(i), row[i]);
+        }
+        writePacket(textBuf, seq, Fixtures.textRow(textValues));
+        seq = writePacket(binaryBuf, seq, Fixtures.binaryRow(columns, binaryValues));
+      }
+      text = Unpooled.unreleasableBuffer(textBuf);
+      binary = Unpooled.unreleasableBuffer(binaryBuf);
+      head = Unpooled.unreleasableBuffer(headBuf);
+    }
+
+    private int intermediateEofSequence() {
+      return columnDefinitions.length + 2;
+    }
+
+    private int endingEofSequence() {
+      return columnDefinitions.length + 3 + rows.size();
+    }
+  }
+
+  private static boolean isString(DataType type) {
+    switch (type) {
+      case VARSTRING:
+      case STRING:
+      case DECIMAL:
+      case TEXT:
+      case BLOB:
+      case JSON:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static byte[] binaryEncode(DataType type, String value) {
+    switch (type) {
+      case TINYINT:
+        return Fixtures.le(Long.parseLong(value), 1);
+      case SMALLINT:
+        return Fixtures.le(Long.parseLong(value), 2);
+      case INTEGER:
+        return Fixtures.le(Long.parseLong(value), 4);
+      case BIGINT:
+        return Fixtures.le(Long.parseLong(value), 8);
+      case FLOAT:
+        return Fixtures.le(Float.floatToIntBits(Float.parseFloat(value)), 4);
+      case DOUBLE:
+        return Fixtures.le(Double.doubleToLongBits(Double.parseDouble(value)), 8);
+      default:
+        if (isString(type)) return value.getBytes(StandardCharsets.UTF_8);
+        throw new IllegalArgumentException("Unsupported column type " + type);
+    }
+  }
+
+  private static void writeLength(ByteBuf buf, long length) {
+    if (length < 251) {
+      buf.writeByte((int) length);
+    } else if (length < 65536) {
+      buf.writeByte(0xfc);
+      buf.writeShortLE((int) length);
+    } else if (length < 16777216) {
+      buf.writeByte(0xfd);
+      buf.writeMediumLE((int) length);
+    } else {
+      buf.writeByte(0xfe);
+      buf.writeLongLE(length);
+    }
+  }
+
+  private static int writePacket(ByteBuf out, int seq, byte[] body) {
+    out.writeMediumLE(body.length);
+    out.writeByte(seq);
+    out.writeBytes(body);
+    return seq + 1;
+  }
+
+  private static byte[] toArray(ByteBuf buf) {
+    byte[] arr = new byte[buf.readableBytes()];
+    buf.readBytes(arr);
+    return arr;
+  }
+
+  /** Connection state, only accessed from channel event loop. */
+  private final class ConnectionHandler extends ChannelInboundHandlerAdapter {
+    private final Map<Integer, String> statements = new HashMap<>();
+    private boolean authenticated;
+    private short status = ServerStatus.AUTOCOMMIT;
+    private int lastStatementId;
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+      ByteBuf buf = ctx.alloc().buffer();
+      buf.writeByte(0x0a);
+      buf.writeCharSequence(VERSION, StandardCharsets.US_ASCII);
+      buf.writeByte(0);
+      buf.writeIntLE(threadIds.incrementAndGet());
+      buf.writeBytes(Fixtures.repeat('s', 8)); // seed part 1
+      buf.writeByte(0);
+      buf.writeShortLE(CAPABILITIES);
+      buf.writeByte(Fixtures.UTF8MB4);
+      buf.writeShortLE(status);
+      buf.writeShortLE(CAPABILITIES >>> 16);
+      buf.writeByte(21); // seed length
+      buf.writeZero(6);
+      buf.writeIntLE(0); // MariaDB extended capabilities
+      buf.writeBytes(Fixtures.repeat('s', 12)); // seed part 2
+      buf.writeByte(0);
+      buf.writeCharSequence("mysql_native_password", StandardCharsets.US_ASCII);
+      buf.writeByte(0);
+      ctx.writeAndFlush(packet(ctx, 0, buf));
+      ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+      ByteBuf packet = (ByteBuf) msg;
+      try {
+        packet.skipBytes(3);
+        int seq = packet.readUnsignedByte();
+        if (!authenticated) {
+          // handshake response: any user/password is accepted
+          authenticated = true;
+          respond(ctx, ok(ctx, seq + 1, 0));
+          return;
+        }
+        handleCommand(ctx, packet.readUnsignedByte(), packet);
+      } finally {
+        ReferenceCountUtil.release(packet);
+      }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+      if (latencyNanos == 0) ctx.flush();
+      ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      ctx.close();
+    }
+
+    private void handleCommand(ChannelHandlerContext ctx, int command, ByteBuf body) {
+      switch (command) {
+        case 0x01: // COM_QUIT
+          ctx.close();
+          return;
+        case 0x02: // COM_INIT_DB
+        case 0x0e: // COM_PING
+        case 0x1a: // COM_STMT_RESET
+          respond(ctx, ok(ctx, 1, 0));
+          return;
+        case 0x03: // COM_QUERY
+          query(ctx, body.toString(StandardCharsets.UTF_8));
+          return;
+        case 0x16: // COM_STMT_PREPARE
+          prepare(ctx, body.toString(StandardCharsets.UTF_8));
+          return;
+        case 0x17: // COM_STMT_EXECUTE
+          execute(ctx, body.readIntLE());
+          return;
+        case 0x18: // COM_STMT_SEND_LONG_DATA
+          return;
+        case 0x19: // COM_STMT_CLOSE
+          statements.remove(body.readIntLE());
+          return;
+        case 0x1f: // COM_RESET_CONNECTION
+          statements.clear();
+          status = ServerStatus.AUTOCOMMIT;
+          respond(ctx, ok(ctx, 1, 0));
+          return;
+        default:
+          respond(ctx, error(ctx, 1, 1047, "08S01", "Unknown command " + command));
+      }
+    }
+
+    private void query(ChannelHandlerContext ctx, String sql) {
+      ResultSet rs = results.get(sql);
+      if (rs != null) {
+        respond(ctx, resultSet(ctx, rs, false));
+        return;
+      }
+      String command = sql.trim().toUpperCase(Locale.ROOT);
+      if (command.startsWith("SET AUTOCOMMIT=0")) {
+        status = (short) (status & ~ServerStatus.AUTOCOMMIT);
+      } else if (command.startsWith("SET AUTOCOMMIT=1")) {
+        status = (short) ((status | ServerStatus.AUTOCOMMIT) & ~ServerStatus.IN_TRANSACTION);
+      } else if (command.startsWith("BEGIN") || command.startsWith("START TRANSACTION")) {
+        status |= ServerStatus.IN_TRANSACTION;
+      } else if (command.startsWith("COMMIT") || command.startsWith("ROLLBACK")) {
+        status = (short) (status & ~ServerStatus.IN_TRANSACTION);
+      } else if (command.startsWith("SELECT")) {
+        respond(ctx, error(ctx, 1, 1146, "42S02", "No result registered for: " + sql));
+        return;
+      }
+      boolean update =
+          command.startsWith("INSERT")
+              || command.startsWith("UPDATE")
+              || command.startsWith("DELETE")
+              || command.startsWith("REPLACE");
+      respond(ctx, ok(ctx, 1, update ? 1 : 0));
+    }
+
+    private void prepare(ChannelHandlerContext ctx, String sql) {
+      int statementId = ++lastStatementId;
+      statements.put(statementId, sql);
+      ResultSet rs = results.get(sql);
+      if (rs != null) rs.encode();
+      int params = ClientParser.parameterParts(sql, false).getParamCount();
+      int columns = rs == null ? 0 : rs.columnDefinitions.length;
+
+      CompositeByteBuf out = ctx.alloc().compositeBuffer();
+      ByteBuf buf = ctx.alloc().buffer();
+      buf.writeByte(0x00);
+      buf.writeIntLE(statementId);
+      buf.writeShortLE(columns);
+      buf.writeShortLE(params);
+      buf.writeByte(0x00);
+      buf.writeShortLE(0);
+      int seq = 1;
+      out.addComponent(true, packet(ctx, seq++, buf));
+      if (params > 0) {
+        byte[] param = Fixtures.columnDefinition("?", DataType.VARSTRING, Fixtures.BINARY, 0, 0, 0);
+        for (int i = 0; i < params; i++) {
+          out.addComponent(true, packet(ctx, seq++, Unpooled.wrappedBuffer(param)));
+        }
+        out.addComponent(true, eof(ctx, seq++));
+      }
+      if (columns > 0) {
+        for (byte[] column : rs.columnDefinitions) {
+          out.addComponent(true, packet(ctx, seq++, Unpooled.wrappedBuffer(column)));
+        }
+        out.addComponent(true, eof(ctx, seq));
+      }
+      respond(ctx, out);
+    }
+
+    private void execute(ChannelHandlerContext ctx, int statementId) {
+      // -1 : pipelined execute of last prepared statement
+      String sql = statements.get(statementId == -1 ? lastStatementId : statementId);
+      if (sql == null) {
+        respond(ctx, error(ctx, 1, 1243, "HY000", "Unknown prepared statement handler"));
+        return;
+      }
+      ResultSet rs = results.get(sql);
+      if (rs != null) {
+        respond(ctx, resultSet(ctx, rs, true));
+      } else {
+        query(ctx, sql);
+      }
+    }
+
+    private ByteBuf resultSet(ChannelHandlerContext ctx, ResultSet rs, boolean binary) {
+      rs.encode();
+      return ctx.alloc()
+          .compositeBuffer(4)
+          .addComponents(
+              true,
+              rs.head.duplicate(),
+              eof(ctx, rs.intermediateEofSequence()),
+              (binary ? rs.binary : rs.text).duplicate(),
+              eof(ctx, rs.endingEofSequence()));
+    }
+
+    private void respond(ChannelHandlerContext ctx, ByteBuf response) {
+      if (latencyNanos == 0) {
+        ctx.write(response);
+      } else {
+        ctx.executor()
+            .schedule(() -> ctx.writeAndFlush(response), latencyNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    private ByteBuf ok(ChannelHandlerContext ctx, int seq, int affectedRows) {
+      ByteBuf buf = ctx.alloc().buffer(11);
+      buf.writeByte(0x00);
+      writeLength(buf, affectedRows);
+      buf.writeByte(0); // last insert id
+      buf.writeShortLE(status);
+      buf.writeShortLE(0);
+      return packet(ctx, seq, buf);
+    }
+
+    private ByteBuf eof(ChannelHandlerContext ctx, int seq) {
+      ByteBuf buf = ctx.alloc().buffer(5);
+      buf.writeByte(0xfe);
+      buf.writeShortLE(0);
+      buf.writeShortLE(status);
+      return packet(ctx, seq, buf);
+    }
+
+    private ByteBuf error(
+        ChannelHandlerContext ctx, int seq, int code, String sqlState, String message) {
+      ByteBuf buf = ctx.alloc().buffer();
+      buf.writeByte(0xff);
+      buf.writeShortLE(code);
+      buf.writeByte('#');
+      buf.writeCharSequence(sqlState, StandardCharsets.US_ASCII);
+      buf.writeCharSequence(message, StandardCharsets.UTF_8);
+      return packet(ctx, seq, buf);
+    }
+
+    private ByteBuf packet(ChannelHandlerContext ctx, int seq, ByteBuf body) {
+      ByteBuf header = ctx.alloc().buffer(4);
+      header.writeMediumLE(body.readableBytes());
+      header.writeByte(seq);
+      return ctx.alloc().compositeBuffer(2).addComponents(true, header, body);
+    }
+  }
+}
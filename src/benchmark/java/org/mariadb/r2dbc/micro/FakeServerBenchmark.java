@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import java.time.Duration;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.MariadbConnectionFactory;
+import org.mariadb.r2dbc.api.MariadbConnection;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * End-to-end benchmarks against {@link FakeServer}: connection creation (connect, handshake and
+ * authentication, session initialization), queries and pipelined queries.
+ */
+public class FakeServerBenchmark extends MicroCommon {
+
+  private static final String SELECT_1 = "SELECT 1";
+  private static final String SELECT_1_PARAM = "SELECT 1 FROM DUAL WHERE 1 = ?";
+  private static final String SELECT_100_COLS = "select * FROM test100";
+  private static final String SELECT_1000_ROWS = "select * FROM seq_1_to_1000";
+
+  @State(Scope.Benchmark)
+  public static class ServerState {
+
+    /** server response latency in microseconds */
+    @Param({"0", "200"})
+    public int latencyMicros;
+
+    protected FakeServer server;
+    protected MariadbConnectionFactory factory;
+    protected MariadbConnectionFactory prepareFactory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      server =
+          new FakeServer()
+              .latency(Duration.ofNanos(latencyMicros * 1000L))
+              .result(SELECT_1, FakeServer.ResultSet.ints(1, 1))
+              .result(SELECT_1_PARAM, FakeServer.ResultSet.ints(1, 1))
+              .result(SELECT_100_COLS, FakeServer.ResultSet.ints(100, 1))
+              .result(SELECT_1000_ROWS, FakeServer.ResultSet.strings(1000, 100))
+              .start();
+      MariadbConnectionConfiguration.Builder builder =
+          MariadbConnectionConfiguration.builder()
+              .host("localhost")
+              .port(server.getPort())
+              .username("bench");
+      factory = new MariadbConnectionFactory(builder.build());
+      prepareFactory = new MariadbConnectionFactory(builder.useServerPrepStmts(true).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      server.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ConnectionState {
+    protected MariadbConnection connection;
+    protected MariadbConnection prepareConnection;
+
+    @Setup(Level.Trial)
+    public void setup(ServerState server) {
+      connection = server.factory.create().block();
+      prepareConnection = server.prepareFactory.create().block();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      connection.close().block();
+      prepareConnection.close().block();
+    }
+  }
+
+  @Benchmark
+  public void connect(ServerState server) {
+    server.factory.create().flatMap(MariadbConnection::close).block();
+  }
+
+  @Benchmark
+  public Integer select1(ConnectionState state) {
+    return selectInt(state.connection, SELECT_1);
+  }
+
+  @Benchmark
+  public Integer select1Prepare(ConnectionState state) {
+    return state
+        .prepareConnection
+        .createStatement(SELECT_1_PARAM)
+        .bind(0, 1)
+        .execute()
+        .flatMap(r -> r.map((row, meta) -> row.get(0, Integer.class)))
+        .blockLast();
+  }
+
+  @Benchmark
+  public int[] select100Cols(ConnectionState state) {
+    return state
+        .connection
+        .createStatement(SELECT_100_COLS)
+        .execute()
+        .flatMap(
+            r ->
+                r.map(
+                    (row, meta) -> {
+                      int[] values = new int[100];
+                      for (int i = 0; i < 100; i++) values[i] = row.get(i, Integer.class);
+                      return values;
+                    }))
+        .blockLast();
+  }
+
+  @Benchmark
+  public String select1000Rows(ConnectionState state) {
+    return state
+        .connection
+        .createStatement(SELECT_1000_ROWS)
+        .execute()
+        .flatMap(r -> r.map((row, meta) -> row.get(0, String.class)))
+        .blockLast();
+  }
+
+  @Benchmark
+  public Integer pipelined100Select1(ConnectionState state) {
+    return Flux.range(0, 100)
+        .flatMap(i -> state.connection.createStatement(SELECT_1).execute())
+        .flatMap(r -> r.map((row, meta) -> row.get(0, Integer.class)))
+        .reduce(0, Integer::sum)
+        .block();
+  }
+
+  private static Integer selectInt(MariadbConnection connection, String sql) {
+    return connection
+        .createStatement(sql)
+        .execute()
+        .flatMap(r -> r.map((row, meta) -> row.get(0, Integer.class)))
+        .blockLast();
+  }
+}
@@ -0,0 +1,439 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
+import io.r2dbc.spi.IsolationLevel;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.client.SimpleContext;
+import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.message.server.Sequencer;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+import org.mariadb.r2dbc.util.constants.ColumnFlags;
+import org.mariadb.r2dbc.util.constants.ServerStatus;
+
+/**
+ * Server packets as sent by a MariaDB 10.6 server, built once at setup, permitting to benchmark
+ * decoding without any server.
+ */
+public final class Fixtures {
+
+  public static final int UTF8MB4 = 45;
+  public static final int BINARY = 63;
+
+  public static final long CAPABILITIES =
+      Capabilities.CLIENT_MYSQL
+          | Capabilities.CLIENT_PROTOCOL_41
+          | Capabilities.TRANSACTIONS
+          | Capabilities.SECURE_CONNECTION
+          | Capabilities.MULTI_RESULTS
+          | Capabilities.PS_MULTI_RESULTS
+          | Capabilities.PLUGIN_AUTH;
+
+  public static final MariadbConnectionConfiguration CONF =
+      MariadbConnectionConfiguration.builder().host("localhost").username("bench").build();
+
+  private Fixtures() {}
+
+  public static Context context() {
+    return new SimpleContext(
+        "10.6.11-MariaDB",
+        1L,
+        CAPABILITIES,
+        ServerStatus.AUTOCOMMIT,
+        true,
+        CAPABILITIES,
+        "bench",
+        PooledByteBufAllocator.DEFAULT,
+        IsolationLevel.REPEATABLE_READ);
+  }
+
+  /**
+   * Column definition packet body.
+   *
+   * @param name column name
+   * @param type column type
+   * @param charset charset, 63 for binary
+   * @param length column maximum length
+   * @param flags column flags
+   * @param decimals decimals
+   * @return packet body
+   */
+  public static byte[] columnDefinition(
+      String name, DataType type, int charset, long length, int flags, int decimals) {
+    ByteBuf buf = Unpooled.buffer();
+    writeLenenc(buf, "def".getBytes(StandardCharsets.UTF_8));
+    writeLenenc(buf, "bench".getBytes(StandardCharsets.UTF_8));
+    writeLenenc(buf, "t".getBytes(StandardCharsets.UTF_8));
+    writeLenenc(buf, "t".getBytes(StandardCharsets.UTF_8));
+    writeLenenc(buf, name.getBytes(StandardCharsets.UTF_8));
+    writeLenenc(buf, name.getBytes(StandardCharsets.UTF_8));
+    buf.writeByte(0x0c);
+    buf.writeShortLE(charset);
+    buf.writeIntLE((int) length);
+    buf.writeByte(type.get());
+    buf.writeShortLE(flags);
+    buf.writeByte(decimals);
+    buf.writeShortLE(0);
+    return toArray(buf);
+  }
+
+  public static ColumnDefinitionPacket column(
+      String name, DataType type, int charset, long length, int flags, int decimals) {
+    return ColumnDefinitionPacket.decode(
+        new Sequencer((byte) 0),
+        Unpooled.wrappedBuffer(columnDefinition(name, type, charset, length, flags, decimals)),
+        context(),
+        false,
+        CONF);
+  }
+
+  /**
+   * Complete text protocol result-set: column count, column definitions, EOF, rows and ending EOF,
+   * each one framed with packet header.
+   *
+   * @param columns column definition packet bodies
+   * @param rows rows, each row being an array of text encoded values (null for NULL)
+   * @return result-set packets
+   */
+  public static ByteBuf textResultSet(List<byte[]> columns, List<byte[][]> rows) {
+    ByteBuf out = Unpooled.directBuffer();
+    int seq = 1;
+    ByteBuf body = Unpooled.buffer();
+    writeLength(body, columns.size());
+    seq = writePacket(out, seq, body);
+    for (byte[] column : columns) {
+      seq = writePacket(out, seq, Unpooled.wrappedBuffer(column));
+    }
+    seq = writePacket(out, seq, eof());
+    for (byte[][] row : rows) {
+      seq = writePacket(out, seq, Unpooled.wrappedBuffer(textRow(row)));
+    }
+    writePacket(out, seq, eof());
+    return out;
+  }
+
+  /**
+   * Text protocol row body.
+   *
+   * @param values text encoded values, null for NULL
+   * @return row packet body
+   */
+  public static byte[] textRow(byte[][] values) {
+    ByteBuf buf = Unpooled.buffer();
+    for (byte[] value : values) {
+      if (value == null) {
+        buf.writeByte(0xfb);
+      } else {
+        writeLenenc(buf, value);
+      }
+    }
+    return toArray(buf);
+  }
+
+  /**
+   * Binary protocol row body.
+   *
+   * @param columns column definitions
+   * @param values binary encoded values, without length prefix, null for NULL
+   * @return row packet body
+   */
+  public static byte[] binaryRow(ColumnDefinitionPacket[] columns, byte[][] values) {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(0x00);
+    byte[] nullBitmap = new byte[(values.length + 9) / 8];
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == null) nullBitmap[(i + 2) / 8] |= (byte) (1 << ((i + 2) % 8));
+    }
+    buf.writeBytes(nullBitmap);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] == null) continue;
+      if (isFixedLength(columns[i].getDataType())) {
+        buf.writeBytes(values[i]);
+      } else {
+        writeLenenc(buf, values[i]);
+      }
+    }
+    return toArray(buf);
+  }
+
+  private static boolean isFixedLength(DataType type) {
+    switch (type) {
+      case BIGINT:
+      case DOUBLE:
+      case INTEGER:
+      case MEDIUMINT:
+      case FLOAT:
+      case SMALLINT:
+      case YEAR:
+      case TINYINT:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static byte[] ascii(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  public static byte[] le(long value, int length) {
+    byte[] arr = new byte[length];
+    for (int i = 0; i < length; i++) {
+      arr[i] = (byte) (value >> (8 * i));
+    }
+    return arr;
+  }
+
+  /**
+   * Binary DATE / DATETIME value, without length prefix.
+   *
+   * @param values year, month, day [, hour, minutes, seconds [, microseconds]]
+   * @return binary value
+   */
+  public static byte[] binaryDateTime(int... values) {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeShortLE(values[0]);
+    for (int i = 1; i < Math.min(values.length, 6); i++) buf.writeByte(values[i]);
+    if (values.length > 6) buf.writeIntLE(values[6]);
+    return toArray(buf);
+  }
+
+  /**
+   * Binary TIME value, without length prefix.
+   *
+   * @param negative negative time
+   * @param days days
+   * @param hours hours
+   * @param minutes minutes
+   * @param seconds seconds
+   * @param micros microseconds
+   * @return binary value
+   */
+  public static byte[] binaryTime(
+      boolean negative, int days, int hours, int minutes, int seconds, int micros) {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(negative ? 1 : 0);
+    buf.writeIntLE(days);
+    buf.writeByte(hours);
+    buf.writeByte(minutes);
+    buf.writeByte(seconds);
+    buf.writeIntLE(micros);
+    return toArray(buf);
+  }
+
+  public static byte[] repeat(char c, int length) {
+    byte[] arr = new byte[length];
+    Arrays.fill(arr, (byte) c);
+    return arr;
+  }
+
+  private static ByteBuf eof() {
+    ByteBuf buf = Unpooled.buffer(5);
+    buf.writeByte(0xfe);
+    buf.writeShortLE(0);
+    buf.writeShortLE(ServerStatus.AUTOCOMMIT);
+    return buf;
+  }
+
+  private static int writePacket(ByteBuf out, int seq, ByteBuf body) {
+    out.writeMediumLE(body.readableBytes());
+    out.writeByte(seq);
+    out.writeBytes(body);
+    return seq + 1;
+  }
+
+  private static void writeLength(ByteBuf buf, long length) {
+    if (length < 251) {
+      buf.writeByte((int) length);
+    } else if (length < 65536) {
+      buf.writeByte(0xfc);
+      buf.writeShortLE((int) length);
+    } else if (length < 16777216) {
+      buf.writeByte(0xfd);
+      buf.writeMediumLE((int) length);
+    } else {
+      buf.writeByte(0xfe);
+      buf.writeLongLE(length);
+    }
+  }
+
+  private static void writeLenenc(ByteBuf buf, byte[] value) {
+    writeLength(buf, value.length);
+    buf.writeBytes(value);
+  }
+
+  private static byte[] toArray(ByteBuf buf) {
+    byte[] arr = new byte[buf.readableBytes()];
+    buf.readBytes(arr);
+    return arr;
+  }
+
+  /** Column with text and binary encoded value, and the java type it decodes to. */
+  public static final class Value {
+    public final ColumnDefinitionPacket column;
+    public final Class<?> type;
+    public final byte[] text;
+    public final byte[] binary;
+
+    public Value(ColumnDefinitionPacket column, Class<?> type, byte[] text, byte[] binary) {
+      this.column = column;
+      this.type = type;
+      this.text = text;
+      this.binary = binary;
+    }
+  }
+
+  private static Value value(
+      Class<?> javaType, DataType type, int charset, long length, int decimals, byte[] text) {
+    return value(javaType, type, charset, length, decimals, text, text);
+  }
+
+  private static Value value(
+      Class<?> javaType,
+      DataType type,
+      int charset,
+      long length,
+      int decimals,
+      byte[] text,
+      byte[] binary) {
+    int flags = type == DataType.BLOB ? ColumnFlags.BLOB : 0;
+    return new Value(column("c", type, charset, length, flags, decimals), javaType, text, binary);
+  }
+
+  /**
+   * Column value decoded by a codec.
+   *
+   * @param codec codec class name, without "Codec" suffix
+   * @return value fixture
+   */
+  public static Value codecValue(String codec) {
+    switch (codec) {
+      case "BigDecimal":
+        return value(BigDecimal.class, DataType.DECIMAL, BINARY, 20, 4, ascii("123456789.1234"));
+      case "BigInteger":
+        return value(
+            BigInteger.class,
+            DataType.BIGINT,
+            BINARY,
+            20,
+            0,
+            ascii("1234567890123"),
+            le(1234567890123L, 8));
+      case "BitSet":
+        return value(
+            BitSet.class, DataType.BIT, BINARY, 64, 0, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+      case "Blob":
+        return value(Blob.class, DataType.BLOB, BINARY, 65535, 0, repeat('b', 256));
+      case "Boolean":
+        return value(Boolean.class, DataType.TINYINT, BINARY, 1, 0, ascii("1"), le(1, 1));
+      case "ByteArray":
+        return value(byte[].class, DataType.VARSTRING, BINARY, 64, 0, repeat('a', 64));
+      case "ByteBuffer":
+        return value(ByteBuffer.class, DataType.VARSTRING, BINARY, 64, 0, repeat('a', 64));
+      case "Byte":
+        return value(Byte.class, DataType.TINYINT, BINARY, 4, 0, ascii("100"), le(100, 1));
+      case "Clob":
+        return value(Clob.class, DataType.BLOB, UTF8MB4, 65535, 0, repeat('c', 256));
+      case "Double":
+        return value(
+            Double.class,
+            DataType.DOUBLE,
+            BINARY,
+            22,
+            31,
+            ascii("1234.5678"),
+            le(Double.doubleToLongBits(1234.5678), 8));
+      case "Duration":
+        return value(
+            Duration.class,
+            DataType.TIME,
+            BINARY,
+            15,
+            6,
+            ascii("12:34:56.123456"),
+            binaryTime(false, 0, 12, 34, 56, 123456));
+      case "Float":
+        return value(
+            Float.class,
+            DataType.FLOAT,
+            BINARY,
+            12,
+            31,
+            ascii("123.45"),
+            le(Float.floatToIntBits(123.45f), 4));
+      case "Int":
+        return value(
+            Integer.class, DataType.INTEGER, BINARY, 11, 0, ascii("123456789"), le(123456789, 4));
+      case "LocalDate":
+        return value(
+            LocalDate.class,
+            DataType.DATE,
+            BINARY,
+            10,
+            0,
+            ascii("2022-12-31"),
+            binaryDateTime(2022, 12, 31));
+      case "LocalDateTime":
+        return value(
+            LocalDateTime.class,
+            DataType.DATETIME,
+            BINARY,
+            26,
+            6,
+            ascii("2022-12-31 12:34:56.123456"),
+            binaryDateTime(2022, 12, 31, 12, 34, 56, 123456));
+      case "LocalTime":
+        return value(
+            LocalTime.class,
+            DataType.TIME,
+            BINARY,
+            15,
+            6,
+            ascii("12:34:56.123456"),
+            binaryTime(false, 0, 12, 34, 56, 123456));
+      case "Long":
+        return value(
+            Long.class,
+            DataType.BIGINT,
+            BINARY,
+            20,
+            0,
+            ascii("1234567890123"),
+            le(1234567890123L, 8));
+      case "Short":
+        return value(Short.class, DataType.SMALLINT, BINARY, 6, 0, ascii("12345"), le(12345, 2));
+      case "Stream":
+        return value(InputStream.class, DataType.BLOB, BINARY, 65535, 0, repeat('b', 256));
+      case "String":
+        return value(
+            String.class,
+            DataType.VARSTRING,
+            UTF8MB4,
+            256,
+            0,
+            ascii("some string value with accents \u00e9\u00e0\u00f9"));
+      default:
+        throw new IllegalArgumentException("unknown codec " + codec);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run server-free benchmarks with GC profiler, reporting allocation rate (bytes/op) along with
+ * throughput. Standard JMH arguments are accepted, for example to save results for comparison:
+ *
+ * <pre>
+ * mvn package -Pbench -DskipTests
+ * java -cp target/benchmarks.jar org.mariadb.r2dbc.micro.MicroBenchmarks -rf json -rff result.json
+ * </pre>
+ */
+public class MicroBenchmarks {
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdOptions = new CommandLineOptions(args);
+    OptionsBuilder builder = new OptionsBuilder();
+    builder.parent(cmdOptions).addProfiler(GCProfiler.class);
+    if (cmdOptions.getIncludes().isEmpty()) {
+      builder.include(MicroBenchmarks.class.getPackage().getName() + ".");
+    }
+    new Runner(builder.build()).run();
+  }
+}
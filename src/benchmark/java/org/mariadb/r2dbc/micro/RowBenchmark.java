@@ -0,0 +1,125 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micro;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.client.MariadbRowBinary;
+import org.mariadb.r2dbc.client.MariadbRowMetadata;
+import org.mariadb.r2dbc.client.MariadbRowText;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Column value retrieval from text and binary rows, reading all columns of a row. */
+public class RowBenchmark extends MicroCommon {
+
+  private static final String[] CODECS =
+      new String[] {
+        "Int",
+        "Long",
+        "String",
+        "Double",
+        "BigDecimal",
+        "LocalDate",
+        "LocalDateTime",
+        "LocalTime",
+        "Short",
+        "ByteArray"
+      };
+
+  @State(Scope.Thread)
+  public static class RowState {
+
+    protected MariadbRowMetadata meta;
+    protected Class<?>[] types;
+    protected ByteBuf text;
+    protected ByteBuf binary;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      ColumnDefinitionPacket[] columns = new ColumnDefinitionPacket[CODECS.length];
+      byte[][] textValues = new byte[CODECS.length][];
+      byte[][] binaryValues = new byte[CODECS.length][];
+      types = new Class<?>[CODECS.length];
+      for (int i = 0; i < CODECS.length; i++) {
+        Fixtures.Value value = Fixtures.codecValue(CODECS[i]);
+        columns[i] = value.column;
+        textValues[i] = value.text;
+        binaryValues[i] = value.binary;
+        types[i] = value.type;
+      }
+      meta = new MariadbRowMetadata(columns);
+      text = Unpooled.directBuffer().writeBytes(Fixtures.textRow(textValues));
+      binary = Unpooled.directBuffer().writeBytes(Fixtures.binaryRow(columns, binaryValues));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      text.release();
+      binary.release();
+    }
+  }
+
+  @Benchmark
+  public void textGetObject(RowState state, Blackhole blackhole) {
+    state.text.readerIndex(0);
+    MariadbRowText row = new MariadbRowText(state.text, state.meta, ExceptionFactory.INSTANCE);
+    for (int i = 0; i < state.types.length; i++) blackhole.consume(row.get(i));
+  }
+
+  @Benchmark
+  public void textGetTyped(RowState state, Blackhole blackhole) {
+    state.text.readerIndex(0);
+    MariadbRowText row = new MariadbRowText(state.text, state.meta, ExceptionFactory.INSTANCE);
+    for (int i = 0; i < state.types.length; i++) blackhole.consume(row.get(i, state.types[i]));
+  }
+
+  @Benchmark
+  public void binaryGetObject(RowState state, Blackhole blackhole) {
+    state.binary.readerIndex(0);
+    MariadbRowBinary row =
+        new MariadbRowBinary(state.binary, state.meta, ExceptionFactory.INSTANCE);
+    for (int i = 0; i < state.types.length; i++) blackhole.consume(row.get(i));
+  }
+
+  @Benchmark
+  public void binaryGetTyped(RowState state, Blackhole blackhole) {
+    state.binary.readerIndex(0);
+    MariadbRowBinary row =
+        new MariadbRowBinary(state.binary, state.meta, ExceptionFactory.INSTANCE);
+    for (int i = 0; i < state.types.length; i++) blackhole.consume(row.get(i, state.types[i]));
+  }
+
+  @Benchmark
+  public long textGetLongBoxed(RowState state) {
+    state.text.readerIndex(0);
+    MariadbRowText row = new MariadbRowText(state.text, state.meta, ExceptionFactory.INSTANCE);
+    return row.get(0, Long.class) + row.get(1, Long.class);
+  }
+
+  @Benchmark
+  public long textGetLongPrimitive(RowState state) {
+    state.text.readerIndex(0);
+    MariadbRowText row = new MariadbRowText(state.text, state.meta, ExceptionFactory.INSTANCE);
+    return row.getLong(0) + row.getLong(1);
+  }
+
+  @Benchmark
+  public long binaryGetLongBoxed(RowState state) {
+    state.binary.readerIndex(0);
+    MariadbRowBinary row =
+        new MariadbRowBinary(state.binary, state.meta, ExceptionFactory.INSTANCE);
+    return row.get(0, Long.class) + row.get(1, Long.class);
+  }
+
+  @Benchmark
+  public long binaryGetLongPrimitive(RowState state) {
+    state.binary.readerIndex(0);
+    MariadbRowBinary row =
+        new MariadbRowBinary(state.binary, state.meta, ExceptionFactory.INSTANCE);
+    return row.getLong(0) + row.getLong(1);
+  }
+}
@@ -3,6 +3,7 @@
 
 package org.mariadb.r2dbc;
 
+import io.netty.buffer.ByteBufUtil;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.ReferenceCounted;
 import java.util.ArrayList;
@@ -12,13 +13,22 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.mariadb.r2dbc.api.MariadbResult;
 import org.mariadb.r2dbc.client.Client;
 import org.mariadb.r2dbc.message.Protocol;
+import org.mariadb.r2dbc.message.ServerMessage;
 import org.mariadb.r2dbc.message.client.QueryPacket;
+import org.mariadb.r2dbc.message.server.ErrorPacket;
 import org.mariadb.r2dbc.util.Assert;
 import org.mariadb.r2dbc.util.ClientParser;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
-/** Basic implementation for batch. //TODO implement bulk */
+/**
+ * Batch implementation.
+ *
+ * <p>When multi-queries are allowed, commands are joined in as few COM_QUERY as max_allowed_packet
+ * permits. When pipelining is allowed with a batch pipeline window greater than 1, commands are
+ * sent without waiting for previous command results. Like sequential execution, no command is sent
+ * once a command failed, commands already sent being still executed.
+ */
 final class MariadbBatch implements org.mariadb.r2dbc.api.MariadbBatch {
 
   private final Client client;
@@ -48,49 +58,95 @@ final class MariadbBatch implements org.mariadb.r2dbc.api.MariadbBatch {
 
   @Override
   public Flux<MariadbResult> execute() {
-    if (configuration.allowMultiQueries()) {
-      return this.client
-          .sendCommand(new QueryPacket(String.join(";", this.statements)), true)
-          .doOnDiscard(ReferenceCounted.class, ReferenceCountUtil::release)
-          .windowUntil(it -> it.resultSetEnd())
-          .map(
-              dataRow ->
-                  new org.mariadb.r2dbc.client.MariadbResult(
-                      Protocol.TEXT,
-                      null,
-                      dataRow,
-                      ExceptionFactory.INSTANCE,
-                      null,
-                      client.getVersion().supportReturning(),
-                      configuration));
-    } else {
-      Iterator<String> iterator = this.statements.iterator();
-      Sinks.Many<String> commandsSink = Sinks.many().unicast().onBackpressureBuffer();
-      AtomicBoolean canceled = new AtomicBoolean();
-      return commandsSink
-          .asFlux()
-          .map(
-              sql ->
-                  this.client
-                      .sendCommand(new QueryPacket(sql), false)
-                      .doOnComplete(() -> tryNextCommand(iterator, commandsSink, canceled))
-                      .windowUntil(it -> it.resultSetEnd())
-                      .map(
-                          dataRow ->
-                              new org.mariadb.r2dbc.client.MariadbResult(
-                                  Protocol.TEXT,
-                                  null,
-                                  dataRow,
-                                  ExceptionFactory.INSTANCE,
-                                  null,
-                                  client.getVersion().supportReturning(),
-                                  configuration))
-                      .cast(org.mariadb.r2dbc.api.MariadbResult.class))
-          .flatMap(mariadbResultFlux -> mariadbResultFlux)
-          .doOnCancel(() -> canceled.set(true))
-          .doOnSubscribe(
-              it -> commandsSink.emitNext(iterator.next(), Sinks.EmitFailureHandler.FAIL_FAST));
+    List<String> commands =
+        configuration.allowMultiQueries()
+            ? multiQueriesCommands()
+            : new ArrayList<>(this.statements);
+
+    if (configuration.allowMultiQueries() && commands.size() == 1) {
+      return toResult(this.client.sendCommand(new QueryPacket(commands.get(0)), true));
+    }
+
+    if (configuration.allowPipelining() && configuration.getBatchPipelineWindow() > 1) {
+      // send commands without waiting for previous results
+      AtomicBoolean failed = new AtomicBoolean();
+      return Flux.fromIterable(commands)
+          .flatMapSequential(
+              sql -> {
+                if (failed.get()) return Flux.empty();
+                return toResult(
+                    this.client
+                        .sendCommand(new QueryPacket(sql), false)
+                        .doOnNext(
+                            message -> {
+                              if (message instanceof ErrorPacket) failed.set(true);
+                            }));
+              },
+              configuration.getBatchPipelineWindow());
+    }
+
+    Iterator<String> iterator = commands.iterator();
+    Sinks.Many<String> commandsSink = Sinks.many().unicast().onBackpressureBuffer();
+    AtomicBoolean canceled = new AtomicBoolean();
+    return commandsSink
+        .asFlux()
+        .map(
+            sql ->
+                toResult(
+                    this.client
+                        .sendCommand(new QueryPacket(sql), false)
+                        .doOnComplete(() -> tryNextCommand(iterator, commandsSink, canceled))))
+        .flatMap(mariadbResultFlux -> mariadbResultFlux)
+        .doOnCancel(() -> canceled.set(true))
+        .doOnSubscribe(
+            it -> commandsSink.emitNext(iterator.next(), Sinks.EmitFailureHandler.FAIL_FAST));
+  }
+
+  private Flux<MariadbResult> toResult(Flux<ServerMessage> messages) {
+    return messages
+        .doOnDiscard(ReferenceCounted.class, ReferenceCountUtil::release)
+        .windowUntil(it -> it.resultSetEnd())
+        .map(
+            dataRow ->
+                new org.mariadb.r2dbc.client.MariadbResult(
+                    Protocol.TEXT,
+                    null,
+                    dataRow,
+                    ExceptionFactory.INSTANCE,
+                    null,
+                    client.getVersion().supportReturning(),
+                    configuration));
+  }
+
+  /**
+   * Join statements with ';' separator, creating a new command each time max_allowed_packet would
+   * be exceeded.
+   *
+   * @return multi-queries commands
+   */
+  private List<String> multiQueriesCommands() {
+    // 1 byte for COM_QUERY command
+    int maxLength = configuration.getMaxAllowedPacket() - 1;
+    List<String> commands = new ArrayList<>();
+    StringBuilder sb = new StringBuilder();
+    int length = 0;
+    for (String sql : this.statements) {
+      int sqlLength = ByteBufUtil.utf8Bytes(sql);
+      if (sb.length() > 0) {
+        if (length + 1 + sqlLength > maxLength) {
+          commands.add(sb.toString());
+          sb.setLength(0);
+          length = 0;
+        } else {
+          sb.append(';');
+          length++;
+        }
+      }
+      sb.append(sql);
+      length += sqlLength;
     }
+    commands.add(sb.toString());
+    return commands;
   }
 
   private static void tryNextCommand(
@@ -24,7 +24,10 @@ final class MariadbClientParameterizedQueryStatement extends MariadbCommonStatem
   MariadbClientParameterizedQueryStatement(
       Client client, String sql, MariadbConnectionConfiguration configuration) {
     super(client, sql, configuration, Protocol.TEXT);
-    this.parser = ClientParser.parameterParts(this.initialSql, this.client.noBackslashEscapes());
+    this.parser =
+        configuration
+            .getParseCache()
+            .clientParser(this.initialSql, this.client.noBackslashEscapes());
     this.expectedSize = this.parser.getParamCount();
     initializeBinding();
   }
@@ -78,6 +81,20 @@ final class MariadbClientParameterizedQueryStatement extends MariadbCommonStatem
             // batch
             bindings.add(getCurrentBinding());
             this.initializeBinding();
+            if (pipelineBatch()) {
+              return executeBatchPipeline(
+                  Protocol.TEXT,
+                  binding ->
+                      this.client.sendCommand(
+                          new QueryWithParametersPacket(
+                              parser,
+                              binding.getBindResultParameters(getExpectedSize()),
+                              client.getVersion().supportReturning() ? generatedColumns : null),
+                          false),
+                  factory,
+                  null);
+            }
+
             Iterator<Binding> iterator = this.bindings.iterator();
             Sinks.Many<Binding> bindingSink = Sinks.many().unicast().onBackpressureBuffer();
             AtomicBoolean canceled = new AtomicBoolean();
@@ -7,14 +7,18 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import org.mariadb.r2dbc.api.MariadbStatement;
 import org.mariadb.r2dbc.client.Client;
 import org.mariadb.r2dbc.client.MariadbResult;
 import org.mariadb.r2dbc.codec.Codecs;
+import org.mariadb.r2dbc.codec.list.ByteArrayCodec;
 import org.mariadb.r2dbc.message.Protocol;
 import org.mariadb.r2dbc.message.ServerMessage;
+import org.mariadb.r2dbc.message.server.ErrorPacket;
 import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.BindValue;
 import org.mariadb.r2dbc.util.Binding;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
 import reactor.core.publisher.Flux;
@@ -30,6 +34,7 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
   protected final MariadbConnectionConfiguration configuration;
   protected ExceptionFactory factory;
   protected String[] generatedColumns;
+  protected int fetchSize = 0;
   private final Protocol defaultProtocol;
 
   public MariadbCommonStatement(
@@ -44,6 +49,15 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
     this.factory = ExceptionFactory.withSql(sql);
   }
 
+  @Override
+  public MariadbStatement fetchSize(int rows) {
+    if (rows < 0) {
+      throw new IllegalArgumentException("fetch size must be greater or equal to 0");
+    }
+    this.fetchSize = rows;
+    return this;
+  }
+
   protected void initializeBinding() {
     currentBinding = new Binding(getExpectedSize());
   }
@@ -96,6 +110,62 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
     return this;
   }
 
+  @Override
+  public MariadbStatement bindInt(String identifier, int value) {
+    return bindInt(getColumnIndex(identifier), value);
+  }
+
+  @Override
+  public MariadbStatement bindInt(int index, int value) {
+    checkIndex(index);
+    getCurrentBinding().addInt(index, value);
+    return this;
+  }
+
+  @Override
+  public MariadbStatement bindLong(String identifier, long value) {
+    return bindLong(getColumnIndex(identifier), value);
+  }
+
+  @Override
+  public MariadbStatement bindLong(int index, long value) {
+    checkIndex(index);
+    getCurrentBinding().addLong(index, value);
+    return this;
+  }
+
+  @Override
+  public MariadbStatement bindDouble(String identifier, double value) {
+    return bindDouble(getColumnIndex(identifier), value);
+  }
+
+  @Override
+  public MariadbStatement bindDouble(int index, double value) {
+    checkIndex(index);
+    getCurrentBinding().addDouble(index, value);
+    return this;
+  }
+
+  @Override
+  public MariadbStatement bindBytes(String identifier, byte[] value) {
+    return bindBytes(getColumnIndex(identifier), value);
+  }
+
+  @Override
+  public MariadbStatement bindBytes(int index, byte[] value) {
+    Assert.requireNonNull(value, "value must not be null");
+    checkIndex(index);
+    getCurrentBinding().add(index, new BindValue(ByteArrayCodec.INSTANCE, value));
+    return this;
+  }
+
+  private static void checkIndex(int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException(
+          String.format("wrong index value %d, index must be positive", index));
+    }
+  }
+
   protected abstract int getColumnIndex(String name);
 
   @Nonnull
@@ -139,6 +209,52 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
                     configuration));
   }
 
+  /**
+   * Indicate if batch bindings are sent without waiting for previous binding results.
+   *
+   * @return true if batch is pipelined
+   */
+  protected boolean pipelineBatch() {
+    return configuration.allowPipelining() && configuration.getBatchPipelineWindow() > 1;
+  }
+
+  /**
+   * Execute batch bindings without waiting for previous binding results, keeping at most {@link
+   * MariadbConnectionConfiguration#getBatchPipelineWindow()} commands awaiting a response. Like
+   * sequential execution, no binding is sent once a command failed, commands already sent being
+   * still executed.
+   *
+   * @param protocol protocol
+   * @param bindingSender send a binding command, returning its messages
+   * @param factory exception factory
+   * @param prepareResult prepare result, null for text protocol
+   * @return results, in binding order
+   */
+  protected Flux<org.mariadb.r2dbc.api.MariadbResult> executeBatchPipeline(
+      Protocol protocol,
+      Function<Binding, Flux<ServerMessage>> bindingSender,
+      ExceptionFactory factory,
+      AtomicReference<ServerPrepareResult> prepareResult) {
+    List<Binding> batchBindings = new ArrayList<>(this.bindings);
+    this.bindings.clear();
+    AtomicBoolean failed = new AtomicBoolean();
+    return Flux.fromIterable(batchBindings)
+        .flatMapSequential(
+            binding -> {
+              if (failed.get()) return Flux.empty();
+              Flux<ServerMessage> messages =
+                  bindingSender
+                      .apply(binding)
+                      .doOnNext(
+                          message -> {
+                            if (message instanceof ErrorPacket) failed.set(true);
+                          });
+              return toResult(protocol, messages, factory, prepareResult);
+            },
+            configuration.getBatchPipelineWindow())
+        .doFinally(s -> batchBindings.forEach(Binding::clear));
+  }
+
   protected static void tryNextBinding(
       Iterator<Binding> iterator, Sinks.Many<Binding> bindingSink, AtomicBoolean canceled) {
 
@@ -6,17 +6,23 @@ package org.mariadb.r2dbc;
 import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.TransactionDefinition;
 import io.r2dbc.spi.ValidationDepth;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.function.Function;
 import org.mariadb.r2dbc.api.MariadbStatement;
 import org.mariadb.r2dbc.client.Client;
 import org.mariadb.r2dbc.message.client.ChangeSchemaPacket;
+import org.mariadb.r2dbc.message.client.LoadDataPacket;
 import org.mariadb.r2dbc.message.client.PingPacket;
 import org.mariadb.r2dbc.message.client.QueryPacket;
+import org.mariadb.r2dbc.message.client.ResetConnectionPacket;
+import org.mariadb.r2dbc.message.server.OkPacket;
 import org.mariadb.r2dbc.util.Assert;
 import org.mariadb.r2dbc.util.PrepareCache;
 import org.mariadb.r2dbc.util.constants.Capabilities;
 import org.mariadb.r2dbc.util.constants.ServerStatus;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 import reactor.util.Logger;
 import reactor.util.Loggers;
@@ -29,6 +35,8 @@ public final class MariadbConnection implements org.mariadb.r2dbc.api.MariadbCon
   private volatile IsolationLevel sessionIsolationLevel;
   private volatile IsolationLevel isolationLevel;
   private volatile String database;
+  // statement timeout set by setStatementTimeout, to be restored when pooled connection is reset
+  private volatile boolean statementTimeoutChanged;
 
   public MariadbConnection(
       Client client, IsolationLevel isolationLevel, MariadbConnectionConfiguration configuration) {
@@ -214,7 +222,36 @@ public final class MariadbConnection implements org.mariadb.r2dbc.api.MariadbCon
     return client
         .sendCommand(new QueryPacket(sql), true)
         .handle(exceptionFactory::handleErrorResponse)
-        .then();
+        .then()
+        .doOnSuccess(ignore -> this.statementTimeoutChanged = true);
+  }
+
+  @Override
+  public Mono<Long> loadData(String sql, Publisher<ByteBuffer> data) {
+    Assert.requireNonNull(sql, "sql must not be null");
+    Assert.requireNonNull(data, "data must not be null");
+    if ((client.getContext().getClientCapabilities() & Capabilities.LOCAL_FILES) == 0) {
+      return Mono.error(
+          ExceptionFactory.createException(
+              "LOAD DATA LOCAL INFILE is disabled, use option allowLocalInfile to permit it",
+              "HY000",
+              -1,
+              sql));
+    }
+
+    ExceptionFactory exceptionFactory = ExceptionFactory.withSql(sql);
+    LoadDataPacket packet = new LoadDataPacket(sql, data, configuration.getMaxAllowedPacket());
+    return client
+        .sendCommand(packet, false)
+        .handle(exceptionFactory::handleErrorResponse)
+        .ofType(OkPacket.class)
+        .map(OkPacket::value)
+        .reduce(0L, Long::sum)
+        .flatMap(
+            rows ->
+                packet.getDataError() == null
+                    ? Mono.just(rows)
+                    : Mono.error(packet.getDataError()));
   }
 
   @Override
@@ -302,6 +339,95 @@ public final class MariadbConnection implements org.mariadb.r2dbc.api.MariadbCon
         .doOnSuccess(ignore -> this.database = newDatabase);
   }
 
+  /**
+   * Restore connection to its configured state, before being reused by another borrower.
+   *
+   * <p>Default reset only rollback current transaction and restore autocommit, isolation level,
+   * statement timeout and database when changed, keeping server prepared statements (and prepare
+   * cache) warm. When useResetConnection is set and server supports it, COM_RESET_CONNECTION resets
+   * all session state (temporary tables, user variables, statement timeout...), server closing
+   * prepared statements, so prepare cache is emptied and session variables are set again.
+   *
+   * @param useResetConnection use COM_RESET_CONNECTION if supported
+   * @return a {@link Mono} that completes when connection is reset
+   */
+  Mono<Void> reset(boolean useResetConnection) {
+    IsolationLevel defaultIsolation =
+        configuration.getIsolationLevel() == null
+            ? IsolationLevel.REPEATABLE_READ
+            : configuration.getIsolationLevel();
+
+    if (useResetConnection && supportResetConnection()) {
+      ExceptionFactory exceptionFactory = ExceptionFactory.withSql("COM_RESET_CONNECTION");
+      return client
+          .sendCommand(new ResetConnectionPacket(), true)
+          .handle(exceptionFactory::handleErrorResponse)
+          .then(
+              Mono.defer(
+                  () -> {
+                    // server has closed all prepared statements
+                    if (client.getPrepareCache() != null) client.getPrepareCache().reset();
+                    this.isolationLevel = null;
+                    this.statementTimeoutChanged = false;
+                    this.sessionIsolationLevel = defaultIsolation;
+                    return MariadbConnectionFactory.setSessionVariables(configuration, client);
+                  }))
+          .then(Mono.defer(this::restoreDatabase));
+    }
+
+    Mono<Void> request = isInTransaction() ? rollbackTransaction() : Mono.empty();
+    return request
+        .then(
+            Mono.defer(
+                () -> {
+                  this.isolationLevel = null;
+                  return client.isAutoCommit() != configuration.autocommit()
+                      ? setAutoCommit(configuration.autocommit())
+                      : Mono.empty();
+                }))
+        .then(
+            Mono.defer(
+                () ->
+                    defaultIsolation.equals(getTransactionIsolationLevel())
+                        ? Mono.empty()
+                        : setTransactionIsolationLevel(defaultIsolation)))
+        .then(Mono.defer(this::restoreStatementTimeout))
+        .then(Mono.defer(this::restoreDatabase));
+  }
+
+  private Mono<Void> restoreStatementTimeout() {
+    if (!statementTimeoutChanged) return Mono.empty();
+    // configured session value if any, or server default
+    String variable =
+        client.getVersion().isMariaDBServer() ? "max_statement_time" : "MAX_EXECUTION_TIME";
+    String value = "DEFAULT";
+    if (configuration.getSessionVariables() != null) {
+      for (Map.Entry<String, String> entry : configuration.getSessionVariables().entrySet()) {
+        if (variable.equalsIgnoreCase(entry.getKey())) value = entry.getValue();
+      }
+    }
+    String sql = "SET SESSION " + variable + "=" + value;
+    ExceptionFactory exceptionFactory = ExceptionFactory.withSql(sql);
+    return client
+        .sendCommand(new QueryPacket(sql), true)
+        .handle(exceptionFactory::handleErrorResponse)
+        .then()
+        .doOnSuccess(ignore -> this.statementTimeoutChanged = false);
+  }
+
+  private Mono<Void> restoreDatabase() {
+    if (configuration.getDatabase() == null || configuration.getDatabase().equals(getDatabase())) {
+      return Mono.empty();
+    }
+    return setDatabase(configuration.getDatabase());
+  }
+
+  private boolean supportResetConnection() {
+    return client.getVersion().isMariaDBServer()
+        ? client.getVersion().versionGreaterOrEqual(10, 2, 4)
+        : client.getVersion().versionGreaterOrEqual(5, 7, 3);
+  }
+
   public PrepareCache _test_prepareCache() {
     return client.getPrepareCache();
   }
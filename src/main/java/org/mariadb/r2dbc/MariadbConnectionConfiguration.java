@@ -22,16 +22,28 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
+import org.mariadb.r2dbc.api.MariadbMetrics;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.ClockCache;
 import org.mariadb.r2dbc.util.HostAddress;
+import org.mariadb.r2dbc.util.ParseCache;
 import org.mariadb.r2dbc.util.SslConfig;
 import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.TcpResources;
 import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
 
 public final class MariadbConnectionConfiguration {
 
   public static final int DEFAULT_PORT = 3306;
+
+  /**
+   * Maximum value of batchPipelineWindow: half the client request queue capacity, leaving room for
+   * other commands of the connection.
+   */
+  public static final int MAX_BATCH_PIPELINE_WINDOW = Queues.SMALL_BUFFER_SIZE / 2;
+
   private final String database;
   private final List<HostAddress> hostAddresses;
   private final HaMode haMode;
@@ -55,10 +67,23 @@ public final class MariadbConnectionConfiguration {
   private final boolean allowPublicKeyRetrieval;
   private IsolationLevel isolationLevel;
   private final boolean useServerPrepStmts;
+  private final boolean useBulkStmts;
+  private final int maxAllowedPacket;
+  private final int batchPipelineWindow;
+  private final boolean useCompression;
+  private final int compressionThreshold;
+  private final boolean killQueryOnCancel;
+  private final boolean shareColumnMetadata;
+  private final int parseCacheSize;
+  private final boolean streamLargeValues;
+  private final boolean allowLocalInfile;
+  private final ParseCache parseCache;
+  private final ClockCache<String, ColumnDefinitionPacket[]> columnMetadataCache;
   private final boolean autocommit;
   private final boolean tinyInt1isBit;
   private final String[] restrictedAuth;
   private final LoopResources loopResources;
+  private final MariadbMetrics metrics;
   private final UnaryOperator<SslContextBuilder> sslContextBuilderCustomizer;
 
   private MariadbConnectionConfiguration(
@@ -88,6 +113,16 @@ public final class MariadbConnectionConfiguration {
       @Nullable String cachingRsaPublicKey,
       boolean allowPublicKeyRetrieval,
       boolean useServerPrepStmts,
+      boolean useBulkStmts,
+      @Nullable Integer maxAllowedPacket,
+      @Nullable Integer batchPipelineWindow,
+      boolean useCompression,
+      @Nullable Integer compressionThreshold,
+      boolean killQueryOnCancel,
+      boolean shareColumnMetadata,
+      @Nullable Integer parseCacheSize,
+      boolean streamLargeValues,
+      boolean allowLocalInfile,
       IsolationLevel isolationLevel,
       boolean autocommit,
       @Nullable Integer prepareCacheSize,
@@ -95,7 +130,8 @@ public final class MariadbConnectionConfiguration {
       boolean tinyInt1isBit,
       String restrictedAuth,
       @Nullable LoopResources loopResources,
-      @Nullable UnaryOperator<SslContextBuilder> sslContextBuilderCustomizer) {
+      @Nullable UnaryOperator<SslContextBuilder> sslContextBuilderCustomizer,
+      @Nullable MariadbMetrics metrics) {
     this.haMode = haMode == null ? HaMode.NONE : HaMode.from(haMode);
     this.connectTimeout = connectTimeout == null ? Duration.ofSeconds(10) : connectTimeout;
     this.tcpKeepAlive = tcpKeepAlive == null ? Boolean.FALSE : tcpKeepAlive;
@@ -139,7 +175,21 @@ public final class MariadbConnectionConfiguration {
     this.tinyInt1isBit = tinyInt1isBit;
     this.loopResources = loopResources != null ? loopResources : TcpResources.get();
     this.useServerPrepStmts = !this.allowMultiQueries && useServerPrepStmts;
+    this.useBulkStmts = useBulkStmts;
+    this.maxAllowedPacket = (maxAllowedPacket == null) ? 16_777_216 : maxAllowedPacket.intValue();
+    this.batchPipelineWindow = (batchPipelineWindow == null) ? 1 : batchPipelineWindow.intValue();
+    this.useCompression = useCompression;
+    this.compressionThreshold =
+        (compressionThreshold == null) ? 1024 : compressionThreshold.intValue();
+    this.killQueryOnCancel = killQueryOnCancel;
+    this.shareColumnMetadata = shareColumnMetadata;
+    this.parseCacheSize = (parseCacheSize == null) ? 256 : parseCacheSize.intValue();
+    this.streamLargeValues = streamLargeValues;
+    this.allowLocalInfile = allowLocalInfile;
+    this.parseCache = new ParseCache(this.parseCacheSize);
+    this.columnMetadataCache = shareColumnMetadata ? new ClockCache<>(this.prepareCacheSize) : null;
     this.sslContextBuilderCustomizer = sslContextBuilderCustomizer;
+    this.metrics = metrics != null ? metrics : MariadbMetrics.NONE;
   }
 
   static boolean boolValue(Object value) {
@@ -235,6 +285,77 @@ public final class MariadbConnectionConfiguration {
               connectionFactoryOptions.getValue(
                   MariadbConnectionFactoryProvider.USE_SERVER_PREPARE)));
     }
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.USE_BULK_STMTS)) {
+      builder.useBulkStmts(
+          boolValue(
+              connectionFactoryOptions.getValue(MariadbConnectionFactoryProvider.USE_BULK_STMTS)));
+    }
+
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.MAX_ALLOWED_PACKET)) {
+      builder.maxAllowedPacket(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.MAX_ALLOWED_PACKET)));
+    }
+
+    if (connectionFactoryOptions.hasOption(
+        MariadbConnectionFactoryProvider.BATCH_PIPELINE_WINDOW)) {
+      builder.batchPipelineWindow(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.BATCH_PIPELINE_WINDOW)));
+    }
+
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.USE_COMPRESSION)) {
+      builder.useCompression(
+          boolValue(
+              connectionFactoryOptions.getValue(MariadbConnectionFactoryProvider.USE_COMPRESSION)));
+    }
+
+    if (connectionFactoryOptions.hasOption(
+        MariadbConnectionFactoryProvider.COMPRESSION_THRESHOLD)) {
+      builder.compressionThreshold(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.COMPRESSION_THRESHOLD)));
+    }
+
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.KILL_QUERY_ON_CANCEL)) {
+      builder.killQueryOnCancel(
+          boolValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.KILL_QUERY_ON_CANCEL)));
+    }
+
+    if (connectionFactoryOptions.hasOption(
+        MariadbConnectionFactoryProvider.SHARE_COLUMN_METADATA)) {
+      builder.shareColumnMetadata(
+          boolValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.SHARE_COLUMN_METADATA)));
+    }
+
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.PARSE_CACHE_SIZE)) {
+      builder.parseCacheSize(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.PARSE_CACHE_SIZE)));
+    }
+
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.STREAM_LARGE_VALUES)) {
+      builder.streamLargeValues(
+          boolValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.STREAM_LARGE_VALUES)));
+    }
+
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.ALLOW_LOCAL_INFILE)) {
+      builder.allowLocalInfile(
+          boolValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.ALLOW_LOCAL_INFILE)));
+    }
+
     if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.ISOLATION_LEVEL)) {
       String isolationLvl =
           (String)
@@ -331,6 +452,12 @@ public final class MariadbConnectionConfiguration {
                   MariadbConnectionFactoryProvider.SSL_CONTEXT_BUILDER_CUSTOMIZER));
     }
 
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.METRICS)) {
+      builder.metrics(
+          (MariadbMetrics)
+              connectionFactoryOptions.getValue(MariadbConnectionFactoryProvider.METRICS));
+    }
+
     return builder;
   }
 
@@ -438,6 +565,64 @@ public final class MariadbConnectionConfiguration {
     return useServerPrepStmts;
   }
 
+  public boolean useBulkStmts() {
+    return useBulkStmts;
+  }
+
+  public int getMaxAllowedPacket() {
+    return maxAllowedPacket;
+  }
+
+  public int getBatchPipelineWindow() {
+    return batchPipelineWindow;
+  }
+
+  public boolean useCompression() {
+    return useCompression;
+  }
+
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  public boolean killQueryOnCancel() {
+    return killQueryOnCancel;
+  }
+
+  public boolean shareColumnMetadata() {
+    return shareColumnMetadata;
+  }
+
+  public int getParseCacheSize() {
+    return parseCacheSize;
+  }
+
+  public boolean streamLargeValues() {
+    return streamLargeValues;
+  }
+
+  public boolean allowLocalInfile() {
+    return allowLocalInfile;
+  }
+
+  /**
+   * Parsed queries shared by connections, keyed by sql and escape mode.
+   *
+   * @return parse cache
+   */
+  public ParseCache getParseCache() {
+    return parseCache;
+  }
+
+  /**
+   * Column metadata shared by connections, keyed by sql.
+   *
+   * @return shared column metadata, null if not enabled
+   */
+  public ClockCache<String, ColumnDefinitionPacket[]> getColumnMetadataCache() {
+    return columnMetadataCache;
+  }
+
   public boolean autocommit() {
     return autocommit;
   }
@@ -470,6 +655,10 @@ public final class MariadbConnectionConfiguration {
     return loopResources;
   }
 
+  public MariadbMetrics getMetrics() {
+    return metrics;
+  }
+
   @Override
   public String toString() {
     StringBuilder hiddenPwd = new StringBuilder();
@@ -532,6 +721,26 @@ public final class MariadbConnectionConfiguration {
         + isolationLevel
         + ", useServerPrepStmts="
         + useServerPrepStmts
+        + ", useBulkStmts="
+        + useBulkStmts
+        + ", maxAllowedPacket="
+        + maxAllowedPacket
+        + ", batchPipelineWindow="
+        + batchPipelineWindow
+        + ", useCompression="
+        + useCompression
+        + ", compressionThreshold="
+        + compressionThreshold
+        + ", killQueryOnCancel="
+        + killQueryOnCancel
+        + ", shareColumnMetadata="
+        + shareColumnMetadata
+        + ", parseCacheSize="
+        + parseCacheSize
+        + ", streamLargeValues="
+        + streamLargeValues
+        + ", allowLocalInfile="
+        + allowLocalInfile
         + ", autocommit="
         + autocommit
         + ", tinyInt1isBit="
@@ -570,6 +779,16 @@ public final class MariadbConnectionConfiguration {
     private boolean allowMultiQueries = false;
     private boolean allowPipelining = true;
     private boolean useServerPrepStmts = false;
+    private boolean useBulkStmts = false;
+    @Nullable private Integer maxAllowedPacket;
+    @Nullable private Integer batchPipelineWindow;
+    private boolean useCompression = false;
+    @Nullable private Integer compressionThreshold;
+    private boolean killQueryOnCancel = false;
+    private boolean shareColumnMetadata = false;
+    @Nullable private Integer parseCacheSize;
+    private boolean streamLargeValues = false;
+    private boolean allowLocalInfile = false;
     private IsolationLevel isolationLevel = null;
     private boolean autocommit = true;
     private boolean tinyInt1isBit = true;
@@ -583,6 +802,7 @@ public final class MariadbConnectionConfiguration {
     private CharSequence[] pamOtherPwd;
     private String restrictedAuth;
     @Nullable private LoopResources loopResources;
+    @Nullable private MariadbMetrics metrics;
     @Nullable private UnaryOperator<SslContextBuilder> sslContextBuilderCustomizer;
 
     private Builder() {}
@@ -607,6 +827,14 @@ public final class MariadbConnectionConfiguration {
         throw new IllegalArgumentException("username must not be null");
       }
 
+      if (this.batchPipelineWindow != null
+          && (this.batchPipelineWindow < 1
+              || this.batchPipelineWindow > MAX_BATCH_PIPELINE_WINDOW)) {
+        throw new IllegalArgumentException(
+            String.format(
+                "batchPipelineWindow must be between 1 and %d", MAX_BATCH_PIPELINE_WINDOW));
+      }
+
       return new MariadbConnectionConfiguration(
           this.haMode,
           this.connectTimeout,
@@ -634,6 +862,16 @@ public final class MariadbConnectionConfiguration {
           this.cachingRsaPublicKey,
           this.allowPublicKeyRetrieval,
           this.useServerPrepStmts,
+          this.useBulkStmts,
+          this.maxAllowedPacket,
+          this.batchPipelineWindow,
+          this.useCompression,
+          this.compressionThreshold,
+          this.killQueryOnCancel,
+          this.shareColumnMetadata,
+          this.parseCacheSize,
+          this.streamLargeValues,
+          this.allowLocalInfile,
           this.isolationLevel,
           this.autocommit,
           this.prepareCacheSize,
@@ -641,7 +879,8 @@ public final class MariadbConnectionConfiguration {
           this.tinyInt1isBit,
           this.restrictedAuth,
           this.loopResources,
-          this.sslContextBuilderCustomizer);
+          this.sslContextBuilderCustomizer,
+          this.metrics);
     }
 
     /**
@@ -881,6 +1120,132 @@ public final class MariadbConnectionConfiguration {
       return this;
     }
 
+    /**
+     * Permit to use COM_STMT_BULK_EXECUTE for batches of server prepared statements. When enabled
+     * and supported by server (MariaDB 10.2+), a batch results in one aggregated result per bulk
+     * command in place of one result per binding. Default value False.
+     *
+     * @param useBulkStmts use bulk command for batches
+     * @return this {@link Builder}
+     */
+    public Builder useBulkStmts(boolean useBulkStmts) {
+      this.useBulkStmts = useBulkStmts;
+      return this;
+    }
+
+    /**
+     * Indicate server max_allowed_packet value, permitting to split batches in commands that server
+     * will accept. Default value 16M.
+     *
+     * @param maxAllowedPacket server max_allowed_packet value
+     * @return this {@link Builder}
+     */
+    public Builder maxAllowedPacket(Integer maxAllowedPacket) {
+      this.maxAllowedPacket = maxAllowedPacket;
+      return this;
+    }
+
+    /**
+     * Maximum number of batch commands sent to server without waiting for their results, when
+     * pipelining is enabled. Value must be between 1 and {@link #MAX_BATCH_PIPELINE_WINDOW}.
+     * Default value 1 sends a batch command only once previous one succeeded. With a greater value,
+     * no command is sent once a command failed, but commands already sent are still executed.
+     *
+     * @param batchPipelineWindow maximum number of batch commands awaiting a response
+     * @return this {@link Builder}
+     */
+    public Builder batchPipelineWindow(Integer batchPipelineWindow) {
+      this.batchPipelineWindow = batchPipelineWindow;
+      return this;
+    }
+
+    /**
+     * Use compression protocol (zlib), if server supports it. Default false.
+     *
+     * @param useCompression use compression protocol
+     * @return this {@link Builder}
+     */
+    public Builder useCompression(boolean useCompression) {
+      this.useCompression = useCompression;
+      return this;
+    }
+
+    /**
+     * When using compression, minimum packet size to compress. Smaller packets are sent
+     * uncompressed. Default value 1024.
+     *
+     * @param compressionThreshold minimum size in bytes of compressed packets
+     * @return this {@link Builder}
+     */
+    public Builder compressionThreshold(Integer compressionThreshold) {
+      this.compressionThreshold = compressionThreshold;
+      return this;
+    }
+
+    /**
+     * When a subscriber cancels a running command, kill server query using a side connection,
+     * rather than reading the whole remaining result. Only applies when no other command is queued
+     * after the cancelled one. Default false.
+     *
+     * @param killQueryOnCancel use KILL QUERY when a running command is cancelled
+     * @return this {@link Builder}
+     */
+    public Builder killQueryOnCancel(boolean killQueryOnCancel) {
+      this.killQueryOnCancel = killQueryOnCancel;
+      return this;
+    }
+
+    /**
+     * Share prepared statement column metadata between connections of this configuration, keyed by
+     * sql. Connections preparing an already known statement reuse shared column definitions when
+     * identical, instead of allocating new ones. Default false.
+     *
+     * @param shareColumnMetadata share column metadata between connections
+     * @return this {@link Builder}
+     */
+    public Builder shareColumnMetadata(boolean shareColumnMetadata) {
+      this.shareColumnMetadata = shareColumnMetadata;
+      return this;
+    }
+
+    /**
+     * Maximum number of parsed query templates (parameter placeholder positions) shared by
+     * connections of this configuration, keyed by sql and escape mode. 0 disables the cache.
+     * Default 256.
+     *
+     * @param parseCacheSize parse cache size
+     * @return this {@link Builder}
+     */
+    public Builder parseCacheSize(Integer parseCacheSize) {
+      this.parseCacheSize = parseCacheSize;
+      return this;
+    }
+
+    /**
+     * Stream values of rows exceeding packet size (16M) instead of assembling the whole row in
+     * memory. Large value must be in the last column of the row, and can then only be retrieved as
+     * a Blob, whose content is read from the network as it is consumed. Default false.
+     *
+     * @param streamLargeValues stream large row values
+     * @return this {@link Builder}
+     */
+    public Builder streamLargeValues(boolean streamLargeValues) {
+      this.streamLargeValues = streamLargeValues;
+      return this;
+    }
+
+    /**
+     * Permit LOAD DATA LOCAL INFILE commands, file content being provided by
+     * MariadbConnection.loadData. Default false.
+     *
+     * @param allowLocalInfile permit LOAD DATA LOCAL INFILE
+     * @return this {@link Builder}
+     */
+    public Builder allowLocalInfile(boolean allowLocalInfile) {
+      this.allowLocalInfile = allowLocalInfile;
+      return this;
+    }
+
     /**
      * Permit to set default isolation level
      *
@@ -976,6 +1341,18 @@ public final class MariadbConnectionConfiguration {
       return this;
     }
 
+    /**
+     * Metrics listener, to report connection and command metrics to a metrics registry. Default
+     * none.
+     *
+     * @param metrics metrics listener
+     * @return this {@link Builder}
+     */
+    public Builder metrics(@Nullable MariadbMetrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
     @Override
     public Builder clone() throws CloneNotSupportedException {
       return (Builder) super.clone();
@@ -1038,6 +1415,26 @@ public final class MariadbConnectionConfiguration {
           + allowPipelining
           + ", useServerPrepStmts="
           + useServerPrepStmts
+          + ", useBulkStmts="
+          + useBulkStmts
+          + ", maxAllowedPacket="
+          + maxAllowedPacket
+          + ", batchPipelineWindow="
+          + batchPipelineWindow
+          + ", useCompression="
+          + useCompression
+          + ", compressionThreshold="
+          + compressionThreshold
+          + ", killQueryOnCancel="
+          + killQueryOnCancel
+          + ", shareColumnMetadata="
+          + shareColumnMetadata
+          + ", parseCacheSize="
+          + parseCacheSize
+          + ", streamLargeValues="
+          + streamLargeValues
+          + ", allowLocalInfile="
+          + allowLocalInfile
           + ", prepareCacheSize="
           + isolationLevel
           + ", isolationLevel="
@@ -10,6 +10,7 @@ import io.r2dbc.spi.ConnectionFactoryOptions;
 import io.r2dbc.spi.ConnectionFactoryProvider;
 import io.r2dbc.spi.Option;
 import java.util.function.UnaryOperator;
+import org.mariadb.r2dbc.api.MariadbMetrics;
 import org.mariadb.r2dbc.util.Assert;
 import reactor.netty.resources.LoopResources;
 
@@ -24,6 +25,17 @@ public final class MariadbConnectionFactoryProvider implements ConnectionFactory
   public static final Option<String> CLIENT_SSL_PWD = Option.valueOf("clientSslPassword");
   public static final Option<Boolean> ALLOW_PIPELINING = Option.valueOf("allowPipelining");
   public static final Option<Boolean> USE_SERVER_PREPARE = Option.valueOf("useServerPrepStmts");
+  public static final Option<Boolean> USE_BULK_STMTS = Option.valueOf("useBulkStmts");
+  public static final Option<Integer> MAX_ALLOWED_PACKET = Option.valueOf("maxAllowedPacket");
+  public static final Option<Integer> BATCH_PIPELINE_WINDOW = Option.valueOf("batchPipelineWindow");
+  public static final Option<Boolean> USE_COMPRESSION = Option.valueOf("useCompression");
+  public static final Option<Integer> COMPRESSION_THRESHOLD =
+      Option.valueOf("compressionThreshold");
+  public static final Option<Boolean> KILL_QUERY_ON_CANCEL = Option.valueOf("killQueryOnCancel");
+  public static final Option<Boolean> SHARE_COLUMN_METADATA = Option.valueOf("shareColumnMetadata");
+  public static final Option<Integer> PARSE_CACHE_SIZE = Option.valueOf("parseCacheSize");
+  public static final Option<Boolean> STREAM_LARGE_VALUES = Option.valueOf("streamLargeValues");
+  public static final Option<Boolean> ALLOW_LOCAL_INFILE = Option.valueOf("allowLocalInfile");
   public static final Option<String> ISOLATION_LEVEL = Option.valueOf("isolationLevel");
   public static final Option<Boolean> AUTO_COMMIT = Option.valueOf("autoCommit");
   public static final Option<Boolean> TINY_IS_BIT = Option.valueOf("tinyInt1isBit");
@@ -40,6 +52,7 @@ public final class MariadbConnectionFactoryProvider implements ConnectionFactory
   public static final Option<LoopResources> LOOP_RESOURCES = Option.valueOf("loopResources");
   public static final Option<UnaryOperator<SslContextBuilder>> SSL_CONTEXT_BUILDER_CUSTOMIZER =
       Option.valueOf("sslContextBuilderCustomizer");
+  public static final Option<MariadbMetrics> METRICS = Option.valueOf("metrics");
 
   static MariadbConnectionConfiguration createConfiguration(
       ConnectionFactoryOptions connectionFactoryOptions) {
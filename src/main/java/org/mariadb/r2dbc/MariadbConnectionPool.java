@@ -0,0 +1,368 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.ValidationDepth;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mariadb.r2dbc.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * Reactive connection pool.
+ *
+ * <p>Idle connections are reused in LIFO order, so the most recently used connections, with warm
+ * prepare cache, are borrowed first, while the least recently used ones expire after {@link
+ * MariadbPoolConfiguration#getMaxIdleTime()}. Borrowed connections are only validated with a ping
+ * when idle longer than {@link MariadbPoolConfiguration#getValidationIdleTime()}. Closing a
+ * borrowed connection resets its state and returns it to the pool.
+ */
+public final class MariadbConnectionPool implements ConnectionFactory, Closeable {
+
+  private final Logger logger = Loggers.getLogger(this.getClass());
+  private final MariadbPoolConfiguration configuration;
+  private final MariadbConnectionFactory factory;
+  private final long validationIdleNanos;
+  private final long maxIdleNanos;
+
+  // idle connections, most recently used first
+  private final Deque<PooledEntry> idle = new ConcurrentLinkedDeque<>();
+  private final Deque<Waiter> waiters = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger wip = new AtomicInteger();
+  private volatile boolean closed;
+
+  public MariadbConnectionPool(MariadbPoolConfiguration configuration) {
+    this.configuration = Assert.requireNonNull(configuration, "configuration must not be null");
+    this.factory = new MariadbConnectionFactory(configuration.getConnectionConfiguration());
+    this.validationIdleNanos = configuration.getValidationIdleTime().toNanos();
+    this.maxIdleNanos = configuration.getMaxIdleTime().toNanos();
+  }
+
+  public static MariadbConnectionPool from(MariadbPoolConfiguration configuration) {
+    return new MariadbConnectionPool(configuration);
+  }
+
+  /**
+   * Borrow a connection from pool, creating a new one if no connection is idle and maximum size is
+   * not reached. Closing the returned connection gives it back to pool.
+   *
+   * @return a borrowed connection
+   */
+  @Override
+  public Mono<org.mariadb.r2dbc.api.MariadbConnection> create() {
+    return Mono.<org.mariadb.r2dbc.api.MariadbConnection>create(
+            sink -> {
+              if (closed) {
+                sink.error(new R2dbcNonTransientResourceException("Connection pool is closed"));
+                return;
+              }
+              Waiter waiter = new Waiter(sink);
+              sink.onCancel(
+                  () -> {
+                    if (waiter.cancel()) waiters.remove(waiter);
+                  });
+              evictIdle();
+              waiters.offer(waiter);
+              drain();
+            })
+        .timeout(
+            configuration.getAcquireTimeout(),
+            Mono.error(
+                () ->
+                    new R2dbcTimeoutException(
+                        String.format(
+                            "No connection available within %s ms (total=%s, idle=%s, pending=%s)",
+                            configuration.getAcquireTimeout().toMillis(),
+                            total.get(),
+                            idle.size(),
+                            waiters.size()))));
+  }
+
+  /**
+   * Create connections until minimum size is reached.
+   *
+   * @return number of created connections
+   */
+  public Mono<Integer> warmup() {
+    return Mono.defer(
+        () -> {
+          int toCreate = 0;
+          int current;
+          while (!closed && (current = total.get()) < configuration.getMinSize()) {
+            if (total.compareAndSet(current, current + 1)) toCreate++;
+          }
+          // a failing connection doesn't cancel the others, error being emitted once all ended
+          return Flux.range(0, toCreate)
+              .flatMapDelayError(i -> warmupConnection(), Math.max(1, toCreate), 1)
+              .reduce(0, Integer::sum)
+              .doFinally(s -> drain());
+        });
+  }
+
+  /**
+   * Create a connection whose slot has already been reserved. Creation isn't cancelled with warmup:
+   * created connection is always made idle, and slot is released on error.
+   *
+   * @return 1 when connection is created
+   */
+  private Mono<Integer> warmupConnection() {
+    return Mono.create(
+        sink ->
+            factory
+                .create()
+                .subscribe(
+                    conn -> {
+                      PooledEntry entry = new PooledEntry((MariadbConnection) conn);
+                      if (closed) {
+                        destroy(entry).subscribe();
+                        sink.success(0);
+                        return;
+                      }
+                      idle.offerLast(entry);
+                      sink.success(1);
+                    },
+                    err -> {
+                      total.decrementAndGet();
+                      sink.error(err);
+                    }));
+  }
+
+  /**
+   * Close pool: idle connections are closed, pending borrowers receive an error, and borrowed
+   * connections will be closed when released.
+   *
+   * @return a {@link Mono} that completes when idle connections are closed
+   */
+  @Override
+  public Mono<Void> close() {
+    return Mono.defer(
+        () -> {
+          closed = true;
+          Waiter waiter;
+          while ((waiter = waiters.poll()) != null) {
+            if (waiter.deliver()) {
+              waiter.sink.error(
+                  new R2dbcNonTransientResourceException("Connection pool is closed"));
+            }
+          }
+          PooledEntry entry;
+          Mono<Void> closing = Mono.empty();
+          while ((entry = idle.poll()) != null) {
+            closing = closing.and(destroy(entry));
+          }
+          return closing;
+        });
+  }
+
+  public int getTotalSize() {
+    return total.get();
+  }
+
+  public int getIdleSize() {
+    return idle.size();
+  }
+
+  public int getPendingAcquireSize() {
+    return waiters.size();
+  }
+
+  @Override
+  public ConnectionFactoryMetadata getMetadata() {
+    return MariadbConnectionFactoryMetadata.INSTANCE;
+  }
+
+  /**
+   * Give back a borrowed connection, resetting its state before making it available.
+   *
+   * @param entry borrowed connection
+   * @return a {@link Mono} that completes when connection is available to other borrowers
+   */
+  Mono<Void> release(PooledEntry entry) {
+    if (closed) return destroy(entry);
+    return entry
+        .connection
+        .reset(configuration.useResetConnection())
+        .then(
+            Mono.<Void>fromRunnable(
+                () -> {
+                  entry.lastUsed = System.nanoTime();
+                  if (closed) {
+                    destroy(entry).subscribe();
+                    return;
+                  }
+                  idle.offerFirst(entry);
+                  drain();
+                }))
+        .onErrorResume(
+            e -> {
+              logger.debug("Error resetting connection, discarding it", e);
+              return destroy(entry);
+            });
+  }
+
+  /** Serve pending borrowers with idle connections, or new ones while maximum size permits. */
+  private void drain() {
+    if (wip.getAndIncrement() != 0) return;
+    int missed = 1;
+    do {
+      while (!waiters.isEmpty()) {
+        PooledEntry entry = idle.pollFirst();
+        if (entry != null) {
+          Waiter waiter = waiters.poll();
+          if (waiter == null) {
+            idle.offerFirst(entry);
+            break;
+          }
+          deliver(entry, waiter);
+          continue;
+        }
+
+        int current = total.get();
+        if (current >= configuration.getMaxSize()) break;
+        if (total.compareAndSet(current, current + 1)) {
+          Waiter waiter = waiters.poll();
+          if (waiter == null) {
+            total.decrementAndGet();
+            break;
+          }
+          connect(waiter);
+        }
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void deliver(PooledEntry entry, Waiter waiter) {
+    ValidationDepth depth =
+        System.nanoTime() - entry.lastUsed > validationIdleNanos
+            ? ValidationDepth.REMOTE
+            : ValidationDepth.LOCAL;
+    entry
+        .connection
+        .validate(depth)
+        .subscribe(
+            valid -> {
+              if (!valid) {
+                // retry with another connection
+                if (!waiter.isCancelled()) waiters.offerFirst(waiter);
+                destroy(entry).subscribe();
+              } else if (waiter.deliver()) {
+                waiter.sink.success(new MariadbPooledConnection(this, entry));
+              } else {
+                idle.offerFirst(entry);
+                drain();
+              }
+            },
+            e -> {
+              logger.debug("Error validating pooled connection, discarding it", e);
+              if (!waiter.isCancelled()) waiters.offerFirst(waiter);
+              destroy(entry).subscribe();
+            });
+  }
+
+  private void connect(Waiter waiter) {
+    factory
+        .create()
+        .subscribe(
+            conn -> {
+              PooledEntry entry = new PooledEntry((MariadbConnection) conn);
+              if (waiter.deliver()) {
+                waiter.sink.success(new MariadbPooledConnection(this, entry));
+              } else if (closed) {
+                destroy(entry).subscribe();
+              } else {
+                idle.offerFirst(entry);
+                drain();
+              }
+            },
+            err -> {
+              total.decrementAndGet();
+              if (waiter.deliver()) waiter.sink.error(err);
+              drain();
+            });
+  }
+
+  private Mono<Void> destroy(PooledEntry entry) {
+    total.decrementAndGet();
+    drain();
+    return entry
+        .connection
+        .close()
+        .onErrorResume(
+            e -> {
+              logger.debug("Error closing pooled connection", e);
+              return Mono.empty();
+            });
+  }
+
+  /** Close least recently used idle connections that exceed maximum idle time. */
+  private void evictIdle() {
+    long now = System.nanoTime();
+    PooledEntry last;
+    while ((last = idle.peekLast()) != null
+        && now - last.lastUsed > maxIdleNanos
+        && total.get() > configuration.getMinSize()
+        && idle.removeLastOccurrence(last)) {
+      destroy(last).subscribe();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "MariadbConnectionPool{total="
+        + total.get()
+        + ", idle="
+        + idle.size()
+        + ", pending="
+        + waiters.size()
+        + ", configuration="
+        + configuration
+        + '}';
+  }
+
+  static final class PooledEntry {
+    final MariadbConnection connection;
+    volatile long lastUsed = System.nanoTime();
+
+    PooledEntry(MariadbConnection connection) {
+      this.connection = connection;
+    }
+  }
+
+  private static final class Waiter {
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int DELIVERED = 2;
+
+    final MonoSink<org.mariadb.r2dbc.api.MariadbConnection> sink;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    Waiter(MonoSink<org.mariadb.r2dbc.api.MariadbConnection> sink) {
+      this.sink = sink;
+    }
+
+    boolean cancel() {
+      return state.compareAndSet(PENDING, CANCELLED);
+    }
+
+    boolean deliver() {
+      return state.compareAndSet(PENDING, DELIVERED);
+    }
+
+    boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+  }
+}
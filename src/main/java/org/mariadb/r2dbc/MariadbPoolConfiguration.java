@@ -0,0 +1,222 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import java.time.Duration;
+import org.mariadb.r2dbc.util.Assert;
+import reactor.util.annotation.Nullable;
+
+/** Configuration of a {@link MariadbConnectionPool}. */
+public final class MariadbPoolConfiguration {
+
+  private final MariadbConnectionConfiguration connectionConfiguration;
+  private final int minSize;
+  private final int maxSize;
+  private final Duration maxIdleTime;
+  private final Duration validationIdleTime;
+  private final Duration acquireTimeout;
+  private final boolean useResetConnection;
+
+  private MariadbPoolConfiguration(
+      MariadbConnectionConfiguration connectionConfiguration,
+      @Nullable Integer minSize,
+      @Nullable Integer maxSize,
+      @Nullable Duration maxIdleTime,
+      @Nullable Duration validationIdleTime,
+      @Nullable Duration acquireTimeout,
+      boolean useResetConnection) {
+    this.connectionConfiguration = connectionConfiguration;
+    this.maxSize = maxSize == null ? 8 : maxSize;
+    this.minSize = minSize == null ? 0 : minSize;
+    this.maxIdleTime = maxIdleTime == null ? Duration.ofMinutes(10) : maxIdleTime;
+    this.validationIdleTime =
+        validationIdleTime == null ? Duration.ofSeconds(1) : validationIdleTime;
+    this.acquireTimeout = acquireTimeout == null ? Duration.ofSeconds(30) : acquireTimeout;
+    this.useResetConnection = useResetConnection;
+  }
+
+  public static Builder builder(MariadbConnectionConfiguration connectionConfiguration) {
+    return new Builder(connectionConfiguration);
+  }
+
+  public MariadbConnectionConfiguration getConnectionConfiguration() {
+    return connectionConfiguration;
+  }
+
+  public int getMinSize() {
+    return minSize;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public Duration getMaxIdleTime() {
+    return maxIdleTime;
+  }
+
+  public Duration getValidationIdleTime() {
+    return validationIdleTime;
+  }
+
+  public Duration getAcquireTimeout() {
+    return acquireTimeout;
+  }
+
+  public boolean useResetConnection() {
+    return useResetConnection;
+  }
+
+  @Override
+  public String toString() {
+    return "MariadbPoolConfiguration{"
+        + "minSize="
+        + minSize
+        + ", maxSize="
+        + maxSize
+        + ", maxIdleTime="
+        + maxIdleTime
+        + ", validationIdleTime="
+        + validationIdleTime
+        + ", acquireTimeout="
+        + acquireTimeout
+        + ", useResetConnection="
+        + useResetConnection
+        + ", connectionConfiguration="
+        + connectionConfiguration
+        + '}';
+  }
+
+  /**
+   * A builder for {@link MariadbPoolConfiguration} instances.
+   *
+   * <p><i>This class is not threadsafe</i>
+   */
+  public static final class Builder {
+
+    private final MariadbConnectionConfiguration connectionConfiguration;
+    @Nullable private Integer minSize;
+    @Nullable private Integer maxSize;
+    @Nullable private Duration maxIdleTime;
+    @Nullable private Duration validationIdleTime;
+    @Nullable private Duration acquireTimeout;
+    private boolean useResetConnection = false;
+
+    private Builder(MariadbConnectionConfiguration connectionConfiguration) {
+      this.connectionConfiguration =
+          Assert.requireNonNull(
+              connectionConfiguration, "connectionConfiguration must not be null");
+    }
+
+    /**
+     * Returns a configured {@link MariadbPoolConfiguration}.
+     *
+     * @return a configured {@link MariadbPoolConfiguration}
+     */
+    public MariadbPoolConfiguration build() {
+      if (maxSize != null && maxSize < 1) {
+        throw new IllegalArgumentException("maxSize must be greater than 0");
+      }
+      if (minSize != null && (minSize < 0 || minSize > (maxSize == null ? 8 : maxSize))) {
+        throw new IllegalArgumentException("minSize must be between 0 and maxSize");
+      }
+      return new MariadbPoolConfiguration(
+          connectionConfiguration,
+          minSize,
+          maxSize,
+          maxIdleTime,
+          validationIdleTime,
+          acquireTimeout,
+          useResetConnection);
+    }
+
+    /**
+     * Number of connections created when pool is warmed up, and kept even when idle. Default 0.
+     *
+     * @param minSize minimum pool size
+     * @return this {@link Builder}
+     */
+    public Builder minSize(@Nullable Integer minSize) {
+      this.minSize = minSize;
+      return this;
+    }
+
+    /**
+     * Maximum number of connections, borrowed or idle. Default 8.
+     *
+     * @param maxSize maximum pool size
+     * @return this {@link Builder}
+     */
+    public Builder maxSize(@Nullable Integer maxSize) {
+      this.maxSize = maxSize;
+      return this;
+    }
+
+    /**
+     * Idle connections exceeding minimum size are closed after this duration. Default 10 minutes.
+     *
+     * @param maxIdleTime maximum idle time
+     * @return this {@link Builder}
+     */
+    public Builder maxIdleTime(@Nullable Duration maxIdleTime) {
+      this.maxIdleTime = maxIdleTime;
+      return this;
+    }
+
+    /**
+     * Idle connections are validated with a ping when borrowed only if they have been idle longer
+     * than this duration. Default 1 second.
+     *
+     * @param validationIdleTime idle time before validation
+     * @return this {@link Builder}
+     */
+    public Builder validationIdleTime(@Nullable Duration validationIdleTime) {
+      this.validationIdleTime = validationIdleTime;
+      return this;
+    }
+
+    /**
+     * Maximum time to wait for a connection when pool is exhausted. Default 30 seconds.
+     *
+     * @param acquireTimeout acquire timeout
+     * @return this {@link Builder}
+     */
+    public Builder acquireTimeout(@Nullable Duration acquireTimeout) {
+      this.acquireTimeout = acquireTimeout;
+      return this;
+    }
+
+    /**
+     * Reset connection state with COM_RESET_CONNECTION when released, resetting all session state.
+     * Server prepared statements are then closed, emptying prepare cache. Default false: only
+     * transaction, autocommit, isolation level and database are restored, keeping prepare cache
+     * warm.
+     *
+     * @param useResetConnection use COM_RESET_CONNECTION on release
+     * @return this {@link Builder}
+     */
+    public Builder useResetConnection(boolean useResetConnection) {
+      this.useResetConnection = useResetConnection;
+      return this;
+    }
+
+    @Override
+    public String toString() {
+      return "Builder{"
+          + "minSize="
+          + minSize
+          + ", maxSize="
+          + maxSize
+          + ", maxIdleTime="
+          + maxIdleTime
+          + ", validationIdleTime="
+          + validationIdleTime
+          + ", acquireTimeout="
+          + acquireTimeout
+          + ", useResetConnection="
+          + useResetConnection
+          + '}';
+    }
+  }
+}
@@ -0,0 +1,185 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.TransactionDefinition;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.mariadb.r2dbc.api.MariadbBatch;
+import org.mariadb.r2dbc.api.MariadbStatement;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connection borrowed from a {@link MariadbConnectionPool}. Closing it gives it back to pool, the
+ * handle then failing any use, since connection may already be borrowed by someone else.
+ */
+final class MariadbPooledConnection
+    implements org.mariadb.r2dbc.api.MariadbConnection,
+        Wrapped<org.mariadb.r2dbc.api.MariadbConnection> {
+
+  private final MariadbConnectionPool pool;
+  private final MariadbConnectionPool.PooledEntry entry;
+  private final AtomicBoolean released = new AtomicBoolean();
+
+  MariadbPooledConnection(MariadbConnectionPool pool, MariadbConnectionPool.PooledEntry entry) {
+    this.pool = pool;
+    this.entry = entry;
+  }
+
+  private MariadbConnection connection() {
+    if (released.get()) {
+      throw new R2dbcNonTransientResourceException(
+          "Connection has been closed and given back to pool", "08000");
+    }
+    return this.entry.connection;
+  }
+
+  @Override
+  public Mono<Void> close() {
+    return Mono.defer(
+        () -> released.compareAndSet(false, true) ? this.pool.release(this.entry) : Mono.empty());
+  }
+
+  @Override
+  public Mono<Void> beginTransaction() {
+    return Mono.defer(() -> connection().beginTransaction());
+  }
+
+  @Override
+  public Mono<Void> beginTransaction(TransactionDefinition definition) {
+    return Mono.defer(() -> connection().beginTransaction(definition));
+  }
+
+  @Override
+  public Mono<Void> commitTransaction() {
+    return Mono.defer(() -> connection().commitTransaction());
+  }
+
+  @Override
+  public MariadbBatch createBatch() {
+    return connection().createBatch();
+  }
+
+  @Override
+  public Mono<Void> createSavepoint(String name) {
+    return Mono.defer(() -> connection().createSavepoint(name));
+  }
+
+  @Override
+  public MariadbStatement createStatement(String sql) {
+    return connection().createStatement(sql);
+  }
+
+  @Override
+  public MariadbConnectionMetadata getMetadata() {
+    return connection().getMetadata();
+  }
+
+  @Override
+  public String getDatabase() {
+    return connection().getDatabase();
+  }
+
+  @Override
+  public Mono<Void> setDatabase(String database) {
+    return Mono.defer(() -> connection().setDatabase(database));
+  }
+
+  @Override
+  public IsolationLevel getTransactionIsolationLevel() {
+    return connection().getTransactionIsolationLevel();
+  }
+
+  @Override
+  public boolean isAutoCommit() {
+    return connection().isAutoCommit();
+  }
+
+  @Override
+  public boolean isInTransaction() {
+    return connection().isInTransaction();
+  }
+
+  @Override
+  public boolean isInReadOnlyTransaction() {
+    return connection().isInReadOnlyTransaction();
+  }
+
+  @Override
+  public Mono<Void> releaseSavepoint(String name) {
+    return Mono.defer(() -> connection().releaseSavepoint(name));
+  }
+
+  @Override
+  public Mono<Void> rollbackTransaction() {
+    return Mono.defer(() -> connection().rollbackTransaction());
+  }
+
+  @Override
+  public Mono<Void> rollbackTransactionToSavepoint(String name) {
+    return Mono.defer(() -> connection().rollbackTransactionToSavepoint(name));
+  }
+
+  @Override
+  public Mono<Void> setAutoCommit(boolean autoCommit) {
+    return Mono.defer(() -> connection().setAutoCommit(autoCommit));
+  }
+
+  @Override
+  public Mono<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+    return Mono.defer(() -> connection().setTransactionIsolationLevel(isolationLevel));
+  }
+
+  @Override
+  public Mono<Boolean> validate(ValidationDepth depth) {
+    // closed handle is not valid anymore
+    return Mono.defer(() -> released.get() ? Mono.just(false) : connection().validate(depth));
+  }
+
+  @Override
+  public Mono<Void> setLockWaitTimeout(Duration timeout) {
+    return Mono.defer(() -> connection().setLockWaitTimeout(timeout));
+  }
+
+  @Override
+  public Mono<Void> setStatementTimeout(Duration timeout) {
+    return Mono.defer(() -> connection().setStatementTimeout(timeout));
+  }
+
+  @Override
+  public Mono<Long> loadData(String sql, Publisher<ByteBuffer> data) {
+    return Mono.defer(() -> connection().loadData(sql, data));
+  }
+
+  @Override
+  public long getThreadId() {
+    return connection().getThreadId();
+  }
+
+  @Override
+  public String getHost() {
+    return connection().getHost();
+  }
+
+  @Override
+  public int getPort() {
+    return connection().getPort();
+  }
+
+  @Override
+  public org.mariadb.r2dbc.api.MariadbConnection unwrap() {
+    return connection();
+  }
+
+  @Override
+  public String toString() {
+    return "MariadbPooledConnection{connection=" + this.entry.connection + '}';
+  }
+}
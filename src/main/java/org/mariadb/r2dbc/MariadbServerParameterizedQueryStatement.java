@@ -11,13 +11,18 @@ import org.mariadb.r2dbc.client.Client;
 import org.mariadb.r2dbc.client.DecoderState;
 import org.mariadb.r2dbc.message.Protocol;
 import org.mariadb.r2dbc.message.ServerMessage;
+import org.mariadb.r2dbc.message.client.BulkExecutePacket;
 import org.mariadb.r2dbc.message.client.ExecutePacket;
+import org.mariadb.r2dbc.message.client.FetchPacket;
 import org.mariadb.r2dbc.message.client.PreparePacket;
 import org.mariadb.r2dbc.message.client.QueryPacket;
+import org.mariadb.r2dbc.message.server.CompletePrepareResult;
+import org.mariadb.r2dbc.message.server.EofPacket;
 import org.mariadb.r2dbc.util.Assert;
 import org.mariadb.r2dbc.util.Binding;
 import org.mariadb.r2dbc.util.ServerNamedParamParser;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
+import org.mariadb.r2dbc.util.constants.Capabilities;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -45,8 +50,9 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
               ? prepareResult.get().getNumParams()
               : (((paramParser != null)
                   ? paramParser.getParamCount()
-                  : ServerNamedParamParser.parameterParts(
-                          initialSql, this.client.noBackslashEscapes())
+                  : configuration
+                      .getParseCache()
+                      .serverParser(initialSql, this.client.noBackslashEscapes())
                       .getParamCount()));
     }
     return expectedSize;
@@ -56,7 +62,7 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
     Assert.requireNonNull(name, "identifier cannot be null");
     if (paramParser == null) {
       paramParser =
-          ServerNamedParamParser.parameterParts(initialSql, this.client.noBackslashEscapes());
+          configuration.getParseCache().serverParser(initialSql, this.client.noBackslashEscapes());
     }
     for (int i = 0; i < this.paramParser.getParamNameList().size(); i++) {
       if (name.equals(this.paramParser.getParamNameList().get(i))) return i;
@@ -93,8 +99,11 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
     if (prepareResult.get() == null && client.getPrepareCache() != null) {
       prepareResult.set(client.getPrepareCache().get(sql));
     }
-    if (this.getExpectedSize() != 0) {
+    // cursor requires binary protocol, even without parameters
+    boolean useCursor = this.fetchSize > 0 && this.generatedColumns == null;
+    if (this.getExpectedSize() != 0 || (useCursor && this.bindings.isEmpty())) {
       this.getCurrentBinding().validate(this.getExpectedSize());
+      int fetchSize = this.fetchSize;
       return Flux.defer(
           () -> {
             if (this.bindings.size() == 0) {
@@ -112,18 +121,20 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
                 }
 
                 if (prepareResult.get().incrementUse()) {
+                  ServerPrepareResult currentPrepare = prepareResult.get();
+                  if (client.getPrepareCache() != null) client.getPrepareCache().hit();
                   Flux<ServerMessage> messages =
-                      this.client
-                          .sendCommand(
-                              new ExecutePacket(
-                                  sql,
-                                  prepareResult.get(),
-                                  binding.getBindResultParameters(
-                                      prepareResult.get().getNumParams())),
-                              DecoderState.QUERY_RESPONSE,
+                      this.client.sendCommand(
+                          new ExecutePacket(
                               sql,
-                              false)
-                          .doFinally(s -> prepareResult.get().decrementUse(client));
+                              currentPrepare,
+                              binding.getBinaryParameters(currentPrepare.getNumParams()),
+                              useCursor),
+                          DecoderState.QUERY_RESPONSE,
+                          sql,
+                          false);
+                  if (useCursor) messages = fetchCursor(messages, fetchSize);
+                  messages = messages.doFinally(s -> currentPrepare.decrementUse(client));
                   return toResult(Protocol.BINARY, messages, factory, prepareResult);
                 } else {
                   // prepare is closing
@@ -137,7 +148,7 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
                 messages =
                     this.client.sendCommand(
                         new PreparePacket(sql),
-                        new ExecutePacket(sql, null, binding.getBinds()),
+                        new ExecutePacket(sql, null, binding.getBinaryParameters(), useCursor),
                         false);
               } else {
                 messages =
@@ -150,13 +161,15 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
                                   new ExecutePacket(
                                       sql,
                                       prepareResult.get(),
-                                      binding.getBindResultParameters(
-                                          prepareResult.get().getNumParams())),
+                                      binding.getBinaryParameters(
+                                          prepareResult.get().getNumParams()),
+                                      useCursor),
                                   DecoderState.QUERY_RESPONSE,
                                   sql,
                                   false);
                             });
               }
+              if (useCursor) messages = fetchCursor(messages, fetchSize);
               return toResult(Protocol.BINARY, messages, factory, prepareResult)
                   .doFinally(
                       s -> {
@@ -168,44 +181,19 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
             // batch
             bindings.add(getCurrentBinding());
             this.initializeBinding();
-            Iterator<Binding> iterator = this.bindings.iterator();
-            Sinks.Many<Binding> bindingSink = Sinks.many().unicast().onBackpressureBuffer();
-            AtomicBoolean canceled = new AtomicBoolean();
             return prepareIfNotDone(sql, factory)
                 .thenMany(
-                    bindingSink
-                        .asFlux()
-                        .doOnComplete(() -> clearBindings(iterator, canceled))
-                        .map(
-                            binding -> {
-                              Flux<ServerMessage> messages =
-                                  this.client
-                                      .sendCommand(
-                                          new ExecutePacket(
-                                              sql,
-                                              prepareResult.get(),
-                                              binding.getBindResultParameters(
-                                                  prepareResult.get().getNumParams())),
-                                          false)
-                                      .doOnComplete(
-                                          () -> tryNextBinding(iterator, bindingSink, canceled));
-
-                              return toResult(Protocol.BINARY, messages, factory, prepareResult);
-                            })
-                        .doOnSubscribe(
-                            it ->
-                                bindingSink.emitNext(
-                                    iterator.next(), Sinks.EmitFailureHandler.FAIL_FAST))
-                        .doOnComplete(this.bindings::clear)
-                        .doFinally(
-                            s -> {
-                              if (prepareResult.get() != null) {
-                                prepareResult.get().decrementUse(client);
-                              }
-                            })
-                        .doOnCancel(() -> clearBindings(iterator, canceled))
-                        .doOnError(e -> clearBindings(iterator, canceled)))
-                .flatMap(mariadbResultFlux -> mariadbResultFlux);
+                    Flux.defer(
+                        () ->
+                            canUseBulk()
+                                ? executeBatchBulk(sql, factory)
+                                : executeBatchPerBinding(sql, factory)))
+                .doFinally(
+                    s -> {
+                      if (prepareResult.get() != null) {
+                        prepareResult.get().decrementUse(client);
+                      }
+                    });
           });
     } else {
       return Flux.defer(
@@ -218,6 +206,184 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
     }
   }
 
+  /**
+   * When execution has opened a cursor, rows are retrieved using COM_STMT_FETCH commands of {@code
+   * fetchSize} rows. Next fetch command is only sent when previous fetched rows have been consumed.
+   *
+   * @param messages execution messages
+   * @param fetchSize number of rows to fetch per command
+   * @return execution messages followed by fetched rows
+   */
+  private Flux<ServerMessage> fetchCursor(Flux<ServerMessage> messages, int fetchSize) {
+    AtomicBoolean cursorOpened = new AtomicBoolean();
+    return messages
+        .map(
+            message -> {
+              if (message instanceof CompletePrepareResult) {
+                prepareResult.set(((CompletePrepareResult) message).getPrepare());
+              } else if (message instanceof EofPacket && ((EofPacket) message).cursorOpened()) {
+                cursorOpened.set(true);
+                return ((EofPacket) message).asIntermediate();
+              }
+              return message;
+            })
+        .concatWith(
+            Flux.defer(
+                () ->
+                    cursorOpened.get()
+                        ? fetchRows(prepareResult.get().getStatementId(), fetchSize)
+                        : Flux.empty()));
+  }
+
+  private Flux<ServerMessage> fetchRows(int statementId, int fetchSize) {
+    Sinks.Many<FetchPacket> fetchSink = Sinks.many().unicast().onBackpressureBuffer();
+    return fetchSink
+        .asFlux()
+        .concatMap(packet -> this.client.sendCommand(packet, DecoderState.FETCH_RESPONSE, false))
+        .<ServerMessage>handle(
+            (message, sink) -> {
+              if (message.ending()) {
+                if (message.resultSetEnd() || !(message instanceof EofPacket)) {
+                  fetchSink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+                } else {
+                  // rows consumed, cursor has more rows
+                  fetchSink.emitNext(
+                      new FetchPacket(statementId, fetchSize), Sinks.EmitFailureHandler.FAIL_FAST);
+                  return;
+                }
+              }
+              sink.next(message);
+            })
+        .doOnSubscribe(
+            it ->
+                fetchSink.emitNext(
+                    new FetchPacket(statementId, fetchSize), Sinks.EmitFailureHandler.FAIL_FAST));
+  }
+
+  private boolean canUseBulk() {
+    return configuration.useBulkStmts()
+        && (client.getContext().getClientCapabilities()
+                & Capabilities.MARIADB_CLIENT_STMT_BULK_OPERATIONS)
+            > 0
+        && generatedColumns == null
+        && prepareResult.get().getColumns().length == 0;
+  }
+
+  private Flux<org.mariadb.r2dbc.api.MariadbResult> executeBatchPerBinding(
+      String sql, ExceptionFactory factory) {
+    if (pipelineBatch()) {
+      return executeBatchPipeline(
+          Protocol.BINARY,
+          binding ->
+              this.client.sendCommand(
+                  new ExecutePacket(
+                      sql,
+                      prepareResult.get(),
+                      binding.getBinaryParameters(prepareResult.get().getNumParams()),
+                      false),
+                  false),
+          factory,
+          prepareResult);
+    }
+
+    Iterator<Binding> iterator = this.bindings.iterator();
+    Sinks.Many<Binding> bindingSink = Sinks.many().unicast().onBackpressureBuffer();
+    AtomicBoolean canceled = new AtomicBoolean();
+    return bindingSink
+        .asFlux()
+        .doOnComplete(() -> clearBindings(iterator, canceled))
+        .map(
+            binding -> {
+              Flux<ServerMessage> messages =
+                  this.client
+                      .sendCommand(
+                          new ExecutePacket(
+                              sql,
+                              prepareResult.get(),
+                              binding.getBinaryParameters(prepareResult.get().getNumParams()),
+                              false),
+                          false)
+                      .doOnComplete(() -> tryNextBinding(iterator, bindingSink, canceled));
+
+              return toResult(Protocol.BINARY, messages, factory, prepareResult);
+            })
+        .doOnSubscribe(
+            it -> bindingSink.emitNext(iterator.next(), Sinks.EmitFailureHandler.FAIL_FAST))
+        .doOnComplete(this.bindings::clear)
+        .doOnCancel(() -> clearBindings(iterator, canceled))
+        .doOnError(e -> clearBindings(iterator, canceled))
+        .flatMap(mariadbResultFlux -> mariadbResultFlux);
+  }
+
+  /**
+   * Execute batch using COM_STMT_BULK_EXECUTE commands. Bindings are sent in as few commands as
+   * possible, each command resulting in one result with the aggregated update count.
+   *
+   * @param sql sql command
+   * @param factory exception factory
+   * @return results, one per bulk command
+   */
+  private Flux<org.mariadb.r2dbc.api.MariadbResult> executeBatchBulk(
+      String sql, ExceptionFactory factory) {
+    int numParams = prepareResult.get().getNumParams();
+    Binding[] values = new Binding[this.bindings.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = this.bindings.get(i).getBinaryParameters(numParams);
+    }
+    if (!BulkExecutePacket.canUseBulk(values)) return executeBatchPerBinding(sql, factory);
+    this.bindings.clear();
+
+    Sinks.Many<BulkExecutePacket> packetSink = Sinks.many().unicast().onBackpressureBuffer();
+    AtomicBoolean canceled = new AtomicBoolean();
+    return packetSink
+        .asFlux()
+        .map(
+            packet -> {
+              Flux<ServerMessage> messages =
+                  this.client
+                      .sendCommand(packet, false)
+                      .doOnComplete(() -> tryNextBulk(packet, values, packetSink, canceled, sql));
+              return toResult(Protocol.BINARY, messages, factory, prepareResult);
+            })
+        .doOnSubscribe(
+            it ->
+                packetSink.emitNext(
+                    new BulkExecutePacket(
+                        sql, prepareResult.get(), values, 0, configuration.getMaxAllowedPacket()),
+                    Sinks.EmitFailureHandler.FAIL_FAST))
+        .doOnCancel(() -> canceled.set(true))
+        .doOnError(e -> canceled.set(true))
+        .flatMap(mariadbResultFlux -> mariadbResultFlux);
+  }
+
+  private void tryNextBulk(
+      BulkExecutePacket packet,
+      Binding[] values,
+      Sinks.Many<BulkExecutePacket> packetSink,
+      AtomicBoolean canceled,
+      String sql) {
+    if (canceled.get()) {
+      return;
+    }
+
+    try {
+      if (packet.getNextIndex() < values.length) {
+        packetSink.emitNext(
+            new BulkExecutePacket(
+                sql,
+                prepareResult.get(),
+                values,
+                packet.getNextIndex(),
+                configuration.getMaxAllowedPacket()),
+            Sinks.EmitFailureHandler.FAIL_FAST);
+      } else {
+        packetSink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+      }
+    } catch (Exception e) {
+      packetSink.emitError(e, Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+  }
+
   private Mono<ServerPrepareResult> prepareIfNotDone(String sql, ExceptionFactory factory) {
     // prepare command, if not already done
     if (prepareResult.get() == null) {
@@ -229,6 +395,7 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
       }
     }
     prepareResult.get().incrementUse();
+    if (client.getPrepareCache() != null) client.getPrepareCache().hit();
     return Mono.just(prepareResult.get());
   }
 
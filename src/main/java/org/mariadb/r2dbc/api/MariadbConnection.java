@@ -7,7 +7,9 @@ import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.TransactionDefinition;
 import io.r2dbc.spi.ValidationDepth;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 public interface MariadbConnection extends Connection {
@@ -74,6 +76,18 @@ public interface MariadbConnection extends Connection {
   @Override
   Mono<Void> setStatementTimeout(Duration timeout);
 
+  /**
+   * Execute a LOAD DATA LOCAL INFILE command, streaming file content from publisher once server
+   * asks for it. Content is requested as it is sent, following server backpressure. Requires option
+   * allowLocalInfile.
+   *
+   * @param sql LOAD DATA LOCAL INFILE command
+   * @param data file content
+   * @return number of loaded rows
+   * @since 1.2
+   */
+  Mono<Long> loadData(String sql, Publisher<ByteBuffer> data);
+
   long getThreadId();
 
   String getHost();
@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.api;
+
+/**
+ * Metrics listener, to bind connector instrumentation to a metrics registry (Micrometer, ...).
+ *
+ * <p>All methods are called on hot paths (netty event loop or subscribing thread): implementation
+ * must be thread-safe, non-blocking and cheap, typically only incrementing a counter or recording a
+ * timer value. Every method defaults to a no-op.
+ */
+public interface MariadbMetrics {
+
+  /** No-op implementation, used when no metrics is configured. */
+  MariadbMetrics NONE = new MariadbMetrics() {};
+
+  /**
+   * Connection has been established. Gauges can be polled until {@link
+   * #connectionClosed(ConnectionGauges)} is called.
+   *
+   * @param gauges connection current state
+   */
+  default void connectionOpened(ConnectionGauges gauges) {}
+
+  /**
+   * Connection has been closed.
+   *
+   * @param gauges connection gauges, as provided to {@link #connectionOpened(ConnectionGauges)}
+   */
+  default void connectionClosed(ConnectionGauges gauges) {}
+
+  /**
+   * A packet has been received from server.
+   *
+   * @param bytes packet size, header included
+   */
+  default void packetReceived(int bytes) {}
+
+  /**
+   * A command has been sent to server.
+   *
+   * @param packets number of packets
+   * @param bytes command size, headers included
+   */
+  default void packetsSent(int packets, int bytes) {}
+
+  /**
+   * Command has been executed reusing a cached server prepared statement, counted once per
+   * execution.
+   */
+  default void prepareCacheHit() {}
+
+  /** Statement has been prepared on server, not being found in prepare cache. */
+  default void prepareCacheMiss() {}
+
+  /** Least recently used prepared statement has been removed from a full prepare cache. */
+  default void prepareCacheEviction() {}
+
+  /**
+   * A command has completed. Time to first response include client queuing when pipelining, network
+   * and server execution time, while remaining time corresponds to result transfer and client
+   * decoding, throttled by subscriber demand.
+   *
+   * @param command command type (initial decoder state: QUERY_RESPONSE, PREPARE_RESPONSE,
+   *     EXECUTE_RESPONSE, ...)
+   * @param firstResponseNanos elapsed time until first server packet, in nanoseconds
+   * @param totalNanos elapsed time until command completion, in nanoseconds
+   * @param success false if server returned an error
+   */
+  default void commandCompleted(
+      String command, long firstResponseNanos, long totalNanos, boolean success) {}
+
+  /** Connection gauges. */
+  interface ConnectionGauges {
+
+    /**
+     * Connection thread id.
+     *
+     * @return thread id
+     */
+    long getThreadId();
+
+    /**
+     * Number of commands sent and awaiting completion (in-flight exchanges).
+     *
+     * @return exchange queue size
+     */
+    int getExchangeQueueSize();
+
+    /**
+     * Number of server messages received and awaiting subscriber demand.
+     *
+     * @return receiver queue size
+     */
+    int getReceiverQueueSize();
+  }
+}
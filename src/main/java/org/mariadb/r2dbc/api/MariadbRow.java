@@ -30,4 +30,104 @@ public interface MariadbRow extends Row {
    * @since 0.9
    */
   MariadbRowMetadata getMetadata();
+
+  /**
+   * Returns the value for a column in this row as primitive int, without boxing. A SQL NULL value
+   * is returned as 0, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param index the index of the column starting at {@code 0}
+   * @return the value for the column in this row
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   * @since 1.2
+   */
+  int getInt(int index);
+
+  /**
+   * Returns the value for a column in this row as primitive int, without boxing. A SQL NULL value
+   * is returned as 0, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param name the name of the column
+   * @return the value for the column in this row
+   * @throws IllegalArgumentException if {@code name} is {@code null}
+   * @throws java.util.NoSuchElementException if there is no column with the {@code name}
+   * @since 1.2
+   */
+  int getInt(String name);
+
+  /**
+   * Returns the value for a column in this row as primitive long, without boxing. A SQL NULL value
+   * is returned as 0, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param index the index of the column starting at {@code 0}
+   * @return the value for the column in this row
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   * @since 1.2
+   */
+  long getLong(int index);
+
+  /**
+   * Returns the value for a column in this row as primitive long, without boxing. A SQL NULL value
+   * is returned as 0, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param name the name of the column
+   * @return the value for the column in this row
+   * @throws IllegalArgumentException if {@code name} is {@code null}
+   * @throws java.util.NoSuchElementException if there is no column with the {@code name}
+   * @since 1.2
+   */
+  long getLong(String name);
+
+  /**
+   * Returns the value for a column in this row as primitive double, without boxing. A SQL NULL
+   * value is returned as 0, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param index the index of the column starting at {@code 0}
+   * @return the value for the column in this row
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   * @since 1.2
+   */
+  double getDouble(int index);
+
+  /**
+   * Returns the value for a column in this row as primitive double, without boxing. A SQL NULL
+   * value is returned as 0, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param name the name of the column
+   * @return the value for the column in this row
+   * @throws IllegalArgumentException if {@code name} is {@code null}
+   * @throws java.util.NoSuchElementException if there is no column with the {@code name}
+   * @since 1.2
+   */
+  double getDouble(String name);
+
+  /**
+   * Returns the value for a column in this row as primitive boolean, without boxing. A SQL NULL
+   * value is returned as false, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param index the index of the column starting at {@code 0}
+   * @return the value for the column in this row
+   * @throws IndexOutOfBoundsException if {@code index} is out of range
+   * @since 1.2
+   */
+  boolean getBoolean(int index);
+
+  /**
+   * Returns the value for a column in this row as primitive boolean, without boxing. A SQL NULL
+   * value is returned as false, {@link #wasNull()} permitting to distinguish it.
+   *
+   * @param name the name of the column
+   * @return the value for the column in this row
+   * @throws IllegalArgumentException if {@code name} is {@code null}
+   * @throws java.util.NoSuchElementException if there is no column with the {@code name}
+   * @since 1.2
+   */
+  boolean getBoolean(String name);
+
+  /**
+   * Indicates if last value read with a primitive accessor was SQL NULL.
+   *
+   * @return true if last primitive value read was NULL
+   * @since 1.2
+   */
+  boolean wasNull();
 }
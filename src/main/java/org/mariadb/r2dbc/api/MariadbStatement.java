@@ -23,9 +23,105 @@ public interface MariadbStatement extends Statement {
   @Override
   MariadbStatement bindNull(int index, Class<?> type);
 
+  /**
+   * Bind a int value, without boxing. Value is sent as INTEGER using binary protocol.
+   *
+   * @param index parameter index, starting at 0
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindInt(int index, int value) {
+    return bind(index, value);
+  }
+
+  /**
+   * Bind a int value, without boxing, see {@link #bindInt(int, int)}.
+   *
+   * @param identifier parameter identifier
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindInt(String identifier, int value) {
+    return bind(identifier, value);
+  }
+
+  /**
+   * Bind a long value, without boxing. Value is sent as BIGINT using binary protocol.
+   *
+   * @param index parameter index, starting at 0
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindLong(int index, long value) {
+    return bind(index, value);
+  }
+
+  /**
+   * Bind a long value, without boxing, see {@link #bindLong(int, long)}.
+   *
+   * @param identifier parameter identifier
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindLong(String identifier, long value) {
+    return bind(identifier, value);
+  }
+
+  /**
+   * Bind a double value, without boxing. Value is sent as DOUBLE using binary protocol.
+   *
+   * @param index parameter index, starting at 0
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindDouble(int index, double value) {
+    return bind(index, value);
+  }
+
+  /**
+   * Bind a double value, without boxing, see {@link #bindDouble(int, double)}.
+   *
+   * @param identifier parameter identifier
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindDouble(String identifier, double value) {
+    return bind(identifier, value);
+  }
+
+  /**
+   * Bind a byte array value, without codec lookup. Value is sent as BLOB using binary protocol.
+   *
+   * @param index parameter index, starting at 0
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindBytes(int index, byte[] value) {
+    return bind(index, value);
+  }
+
+  /**
+   * Bind a byte array value, without codec lookup, see {@link #bindBytes(int, byte[])}.
+   *
+   * @param identifier parameter identifier
+   * @param value value
+   * @return this {@link MariadbStatement}
+   */
+  default MariadbStatement bindBytes(String identifier, byte[] value) {
+    return bind(identifier, value);
+  }
+
   @Override
   Flux<MariadbResult> execute();
 
+  /**
+   * Configures the number of rows to fetch at a time. Using server prepared statements, a positive
+   * value opens a server cursor, rows being retrieved by chunks as demand arrives, limiting memory
+   * use. Default value 0 retrieves the whole result-set.
+   *
+   * @param rows number of rows to fetch
+   * @return this {@link MariadbStatement}
+   */
   @Override
   default MariadbStatement fetchSize(int rows) {
     return this;
@@ -74,6 +74,8 @@ public enum DecoderState implements DecoderStateInterface {
       switch (val) {
         case 0:
           return OK_PACKET;
+        case 251: // 0xFB
+          return LOCAL_INFILE;
         case 255: // 0xFF
           return ERROR;
         default:
@@ -82,6 +84,18 @@ public enum DecoderState implements DecoderStateInterface {
     }
   },
 
+  LOCAL_INFILE {
+    @Override
+    public ServerMessage decode(ByteBuf body, Sequencer sequencer, MariadbFrameDecoder decoder) {
+      return LocalInfilePacket.decode(sequencer, body);
+    }
+
+    @Override
+    public DecoderState next(MariadbFrameDecoder decoder) {
+      return QUERY_RESPONSE;
+    }
+  },
+
   COLUMN_COUNT {
 
     @Override
@@ -233,6 +247,44 @@ public enum DecoderState implements DecoderStateInterface {
     }
   },
 
+  FETCH_RESPONSE {
+    @Override
+    public DecoderState decoder(short val, int len) {
+      switch (val) {
+        case 254:
+          if (len < 0xffffff) {
+            return FETCH_EOF;
+          } else {
+            // normal ROW
+            return FETCH_ROW;
+          }
+        case 255: // 0xFF
+          return ERROR;
+        default:
+          return FETCH_ROW;
+      }
+    }
+  },
+
+  FETCH_ROW {
+    @Override
+    public ServerMessage decode(ByteBuf body, Sequencer sequencer, MariadbFrameDecoder decoder) {
+      return new RowPacket(body);
+    }
+
+    @Override
+    public DecoderState next(MariadbFrameDecoder decoder) {
+      return FETCH_RESPONSE;
+    }
+  },
+
+  FETCH_EOF {
+    @Override
+    public ServerMessage decode(ByteBuf body, Sequencer sequencer, MariadbFrameDecoder decoder) {
+      return EofPacket.decodeFetch(sequencer, body, decoder.getContext());
+    }
+  },
+
   PREPARE_RESPONSE {
 
     @Override
@@ -349,13 +401,7 @@ public enum DecoderState implements DecoderStateInterface {
 
     @Override
     public ServerMessage decode(ByteBuf body, Sequencer sequencer, MariadbFrameDecoder decoder) {
-      ColumnDefinitionPacket columnDefinitionPacket =
-          ColumnDefinitionPacket.decode(
-              sequencer, body, decoder.getContext(), false, decoder.getConf());
-      decoder
-              .getPrepareColumns()[
-              decoder.getPrepare().getNumColumns() - decoder.getStateCounter()] =
-          columnDefinitionPacket;
+      decoder.addPrepareColumn(body, sequencer);
       decoder.decrementStateCounter();
       return SkipPacket.decode(false);
     }
@@ -3,8 +3,13 @@
 
 package org.mariadb.r2dbc.client;
 
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.mariadb.r2dbc.api.MariadbMetrics;
 import org.mariadb.r2dbc.message.ServerMessage;
+import org.mariadb.r2dbc.message.client.LoadDataPacket;
+import org.mariadb.r2dbc.message.server.ErrorPacket;
+import org.mariadb.r2dbc.message.server.LocalInfilePacket;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Operators;
 
@@ -14,18 +19,29 @@ public class Exchange {
   private final FluxSink<ServerMessage> sink;
   private final DecoderState initialState;
   private final String sql;
+  private final MariadbMetrics metrics;
+  private final long startNanos;
+  private long firstResponseNanos;
+  private LoadDataPacket loadData;
+  private R2dbcNonTransientResourceException localInfileError;
   private volatile long demand = 0L;
 
   public Exchange(FluxSink<ServerMessage> sink, DecoderState initialState) {
-    this.sink = sink;
-    this.initialState = initialState;
-    this.sql = null;
+    this(sink, initialState, null, MariadbMetrics.NONE);
   }
 
   public Exchange(FluxSink<ServerMessage> sink, DecoderState initialState, String sql) {
+    this(sink, initialState, sql, MariadbMetrics.NONE);
+  }
+
+  public Exchange(
+      FluxSink<ServerMessage> sink, DecoderState initialState, String sql, MariadbMetrics metrics) {
     this.sink = sink;
     this.initialState = initialState;
     this.sql = sql;
+    this.metrics = metrics;
+    // command latency is only measured when metrics are enabled
+    this.startNanos = metrics == MariadbMetrics.NONE ? 0L : System.nanoTime();
   }
 
   public DecoderState getInitialState() {
@@ -36,8 +52,29 @@ public class Exchange {
     return sql;
   }
 
+  /**
+   * Set LOAD DATA LOCAL INFILE command of this exchange, to be informed when server asks for file
+   * content.
+   *
+   * @param loadData load data command
+   */
+  public void setLoadData(LoadDataPacket loadData) {
+    this.loadData = loadData;
+  }
+
+  /**
+   * Indicate if a server LOCAL_INFILE request will be satisfied by this exchange. If not, client
+   * must answer with empty content for server to end command.
+   *
+   * @return true if exchange is a LOAD DATA LOCAL INFILE command
+   */
+  public boolean hasLoadData() {
+    return loadData != null;
+  }
+
   public boolean hasDemand() {
-    return demand > 0;
+    // cancelled exchange messages are discarded, no need to wait for demand
+    return demand > 0 || sink.isCancelled();
   }
 
   public boolean isCancelled() {
@@ -57,6 +94,29 @@ public class Exchange {
    * @return true if ending message
    */
   public boolean emit(ServerMessage srvMsg) {
+    if (startNanos != 0L) record(srvMsg);
+    if (srvMsg instanceof LocalInfilePacket) {
+      if (loadData == null) {
+        // client answers with empty content, error is emitted once server has ended command
+        localInfileError =
+            new R2dbcNonTransientResourceException(
+                "LOAD DATA LOCAL INFILE must be executed with MariadbConnection.loadData", "HY000");
+        return false;
+      }
+      loadData.requested(true);
+      loadData = null;
+    } else if (loadData != null && srvMsg.ending()) {
+      // server didn't ask for file content (error, or local infile disabled server side)
+      loadData.requested(false);
+      loadData = null;
+    }
+    if (localInfileError != null) {
+      // consume final OK/ERR packet
+      srvMsg.release();
+      if (!srvMsg.ending()) return false;
+      onError(localInfileError);
+      return true;
+    }
     if (this.sink.isCancelled()) {
       srvMsg.release();
       return srvMsg.ending();
@@ -73,6 +133,18 @@ public class Exchange {
     return false;
   }
 
+  private void record(ServerMessage srvMsg) {
+    long now = System.nanoTime();
+    if (firstResponseNanos == 0L) firstResponseNanos = now;
+    if (srvMsg.ending()) {
+      metrics.commandCompleted(
+          initialState.name(),
+          firstResponseNanos - startNanos,
+          now - startNanos,
+          !(srvMsg instanceof ErrorPacket));
+    }
+  }
+
   public void incrementDemand(long n) {
     Operators.addCap(DEMAND_UPDATER, this, n);
   }
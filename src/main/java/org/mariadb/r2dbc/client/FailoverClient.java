@@ -16,6 +16,7 @@ import org.mariadb.r2dbc.HaMode;
 import org.mariadb.r2dbc.MariadbConnectionConfiguration;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.RedoableWithPrepareClientMessage;
 import org.mariadb.r2dbc.message.ServerMessage;
 import org.mariadb.r2dbc.message.client.*;
 import org.mariadb.r2dbc.message.server.CompletePrepareResult;
@@ -165,6 +166,16 @@ public class FailoverClient implements Client {
       boolean canRedo,
       boolean firstMsgReceived,
       ClientMessage request) {
+    if (request instanceof ExecutePacket && ((ExecutePacket) request).hasLongData()) {
+      // streamed parameters have been consumed and cannot be sent again
+      return Mono.error(
+          new R2dbcTransientResourceException(
+              String.format(
+                  "Driver has reconnect connection after a communications link failure with %s. Command with streamed parameters cannot be replayed",
+                  oldClient.getHostAddress()),
+              "25S03",
+              throwable));
+    }
     if ((oldClient.getContext().getServerStatus() & ServerStatus.IN_TRANSACTION) > 0) {
       if (conf.isTransactionReplay()) {
         if (firstMsgReceived) {
@@ -230,11 +241,11 @@ public class FailoverClient implements Client {
                 return client
                     .sendCommand(it, DecoderState.PREPARE_RESPONSE, false)
                     .doOnComplete(() -> tryNextCommand(endedCmdQueue, cmdSink, canceled, request));
-              } else if (it instanceof ExecutePacket) {
+              } else if (it instanceof RedoableWithPrepareClientMessage) {
                 // command is a prepare statement query
                 // redo on new connection need to re-prepare query
                 // and substitute statement id
-                Mono<ClientMessage> req = ((ExecutePacket) it).rePrepare(client);
+                Mono<ClientMessage> req = ((RedoableWithPrepareClientMessage) it).rePrepare(client);
                 return req.flatMapMany(
                     req2 ->
                         client
@@ -326,9 +337,9 @@ public class FailoverClient implements Client {
         .flatMapMany(
             reconnected -> {
               Mono<ClientMessage> clientMsg;
-              if (reconnected && requests instanceof ExecutePacket) {
+              if (reconnected && requests instanceof RedoableWithPrepareClientMessage) {
                 // in case reconnection occurs during an ExecutePacket, need to re-prepare
-                clientMsg = ((ExecutePacket) requests).rePrepare(client.get());
+                clientMsg = ((RedoableWithPrepareClientMessage) requests).rePrepare(client.get());
               } else {
                 clientMsg = Mono.just(requests);
               }
@@ -367,11 +378,14 @@ public class FailoverClient implements Client {
                                           c -> {
                                             req.resetSequencer();
                                             Mono<ClientMessage> clientMsg2;
-                                            if (reconnected && req instanceof ExecutePacket) {
+                                            if (reconnected
+                                                && req
+                                                    instanceof RedoableWithPrepareClientMessage) {
                                               // in case reconnection occurs during an
                                               // ExecutePacket, need to re-prepare
                                               clientMsg2 =
-                                                  ((ExecutePacket) req).rePrepare(client.get());
+                                                  ((RedoableWithPrepareClientMessage) req)
+                                                      .rePrepare(client.get());
                                             } else {
                                               clientMsg2 = Mono.just(req);
                                             }
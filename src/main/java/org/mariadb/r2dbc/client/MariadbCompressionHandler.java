@@ -0,0 +1,146 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageCodec;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression protocol codec. Each compressed packet has a 7 bytes header: 3 bytes compressed
+ * payload length, 1 byte compression sequence and 3 bytes uncompressed payload length (0 when
+ * payload is not compressed). Payload contains standard packets.
+ *
+ * <p>This handler must be placed before {@link MariadbFrameDecoder}, once authentication succeed.
+ */
+public class MariadbCompressionHandler extends ByteToMessageCodec<ByteBuf> {
+  private static final int MAX_PACKET_LENGTH = 0xffffff;
+  private static final int HEADER_LENGTH = 7;
+
+  private final int threshold;
+  private final Deflater deflater = new Deflater();
+  private final Inflater inflater = new Inflater();
+  private final byte[] deflateBuffer = new byte[8192];
+  private int sequence = 0;
+
+  public MariadbCompressionHandler(int threshold) {
+    super(ByteBuf.class);
+    this.threshold = threshold;
+  }
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, ByteBuf msg, ByteBuf out) {
+    // new command: standard packet sequence is 0, compression sequence is reset
+    if (msg.readableBytes() > 3 && msg.getByte(msg.readerIndex() + 3) == 0) {
+      sequence = 0;
+    }
+
+    do {
+      int length = Math.min(MAX_PACKET_LENGTH, msg.readableBytes());
+      if (length < threshold || !writeCompressed(msg, length, out)) {
+        out.writeMediumLE(length);
+        out.writeByte(sequence++);
+        out.writeMediumLE(0);
+        out.writeBytes(msg, length);
+      }
+    } while (msg.readableBytes() > 0);
+  }
+
+  /**
+   * Write compressed packet.
+   *
+   * @param msg buffer to compress
+   * @param length length to compress
+   * @param out output buffer
+   * @return true if written, false if compression doesn't reduce size
+   */
+  private boolean writeCompressed(ByteBuf msg, int length, ByteBuf out) {
+    int headerIndex = out.writerIndex();
+    out.writeZero(HEADER_LENGTH);
+
+    deflater.reset();
+    if (msg.hasArray()) {
+      deflater.setInput(msg.array(), msg.arrayOffset() + msg.readerIndex(), length);
+    } else {
+      deflater.setInput(ByteBufUtil.getBytes(msg, msg.readerIndex(), length, false));
+    }
+    deflater.finish();
+    while (!deflater.finished()) {
+      int written = deflater.deflate(deflateBuffer);
+      out.writeBytes(deflateBuffer, 0, written);
+      if (out.writerIndex() - headerIndex - HEADER_LENGTH >= length) {
+        out.writerIndex(headerIndex);
+        return false;
+      }
+    }
+
+    int compressedLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+    out.setMediumLE(headerIndex, compressedLength);
+    out.setByte(headerIndex + 3, sequence++);
+    out.setMediumLE(headerIndex + 4, length);
+    msg.skipBytes(length);
+    return true;
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out)
+      throws DataFormatException {
+    while (buf.readableBytes() >= HEADER_LENGTH) {
+      int compressedLength = buf.getUnsignedMediumLE(buf.readerIndex());
+
+      // packet not complete
+      if (buf.readableBytes() < compressedLength + HEADER_LENGTH) return;
+
+      sequence = buf.getUnsignedByte(buf.readerIndex() + 3) + 1;
+      int length = buf.getUnsignedMediumLE(buf.readerIndex() + 4);
+      buf.skipBytes(HEADER_LENGTH);
+
+      if (length == 0) {
+        // uncompressed payload
+        out.add(buf.readRetainedSlice(compressedLength));
+        continue;
+      }
+
+      inflater.reset();
+      if (buf.hasArray()) {
+        inflater.setInput(buf.array(), buf.arrayOffset() + buf.readerIndex(), compressedLength);
+      } else {
+        inflater.setInput(ByteBufUtil.getBytes(buf, buf.readerIndex(), compressedLength, false));
+      }
+      buf.skipBytes(compressedLength);
+
+      ByteBuf payload = ctx.alloc().heapBuffer(length, length);
+      try {
+        int offset = 0;
+        while (offset < length) {
+          int read =
+              inflater.inflate(payload.array(), payload.arrayOffset() + offset, length - offset);
+          if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+            throw new DataFormatException(
+                String.format(
+                    "Compressed packet inflates to %d bytes, when %d expected", offset, length));
+          }
+          offset += read;
+        }
+      } catch (DataFormatException e) {
+        payload.release();
+        throw e;
+      }
+      payload.writerIndex(length);
+      out.add(payload);
+    }
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    super.handlerRemoved(ctx);
+    deflater.end();
+    inflater.end();
+  }
+}
@@ -20,14 +20,18 @@ import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
 import java.util.List;
 import java.util.Queue;
 import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.api.MariadbMetrics;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.ServerMessage;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.message.server.PrepareResultPacket;
+import org.mariadb.r2dbc.message.server.RowPacket;
 import org.mariadb.r2dbc.message.server.Sequencer;
+import org.mariadb.r2dbc.util.ClockCache;
 import org.mariadb.r2dbc.util.PrepareCache;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
 import reactor.util.concurrent.Queues;
@@ -37,6 +41,7 @@ public class MariadbFrameDecoder extends ByteToMessageDecoder {
   private final Queue<Exchange> exchangeQueue;
   private final Client client;
   private final MariadbConnectionConfiguration configuration;
+  private final MariadbMetrics metrics;
   private DecoderState state = null;
   private final Queue<String> prepareSql = Queues.<String>small().get();
   private long clientCapabilities;
@@ -44,25 +49,57 @@ public class MariadbFrameDecoder extends ByteToMessageDecoder {
   private boolean metaFollows = false;
   private PrepareResultPacket prepare;
   private ColumnDefinitionPacket[] prepareColumns;
+  private ColumnDefinitionPacket[] sharedColumns;
+  private boolean prepareColumnsShared;
   private Context context = null;
 
+  // row value currently streamed, with remaining length of current frame
+  private StreamedValue largeValue;
+  private int partRemaining;
+  private boolean lastPart;
+
   public MariadbFrameDecoder(
       Queue<Exchange> exchangeQueue, Client client, MariadbConnectionConfiguration configuration) {
     this.exchangeQueue = exchangeQueue;
     this.client = client;
     this.configuration = configuration;
+    this.metrics = configuration.getMetrics();
   }
 
   @Override
   public void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) throws Exception {
-    while (buf.readableBytes() > 4) {
+    while (true) {
+      if (largeValue != null) {
+        if (!streamValue(ctx, buf)) return;
+        continue;
+      }
+      if (buf.readableBytes() <= 4) return;
       int length = buf.getUnsignedMediumLE(buf.readerIndex());
 
       // packet not complete
       if (buf.readableBytes() < length + 4) return;
+      metrics.packetReceived(length + 4);
 
       // extract packet
       if (length == 0xffffff) {
+        if (multipart == null
+            && configuration.streamLargeValues()
+            && (state == DecoderState.ROW_RESPONSE || state == DecoderState.FETCH_RESPONSE)) {
+          // huge row: last column value is fed from next frames instead of being assembled
+          buf.skipBytes(3); // skip length
+          ByteBuf packet = buf.readRetainedSlice(1 + length);
+          ServerMessage msg = decode(packet);
+          packet.release();
+          if (msg instanceof RowPacket) {
+            largeValue = new StreamedValue(() -> resume(ctx));
+            partRemaining = 0;
+            lastPart = false;
+            ((RowPacket) msg).setLargeValue(largeValue);
+          }
+          out.add(msg);
+          continue;
+        }
+
         // multipart packet
         if (multipart == null) {
           multipart = buf.alloc().compositeBuffer();
@@ -95,6 +132,53 @@ public class MariadbFrameDecoder extends ByteToMessageDecoder {
     }
   }
 
+  /**
+   * Forward available content of streamed value, without waiting for complete frames.
+   *
+   * @param ctx channel context
+   * @param buf received data
+   * @return true if some data has been consumed
+   */
+  private boolean streamValue(ChannelHandlerContext ctx, ByteBuf buf) {
+    if (partRemaining == 0 && !lastPart) {
+      if (buf.readableBytes() < 4) return false;
+      partRemaining = buf.readUnsignedMediumLE();
+      buf.skipBytes(1); // sequence
+      lastPart = partRemaining < 0xffffff;
+      metrics.packetReceived(partRemaining + 4);
+    }
+
+    int readable = Math.min(partRemaining, buf.readableBytes());
+    if (readable > 0) {
+      partRemaining -= readable;
+      if (!largeValue.offer(buf.readRetainedSlice(readable))) {
+        ctx.channel().config().setAutoRead(false);
+      }
+    }
+
+    if (partRemaining == 0 && lastPart) {
+      largeValue.complete();
+      largeValue = null;
+      lastPart = false;
+      return true;
+    }
+    return readable > 0;
+  }
+
+  private static void resume(ChannelHandlerContext ctx) {
+    ctx.executor().execute(() -> ctx.channel().config().setAutoRead(true));
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    if (largeValue != null) {
+      largeValue.error(
+          new R2dbcNonTransientResourceException("Connection closed while streaming value"));
+      largeValue = null;
+    }
+    super.channelInactive(ctx);
+  }
+
   private ServerMessage decode(ByteBuf packet) {
     Sequencer sequencer = new Sequencer(packet.readByte());
     Exchange exchange = this.exchangeQueue.peek();
@@ -126,6 +210,37 @@ public class MariadbFrameDecoder extends ByteToMessageDecoder {
     this.prepare = prepare;
     this.prepareColumns =
         (prepare == null) ? null : new ColumnDefinitionPacket[prepare.getNumColumns()];
+
+    // column definitions of an already known statement can be reused
+    this.sharedColumns = null;
+    ClockCache<String, ColumnDefinitionPacket[]> columnMetadataCache =
+        configuration.getColumnMetadataCache();
+    String sql;
+    if (prepare != null
+        && prepare.getNumColumns() > 0
+        && columnMetadataCache != null
+        && (sql = prepareSql.peek()) != null) {
+      ColumnDefinitionPacket[] shared = columnMetadataCache.get(sql);
+      if (shared != null && shared.length == prepare.getNumColumns()) this.sharedColumns = shared;
+    }
+    this.prepareColumnsShared = this.sharedColumns != null;
+  }
+
+  /**
+   * Add a column definition of current prepare response, reusing shared definition when identical.
+   *
+   * @param body column definition packet body
+   * @param sequencer packet sequencer
+   */
+  public void addPrepareColumn(ByteBuf body, Sequencer sequencer) {
+    int index = prepare.getNumColumns() - stateCounter;
+    if (prepareColumnsShared && sharedColumns[index].isSameDefinition(body)) {
+      prepareColumns[index] = sharedColumns[index];
+      return;
+    }
+    prepareColumnsShared = false;
+    prepareColumns[index] =
+        ColumnDefinitionPacket.decode(sequencer, body, context, false, configuration);
   }
 
   public ColumnDefinitionPacket[] getPrepareColumns() {
@@ -141,6 +256,15 @@ public class MariadbFrameDecoder extends ByteToMessageDecoder {
         new ServerPrepareResult(
             this.prepare.getStatementId(), this.prepare.getNumParams(), prepareColumns);
     String sql = prepareSql.poll();
+    ClockCache<String, ColumnDefinitionPacket[]> columnMetadataCache =
+        configuration.getColumnMetadataCache();
+    if (columnMetadataCache != null && sql != null && prepareColumns.length > 0) {
+      if (prepareColumnsShared) {
+        prepareResult.setColumns(sharedColumns);
+      } else {
+        columnMetadataCache.put(sql, prepareColumns);
+      }
+    }
     PrepareCache prepareCache = client.getPrepareCache();
     if (prepareCache != null) {
       ServerPrepareResult cached = prepareCache.put(sql, prepareResult);
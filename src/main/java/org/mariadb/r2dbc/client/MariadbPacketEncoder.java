@@ -7,50 +7,146 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import org.mariadb.r2dbc.api.MariadbMetrics;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.client.ExecutePacket;
+import org.mariadb.r2dbc.message.client.LoadDataPacket;
+import org.mariadb.r2dbc.util.BufferUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public class MariadbPacketEncoder {
+  private static final int MAX_PACKET_LENGTH = 0xffffff;
+
+  private final MariadbMetrics metrics;
   private Context context = null;
 
-  public Mono<CompositeByteBuf> encodeFlux(ClientMessage msg) {
-    ByteBufAllocator allocator = context.getByteBufAllocator();
+  public MariadbPacketEncoder(MariadbMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Encode message. Execute packets with long data parameters first stream these parameters as
+   * COM_STMT_SEND_LONG_DATA packets, execute packet being encoded only once they are sent. LOAD
+   * DATA LOCAL INFILE content is sent only once server asks for it, following commands waiting
+   * until then.
+   *
+   * @param msg client message
+   * @return packets
+   */
+  public Publisher<? extends ByteBuf> encode(ClientMessage msg) {
+    if (msg instanceof ExecutePacket && ((ExecutePacket) msg).hasLongData()) {
+      ByteBufAllocator allocator = context.getByteBufAllocator();
+      return Flux.concat(
+          ((ExecutePacket) msg)
+              .encodeLongData(allocator)
+              .concatMap(
+                  packet ->
+                      packet
+                          .encode(context, allocator)
+                          .map(
+                              buf -> {
+                                CompositeByteBuf out = frame(packet, buf, true);
+                                buf.release();
+                                return out;
+                              })),
+          Mono.defer(() -> encodeFlux(msg)));
+    }
+    if (msg instanceof LoadDataPacket) {
+      LoadDataPacket load = (LoadDataPacket) msg;
+      return Flux.concat(
+          encodeFlux(msg),
+          load.onRequest()
+              .flatMapMany(
+                  fileRequested ->
+                      fileRequested
+                          ? Flux.concat(
+                              load.encodeData()
+                                  .map(
+                                      buf -> {
+                                        CompositeByteBuf out = frame(msg, buf, false);
+                                        buf.release();
+                                        return out;
+                                      }),
+                              Mono.fromSupplier(() -> frame(msg, Unpooled.EMPTY_BUFFER, false)))
+                          : Flux.empty()));
+    }
+    return encodeFlux(msg);
+  }
 
-    return msg.encode(context, allocator)
+  /**
+   * Encode message as packet(s). Message content fitting in one packet with header space reserved
+   * before content (see {@link BufferUtils#allocateMessage(ByteBufAllocator)}) has header written
+   * in place, other content being split and composed with separate headers.
+   *
+   * @param msg client message
+   * @return packets
+   */
+  public Mono<ByteBuf> encodeFlux(ClientMessage msg) {
+    return msg.encode(context, context.getByteBufAllocator())
         .map(
             buf -> {
-              CompositeByteBuf out = allocator.compositeBuffer();
-
               int initialReaderIndex = buf.readerIndex();
-              int packetLength;
-              do {
-                packetLength = Math.min(0xffffff, buf.readableBytes());
-
-                ByteBuf header = Unpooled.buffer(4, 4);
-                header.writeMediumLE(packetLength);
-                header.writeByte(msg.getSequencer().next());
-
-                out.addComponent(true, header);
-                out.addComponent(true, buf.readRetainedSlice(packetLength));
-
-              } while (buf.readableBytes() > 0);
-
-              if (packetLength == 0xffffff) {
-                // in case last packet is full, sending an empty packet to indicate that command is
-                // complete
-                ByteBuf header = Unpooled.buffer(4, 4);
-                header.writeMediumLE(0);
-                header.writeByte(msg.getSequencer().next());
-                out.addComponent(true, header);
+              if (initialReaderIndex >= BufferUtils.HEADER_LENGTH
+                  && buf.readableBytes() < MAX_PACKET_LENGTH) {
+                int packetLength = buf.readableBytes();
+                int headerIndex = initialReaderIndex - BufferUtils.HEADER_LENGTH;
+                buf.setMediumLE(headerIndex, packetLength);
+                buf.setByte(headerIndex + 3, msg.getSequencer().next());
+                buf.readerIndex(headerIndex);
+                metrics.packetsSent(1, buf.readableBytes());
+                context.saveRedo(msg, buf, initialReaderIndex);
+                return buf;
               }
-
+              CompositeByteBuf out = frame(msg, buf, true);
               context.saveRedo(msg, buf, initialReaderIndex);
               buf.release();
               return out;
             });
   }
 
+  /**
+   * Split message in packets of at most 16M, adding packet headers.
+   *
+   * @param msg client message
+   * @param buf message content, buffer reader index being moved to end
+   * @param ending add an empty packet when last packet is full, indicating command end
+   * @return packets
+   */
+  private CompositeByteBuf frame(ClientMessage msg, ByteBuf buf, boolean ending) {
+    CompositeByteBuf out = context.getByteBufAllocator().compositeBuffer();
+
+    int packetLength;
+    int packets = 0;
+    do {
+      packets++;
+      packetLength = Math.min(MAX_PACKET_LENGTH, buf.readableBytes());
+
+      ByteBuf header = Unpooled.buffer(4, 4);
+      header.writeMediumLE(packetLength);
+      header.writeByte(msg.getSequencer().next());
+
+      out.addComponent(true, header);
+      out.addComponent(true, buf.readRetainedSlice(packetLength));
+
+    } while (buf.readableBytes() > 0);
+
+    if (ending && packetLength == MAX_PACKET_LENGTH) {
+      // in case last packet is full, sending an empty packet to indicate that command is
+      // complete
+      ByteBuf header = Unpooled.buffer(4, 4);
+      header.writeMediumLE(0);
+      header.writeByte(msg.getSequencer().next());
+      out.addComponent(true, header);
+      packets++;
+    }
+
+    metrics.packetsSent(packets, out.readableBytes());
+    return out;
+  }
+
   public void setContext(Context context) {
     this.context = context;
   }
@@ -194,7 +194,13 @@ public class MariadbResult extends AbstractReferenceCounted
           if (message instanceof RowPacket) {
             try {
               org.mariadb.r2dbc.api.MariadbRow row =
-                  rowConstructor.get().create(((RowPacket) message).getRaw(), meta.get(), factory);
+                  rowConstructor
+                      .get()
+                      .create(
+                          ((RowPacket) message).getRaw(),
+                          meta.get(),
+                          factory,
+                          ((RowPacket) message).getLargeValue());
               sink.next(f.apply(row, meta.get()));
             } finally {
               message.release();
@@ -4,6 +4,7 @@
 package org.mariadb.r2dbc.client;
 
 import io.netty.buffer.ByteBuf;
+import io.r2dbc.spi.Blob;
 import io.r2dbc.spi.R2dbcTransientResourceException;
 import java.util.EnumSet;
 import org.mariadb.r2dbc.ExceptionFactory;
@@ -21,17 +22,88 @@ public abstract class MariadbRow {
   protected final ByteBuf buf;
   protected final ExceptionFactory factory;
 
-  MariadbRow(ByteBuf buf, MariadbRowMetadata meta, ExceptionFactory factory) {
+  // last column value, when streamed from network
+  protected final StreamedValue largeValue;
+
+  // reader index of first column data
+  protected int dataStart;
+
+  // column offset/length table, created on first non-sequential access.
+  // positions[2 * i] is column i data offset, positions[2 * i + 1] its length
+  private int[] positions;
+  private int knownColumns;
+
+  // last primitive value read was NULL
+  private boolean wasNull;
+
+  MariadbRow(
+      ByteBuf buf,
+      MariadbRowMetadata meta,
+      ExceptionFactory factory,
+      @Nullable StreamedValue largeValue) {
     this.buf = buf;
     this.meta = meta;
     this.factory = factory;
+    this.largeValue = largeValue;
+  }
+
+  /**
+   * Read length of column at current reader index, setting <code>length</code> and positioning
+   * reader index at the beginning of column data.
+   *
+   * @param column column index
+   */
+  protected abstract void readLength(int column);
+
+  /**
+   * Set length and pos indicator to asked index.
+   *
+   * <p>Sequential access reads columns one after the other. Any other access pattern builds an
+   * offset table, filled while scanning, so that already scanned columns are reached directly.
+   *
+   * @param newIndex index (0 is first).
+   */
+  public void setPosition(int newIndex) {
+    if (positions == null) {
+      if (newIndex == index + 1) {
+        index = newIndex;
+        readLength(newIndex);
+        return;
+      }
+      positions = new int[meta.size() * 2];
+    }
+
+    if (newIndex < knownColumns) {
+      buf.readerIndex(positions[2 * newIndex]);
+      length = positions[2 * newIndex + 1];
+      index = newIndex;
+      return;
+    }
+
+    if (knownColumns == 0) {
+      buf.readerIndex(dataStart);
+    } else {
+      int last = 2 * (knownColumns - 1);
+      buf.readerIndex(positions[last] + Math.max(positions[last + 1], 0));
+    }
+
+    for (; knownColumns <= newIndex; knownColumns++) {
+      readLength(knownColumns);
+      positions[2 * knownColumns] = buf.readerIndex();
+      positions[2 * knownColumns + 1] = length;
+      if (knownColumns < newIndex && length > 0) buf.skipBytes(length);
+    }
+    index = newIndex;
   }
 
   @FunctionalInterface
   public interface MariadbRowConstructor {
 
     org.mariadb.r2dbc.api.MariadbRow create(
-        ByteBuf buf, MariadbRowMetadata meta, ExceptionFactory factory);
+        ByteBuf buf,
+        MariadbRowMetadata meta,
+        ExceptionFactory factory,
+        @Nullable StreamedValue largeValue);
   }
 
   public abstract <T> T get(int index, Class<T> type);
@@ -42,6 +114,104 @@ public abstract class MariadbRow {
     return get(this.meta.getIndex(name), type);
   }
 
+  public int getInt(String name) {
+    return getInt(this.meta.getIndex(name));
+  }
+
+  public long getLong(String name) {
+    return getLong(this.meta.getIndex(name));
+  }
+
+  public double getDouble(String name) {
+    return getDouble(this.meta.getIndex(name));
+  }
+
+  public boolean getBoolean(String name) {
+    return getBoolean(this.meta.getIndex(name));
+  }
+
+  public abstract int getInt(int index);
+
+  public abstract long getLong(int index);
+
+  public abstract double getDouble(int index);
+
+  public abstract boolean getBoolean(int index);
+
+  public boolean wasNull() {
+    return wasNull;
+  }
+
+  /**
+   * Position on column before decoding it as a primitive value.
+   *
+   * @param index column index
+   * @param type primitive type
+   * @return true if value is NULL
+   */
+  protected boolean setPrimitivePosition(int index, Class<?> type) {
+    ColumnDefinitionPacket column = meta.getColumnMetadata(index);
+    if (largeValue != null && setStreamedPosition(index)) {
+      throw streamedValueException(type);
+    }
+    setPosition(index);
+    if (length == NULL_LENGTH) {
+      wasNull = true;
+      return true;
+    }
+    wasNull = false;
+    if (meta.getCodec(index, type) == null) {
+      buf.skipBytes(length);
+      throw noDecoderException(column, type);
+    }
+    return false;
+  }
+
+  /**
+   * Position on column of a row whose last column value is streamed, only the beginning of that
+   * value being part of row buffer.
+   *
+   * @param index column index
+   * @return true if column is the streamed one
+   */
+  protected boolean setStreamedPosition(int index) {
+    try {
+      setPosition(index);
+    } catch (IndexOutOfBoundsException e) {
+      throw streamedValueException(null);
+    }
+    if (index == meta.size() - 1) return true;
+    if (length > buf.readableBytes()) throw streamedValueException(null);
+    return false;
+  }
+
+  /**
+   * Retrieve streamed value of last column, after {@link #setStreamedPosition(int)}.
+   *
+   * @param type asked type, must be Blob compatible
+   * @return blob
+   */
+  @Nullable
+  protected <T> T getStreamedValue(Class<T> type) {
+    if (length == NULL_LENGTH) return null;
+    if (!type.isAssignableFrom(Blob.class)) throw streamedValueException(type);
+    return type.cast(largeValue.claim(buf.readRetainedSlice(buf.readableBytes())));
+  }
+
+  private R2dbcTransientResourceException streamedValueException(@Nullable Class<?> type) {
+    ColumnDefinitionPacket column = meta.getColumnMetadata(meta.size() - 1);
+    if (type == null) {
+      return new R2dbcTransientResourceException(
+          String.format(
+              "Row exceeds packet size: only value of last column '%s' can be large",
+              column.getName()));
+    }
+    return new R2dbcTransientResourceException(
+        String.format(
+            "Value of column '%s' is streamed and can only be retrieved as Blob, not %s",
+            column.getName(), type.getName()));
+  }
+
   protected static R2dbcTransientResourceException noDecoderException(
       ColumnDefinitionPacket column, Class<?> type) {
 
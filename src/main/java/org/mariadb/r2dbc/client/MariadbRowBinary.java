@@ -7,7 +7,10 @@ import io.netty.buffer.ByteBuf;
 import io.r2dbc.spi.R2dbcTransientResourceException;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
-import org.mariadb.r2dbc.codec.Codecs;
+import org.mariadb.r2dbc.codec.list.BooleanCodec;
+import org.mariadb.r2dbc.codec.list.DoubleCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.LongCodec;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.Assert;
 import reactor.util.annotation.Nullable;
@@ -17,12 +20,20 @@ public class MariadbRowBinary extends MariadbRow implements org.mariadb.r2dbc.ap
   private final byte[] nullBitmap;
 
   public MariadbRowBinary(ByteBuf buf, MariadbRowMetadata meta, ExceptionFactory factory) {
-    super(buf, meta, factory);
+    this(buf, meta, factory, null);
+  }
+
+  public MariadbRowBinary(
+      ByteBuf buf,
+      MariadbRowMetadata meta,
+      ExceptionFactory factory,
+      @Nullable StreamedValue largeValue) {
+    super(buf, meta, factory, largeValue);
     columnNumber = meta.size();
     nullBitmap = new byte[(columnNumber + 9) / 8];
     buf.skipBytes(1); // skip 0x00 header
     buf.readBytes(nullBitmap);
-    buf.markReaderIndex();
+    dataStart = buf.readerIndex();
   }
 
   public MariadbRowMetadata getMetadata() {
@@ -31,52 +42,24 @@ public class MariadbRowBinary extends MariadbRow implements org.mariadb.r2dbc.ap
 
   @Nullable
   @Override
-  @SuppressWarnings("unchecked")
   public <T> T get(int index, Class<T> type) {
-
-    // check NULL-Bitmap that indicate if field is null
-    if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) != 0) {
-      if (type != null && type.isPrimitive()) {
-        throw new R2dbcTransientResourceException(
-            String.format("Cannot return null for primitive %s", type.getName()));
-      }
-      return null;
-    }
-
+    if (largeValue != null && setStreamedPosition(index)) return getStreamedValue(type);
     ColumnDefinitionPacket column = meta.getColumnMetadata(index);
     this.setPosition(index);
     if (length == NULL_LENGTH) {
-      if (type.isPrimitive()) {
+      if (type != null && type.isPrimitive()) {
         throw new R2dbcTransientResourceException(
             String.format("Cannot return null for primitive %s", type.getName()));
       }
       return null;
     }
 
-    Codec<T> defaultCodec;
-    // type generic, return "natural" java type
-    if (Object.class == type || type == null) {
-      defaultCodec = ((Codec<T>) column.getType().getDefaultCodec());
-      return defaultCodec.decodeBinary(buf, length, column, type, factory);
-    }
-
-    // fast path checking default codec
-    if ((defaultCodec = (Codec<T>) Codecs.typeMapper.get(type)) != null) {
-      if (!defaultCodec.canDecode(column, type)) {
-        buf.skipBytes(length);
-        throw MariadbRow.noDecoderException(column, type);
-      }
-      return defaultCodec.decodeBinary(buf, length, column, type, factory);
-    }
-
-    for (Codec<?> codec : Codecs.LIST) {
-      if (codec.canDecode(column, type)) {
-        return ((Codec<T>) codec).decodeBinary(buf, length, column, type, factory);
-      }
+    Codec<T> codec = meta.getCodec(index, type);
+    if (codec == null) {
+      buf.skipBytes(length);
+      throw MariadbRow.noDecoderException(column, type);
     }
-
-    buf.skipBytes(length);
-    throw MariadbRow.noDecoderException(column, type);
+    return codec.decodeBinary(buf, length, column, type, factory);
   }
 
   @Nullable
@@ -86,73 +69,39 @@ public class MariadbRowBinary extends MariadbRow implements org.mariadb.r2dbc.ap
     return get(this.meta.getIndex(name), type);
   }
 
-  /**
-   * Set length and pos indicator to asked index.
-   *
-   * @param newIndex index (0 is first).
-   */
-  public void setPosition(int newIndex) {
-
-    if (index >= newIndex) {
-      index = 0;
-      buf.resetReaderIndex();
-    } else {
-      index++;
-    }
+  @Override
+  public int getInt(int index) {
+    if (setPrimitivePosition(index, int.class)) return 0;
+    return IntCodec.INSTANCE.decodeBinaryInt(buf, length, meta.get(index), factory);
+  }
 
-    for (; index < newIndex; index++) {
-      if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) == 0) {
-        // skip bytes
-        switch (meta.get(index).getDataType()) {
-          case BIGINT:
-          case DOUBLE:
-            buf.skipBytes(8);
-            break;
-
-          case INTEGER:
-          case MEDIUMINT:
-          case FLOAT:
-            buf.skipBytes(4);
-            break;
-
-          case SMALLINT:
-          case YEAR:
-            buf.skipBytes(2);
-            break;
-
-          case TINYINT:
-            buf.skipBytes(1);
-            break;
+  @Override
+  public long getLong(int index) {
+    if (setPrimitivePosition(index, long.class)) return 0;
+    return LongCodec.INSTANCE.decodeBinaryLong(buf, length, meta.get(index), factory);
+  }
 
-          default:
-            int type = this.buf.readUnsignedByte();
-            switch (type) {
-              case 251:
-                break;
-
-              case 252:
-                this.buf.skipBytes(this.buf.readUnsignedShortLE());
-                break;
-
-              case 253:
-                this.buf.skipBytes(this.buf.readUnsignedMediumLE());
-                break;
-
-              case 254:
-                this.buf.skipBytes((int) this.buf.readLongLE());
-                break;
-
-              default:
-                this.buf.skipBytes(type);
-                break;
-            }
-            break;
-        }
-      }
+  @Override
+  public double getDouble(int index) {
+    if (setPrimitivePosition(index, double.class)) return 0;
+    return DoubleCodec.INSTANCE.decodeBinaryDouble(buf, length, meta.get(index), factory);
+  }
+
+  @Override
+  public boolean getBoolean(int index) {
+    if (setPrimitivePosition(index, boolean.class)) return false;
+    return BooleanCodec.INSTANCE.decodeBinaryBoolean(buf, length, meta.get(index), factory);
+  }
+
+  @Override
+  protected void readLength(int column) {
+    // check NULL-Bitmap that indicate if field is null
+    if ((nullBitmap[(column + 2) / 8] & (1 << ((column + 2) % 8))) != 0) {
+      length = NULL_LENGTH;
+      return;
     }
 
-    // read asked field position and length
-    switch (meta.get(index).getDataType()) {
+    switch (meta.get(column).getDataType()) {
       case BIGINT:
       case DOUBLE:
         length = 8;
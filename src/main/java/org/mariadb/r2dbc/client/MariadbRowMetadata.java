@@ -5,6 +5,8 @@ package org.mariadb.r2dbc.client;
 
 import io.r2dbc.spi.RowMetadata;
 import java.util.*;
+import org.mariadb.r2dbc.codec.Codec;
+import org.mariadb.r2dbc.codec.Codecs;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.Assert;
 
@@ -14,8 +16,12 @@ public final class MariadbRowMetadata implements RowMetadata {
   private volatile Collection<String> columnNames;
   private Map<String, Integer> mapper = null;
 
+  // resolved codec per column, for last asked type
+  private final CodecEntry[] codecs;
+
   public MariadbRowMetadata(ColumnDefinitionPacket[] metadataList) {
     this.metadataList = metadataList;
+    this.codecs = new CodecEntry[metadataList.length];
   }
 
   @Override
@@ -100,4 +106,51 @@ public final class MariadbRowMetadata implements RowMetadata {
     }
     return ind;
   }
+
+  /**
+   * Get codec that decodes column to asked type. Resolution is cached per column, so rows of a
+   * result-set only resolve it once.
+   *
+   * @param index column index
+   * @param type asked type
+   * @return codec, or null if no codec can decode column to this type
+   */
+  @SuppressWarnings("unchecked")
+  <T> Codec<T> getCodec(int index, Class<T> type) {
+    CodecEntry entry = codecs[index];
+    if (entry != null && entry.type == type) return (Codec<T>) entry.codec;
+
+    Codec<T> codec = resolveCodec(metadataList[index], type);
+    if (codec != null) codecs[index] = new CodecEntry(type, codec);
+    return codec;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Codec<T> resolveCodec(ColumnDefinitionPacket column, Class<T> type) {
+    // type generic, return "natural" java type
+    if (Object.class == type || type == null) {
+      return (Codec<T>) column.getType().getDefaultCodec();
+    }
+
+    // fast path checking default codec
+    Codec<T> defaultCodec = (Codec<T>) Codecs.typeMapper.get(type);
+    if (defaultCodec != null) {
+      return defaultCodec.canDecode(column, type) ? defaultCodec : null;
+    }
+
+    for (Codec<?> codec : Codecs.LIST) {
+      if (codec.canDecode(column, type)) return (Codec<T>) codec;
+    }
+    return null;
+  }
+
+  private static final class CodecEntry {
+    private final Class<?> type;
+    private final Codec<?> codec;
+
+    private CodecEntry(Class<?> type, Codec<?> codec) {
+      this.type = type;
+      this.codec = codec;
+    }
+  }
 }
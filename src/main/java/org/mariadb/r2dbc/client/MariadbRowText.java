@@ -7,7 +7,10 @@ import io.netty.buffer.ByteBuf;
 import io.r2dbc.spi.R2dbcTransientResourceException;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
-import org.mariadb.r2dbc.codec.Codecs;
+import org.mariadb.r2dbc.codec.list.BooleanCodec;
+import org.mariadb.r2dbc.codec.list.DoubleCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.LongCodec;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.Assert;
 import reactor.util.annotation.Nullable;
@@ -15,8 +18,16 @@ import reactor.util.annotation.Nullable;
 public class MariadbRowText extends MariadbRow implements org.mariadb.r2dbc.api.MariadbRow {
 
   public MariadbRowText(ByteBuf buf, MariadbRowMetadata meta, ExceptionFactory factory) {
-    super(buf, meta, factory);
-    this.buf.markReaderIndex();
+    this(buf, meta, factory, null);
+  }
+
+  public MariadbRowText(
+      ByteBuf buf,
+      MariadbRowMetadata meta,
+      ExceptionFactory factory,
+      @Nullable StreamedValue largeValue) {
+    super(buf, meta, factory, largeValue);
+    this.dataStart = buf.readerIndex();
   }
 
   public MariadbRowMetadata getMetadata() {
@@ -25,8 +36,8 @@ public class MariadbRowText extends MariadbRow implements org.mariadb.r2dbc.api.
 
   @Nullable
   @Override
-  @SuppressWarnings("unchecked")
   public <T> T get(int index, Class<T> type) {
+    if (largeValue != null && setStreamedPosition(index)) return getStreamedValue(type);
     ColumnDefinitionPacket column = meta.getColumnMetadata(index);
     this.setPosition(index);
 
@@ -38,30 +49,12 @@ public class MariadbRowText extends MariadbRow implements org.mariadb.r2dbc.api.
       return null;
     }
 
-    Codec<T> defaultCodec;
-    // type generic, return "natural" java type
-    if (Object.class == type || type == null) {
-      defaultCodec = ((Codec<T>) column.getType().getDefaultCodec());
-      return defaultCodec.decodeText(buf, length, column, type, factory);
-    }
-
-    // fast path checking default codec
-    if ((defaultCodec = (Codec<T>) Codecs.typeMapper.get(type)) != null) {
-      if (!defaultCodec.canDecode(column, type)) {
-        buf.skipBytes(length);
-        throw MariadbRow.noDecoderException(column, type);
-      }
-      return defaultCodec.decodeText(buf, length, column, type, factory);
-    }
-
-    for (Codec<?> codec : Codecs.LIST) {
-      if (codec.canDecode(column, type)) {
-        return ((Codec<T>) codec).decodeText(buf, length, column, type, factory);
-      }
+    Codec<T> codec = meta.getCodec(index, type);
+    if (codec == null) {
+      buf.skipBytes(length);
+      throw MariadbRow.noDecoderException(column, type);
     }
-
-    buf.skipBytes(length);
-    throw MariadbRow.noDecoderException(column, type);
+    return codec.decodeText(buf, length, column, type, factory);
   }
 
   @Nullable
@@ -71,38 +64,32 @@ public class MariadbRowText extends MariadbRow implements org.mariadb.r2dbc.api.
     return get(this.meta.getIndex(name), type);
   }
 
-  /**
-   * Set length and pos indicator to asked index.
-   *
-   * @param newIndex index (0 is first).
-   */
-  public void setPosition(int newIndex) {
-    if (index >= newIndex) {
-      index = -1;
-      buf.resetReaderIndex();
-    }
+  @Override
+  public int getInt(int index) {
+    if (setPrimitivePosition(index, int.class)) return 0;
+    return IntCodec.INSTANCE.decodeTextInt(buf, length, meta.get(index), factory);
+  }
 
-    index++;
+  @Override
+  public long getLong(int index) {
+    if (setPrimitivePosition(index, long.class)) return 0;
+    return LongCodec.INSTANCE.decodeTextLong(buf, length, meta.get(index), factory);
+  }
 
-    for (; index < newIndex; index++) {
-      int type = this.buf.readUnsignedByte();
-      switch (type) {
-        case 252:
-          buf.skipBytes(buf.readUnsignedShortLE());
-          break;
-        case 253:
-          buf.skipBytes(buf.readUnsignedMediumLE());
-          break;
-        case 254:
-          buf.skipBytes((int) (buf.readLongLE()));
-          break;
-        case 251:
-          break;
-        default:
-          buf.skipBytes(type);
-          break;
-      }
-    }
+  @Override
+  public double getDouble(int index) {
+    if (setPrimitivePosition(index, double.class)) return 0;
+    return DoubleCodec.INSTANCE.decodeTextDouble(buf, length, meta.get(index), factory);
+  }
+
+  @Override
+  public boolean getBoolean(int index) {
+    if (setPrimitivePosition(index, boolean.class)) return false;
+    return BooleanCodec.INSTANCE.decodeTextBoolean(buf, length, meta.get(index), factory);
+  }
+
+  @Override
+  protected void readLength(int column) {
     short type = this.buf.readUnsignedByte();
     switch (type) {
       case 251:
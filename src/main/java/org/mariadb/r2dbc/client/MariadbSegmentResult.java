@@ -136,7 +136,9 @@ public final class MariadbSegmentResult extends AbstractReferenceCounted impleme
                   sink.next(new MariadbOutSegment(outParameters, (RowPacket) message));
                 } else {
                   org.mariadb.r2dbc.api.MariadbRow rowSegment =
-                      rowConstructor.get().create(row.getRaw(), meta.get(), factory);
+                      rowConstructor
+                          .get()
+                          .create(row.getRaw(), meta.get(), factory, row.getLargeValue());
                   sink.next(new MariadbRowSegment(rowSegment, (RowPacket) message));
                 }
               }
@@ -4,6 +4,9 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.r2dbc.spi.IsolationLevel;
 import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.client.ExecutePacket;
+import org.mariadb.r2dbc.message.client.LoadDataPacket;
+import org.mariadb.r2dbc.message.client.LocalInfileEndPacket;
 import org.mariadb.r2dbc.util.constants.ServerStatus;
 
 public class RedoContext extends SimpleContext {
@@ -51,6 +54,20 @@ public class RedoContext extends SimpleContext {
    * @param msg client message
    */
   public void saveRedo(ClientMessage msg, ByteBuf buf, int initialReaderIndex) {
+    if (msg instanceof ExecutePacket && ((ExecutePacket) msg).hasLongData()) {
+      // streamed parameters have been consumed and cannot be sent again
+      transactionSaver.forceDirty();
+      return;
+    }
+    if (msg instanceof LoadDataPacket) {
+      // file content has been consumed and cannot be sent again
+      transactionSaver.forceDirty();
+      return;
+    }
+    if (msg instanceof LocalInfileEndPacket) {
+      // answer to a server request, sent again if command is replayed
+      return;
+    }
     msg.save(buf, initialReaderIndex);
     transactionSaver.add(msg);
   }
@@ -6,6 +6,7 @@ package org.mariadb.r2dbc.client;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
@@ -19,6 +20,7 @@ import java.net.SocketAddress;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import javax.net.ssl.SSLEngine;
@@ -26,13 +28,16 @@ import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLHandshakeException;
 import javax.net.ssl.SSLParameters;
 import org.mariadb.r2dbc.*;
+import org.mariadb.r2dbc.api.MariadbMetrics;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.ServerMessage;
 import org.mariadb.r2dbc.message.client.*;
+import org.mariadb.r2dbc.message.flow.AuthenticationFlow;
 import org.mariadb.r2dbc.message.server.CompletePrepareResult;
 import org.mariadb.r2dbc.message.server.ErrorPacket;
 import org.mariadb.r2dbc.message.server.InitialHandshakePacket;
+import org.mariadb.r2dbc.message.server.LocalInfilePacket;
 import org.mariadb.r2dbc.util.HostAddress;
 import org.mariadb.r2dbc.util.PrepareCache;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
@@ -61,10 +66,29 @@ public class SimpleClient implements Client {
       Queues.<ServerMessage>get(Queues.SMALL_BUFFER_SIZE).get();
 
   private final AtomicBoolean isClosed = new AtomicBoolean(false);
+  private final AtomicReference<Client> killClient = new AtomicReference<>();
   private final MariadbFrameDecoder decoder;
   private final MariadbPacketEncoder encoder;
   private final PrepareCache prepareCache;
   private final ByteBufAllocator byteBufAllocator;
+  private final MariadbMetrics metrics;
+  private final MariadbMetrics.ConnectionGauges gauges =
+      new MariadbMetrics.ConnectionGauges() {
+        @Override
+        public long getThreadId() {
+          return context == null ? 0L : context.getThreadId();
+        }
+
+        @Override
+        public int getExchangeQueueSize() {
+          return exchangeQueue.size();
+        }
+
+        @Override
+        public int getReceiverQueueSize() {
+          return receiverQueue.size();
+        }
+      };
 
   private volatile boolean closeRequested = false;
 
@@ -87,12 +111,14 @@ public class SimpleClient implements Client {
     this.configuration = configuration;
     this.hostAddress = hostAddress;
     this.lock = lock;
+    this.metrics = configuration.getMetrics();
     this.prepareCache =
         new PrepareCache(
             this.configuration.useServerPrepStmts() ? this.configuration.getPrepareCacheSize() : 0,
-            this);
+            this,
+            metrics);
     this.decoder = new MariadbFrameDecoder(exchangeQueue, this, configuration);
-    this.encoder = new MariadbPacketEncoder();
+    this.encoder = new MariadbPacketEncoder(metrics);
     this.byteBufAllocator = connection.outbound().alloc();
     this.messageSubscriber = new ServerMessageSubscriber(this.lock, exchangeQueue, receiverQueue);
     connection.addHandlerFirst(this.decoder);
@@ -130,13 +156,14 @@ public class SimpleClient implements Client {
         .onErrorResume(this::receiveResumeError)
         .subscribe(messageSubscriber);
 
-    this.requestSink
-        .asFlux()
-        .map(encoder::encodeFlux)
-        .flatMap(b -> connection.outbound().send(b), 1)
+    // single send for all messages: packets encoded during the same event-loop tick are written
+    // together with one flush, flush occurring earlier if channel reaches its write buffer limit
+    Mono.from(connection.outbound().send(this.requestSink.asFlux().concatMap(encoder::encode)))
         .onErrorResume(this::sendResumeError)
         .doAfterTerminate(this::closeChannelIfNeeded)
         .subscribe();
+
+    this.metrics.connectionOpened(gauges);
   }
 
   public static Mono<SimpleClient> connect(
@@ -205,6 +232,7 @@ public class SimpleClient implements Client {
 
   public boolean closeChannelIfNeeded() {
     if (this.isClosed.compareAndSet(false, true)) {
+      this.metrics.connectionClosed(gauges);
       Channel channel = this.connection.channel();
       messageSubscriber.close(
           new R2dbcNonTransientResourceException("Connection unexpectedly closed", "08000"));
@@ -225,12 +253,16 @@ public class SimpleClient implements Client {
   private Mono<Void> quitOrClose() {
     return Mono.defer(
         () -> {
+          Client killer = this.killClient.getAndSet(null);
+          if (killer != null) killer.close().subscribe();
+
           // expect message subscriber to be closed already
           this.messageSubscriber.close(
               new R2dbcNonTransientResourceException(
                   closeRequested ? "Connection has been closed" : "Connection closed", "08000"));
 
           if (this.isClosed.compareAndSet(false, true)) {
+            this.metrics.connectionClosed(gauges);
             Channel channel = this.connection.channel();
             if (channel.isOpen()) {
               this.connection.dispose();
@@ -321,7 +353,8 @@ public class SimpleClient implements Client {
               sink -> {
                 if (!exchangeQueue.isEmpty()
                     || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) == 0) {
-                  Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, "BEGIN");
+                  Exchange exchange =
+                      new Exchange(sink, DecoderState.QUERY_RESPONSE, "BEGIN", metrics);
                   if (this.exchangeQueue.offer(exchange)) {
                     this.requestSink.emitNext(
                         new QueryPacket("BEGIN"), Sinks.EmitFailureHandler.FAIL_FAST);
@@ -368,7 +401,7 @@ public class SimpleClient implements Client {
               sink -> {
                 if (!exchangeQueue.isEmpty()
                     || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) == 0) {
-                  Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql);
+                  Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql, metrics);
                   if (this.exchangeQueue.offer(exchange)) {
                     this.requestSink.emitNext(
                         new QueryPacket(sql), Sinks.EmitFailureHandler.FAIL_FAST);
@@ -408,7 +441,7 @@ public class SimpleClient implements Client {
     if (!exchangeQueue.isEmpty() || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) > 0) {
       try {
         lock.lock();
-        Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql);
+        Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql, metrics);
         if (this.exchangeQueue.offer(exchange)) {
           sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
           this.requestSink.emitNext(new QueryPacket(sql), Sinks.EmitFailureHandler.FAIL_FAST);
@@ -474,7 +507,8 @@ public class SimpleClient implements Client {
                 if (!this.exchangeQueue.isEmpty() || autoCommit != isAutoCommit()) {
 
                   try {
-                    Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql);
+                    Exchange exchange =
+                        new Exchange(sink, DecoderState.QUERY_RESPONSE, sql, metrics);
                     if (this.exchangeQueue.offer(exchange)) {
                       sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
                       this.requestSink.emitNext(
@@ -521,6 +555,18 @@ public class SimpleClient implements Client {
         });
   }
 
+  /**
+   * Enable compression protocol. Must be called once authentication succeed, before any other
+   * command.
+   */
+  public void enableCompression() {
+    ChannelPipeline pipeline = connection.channel().pipeline();
+    pipeline.addBefore(
+        pipeline.context(this.decoder).name(),
+        MariadbCompressionHandler.class.getSimpleName(),
+        new MariadbCompressionHandler(configuration.getCompressionThreshold()));
+  }
+
   public void setContext(InitialHandshakePacket handshake, long clientCapabilities) {
     this.context =
         !HaMode.NONE.equals(configuration.getHaMode()) && configuration.isTransactionReplay()
@@ -643,7 +689,7 @@ public class SimpleClient implements Client {
       // nothing buffered => directly emit message
       ReferenceCountUtil.retain(message);
       if (this.receiverQueue.isEmpty() && exchange != null && exchange.hasDemand()) {
-        if (exchange.emit(message)) this.exchangeQueue.poll();
+        if (emit(exchange, message)) this.exchangeQueue.poll();
         if (exchange.hasDemand() || exchange.isCancelled()) {
           requestQueueFilling();
         }
@@ -662,6 +708,26 @@ public class SimpleClient implements Client {
       tryDrainQueue();
     }
 
+    private boolean emit(Exchange exchange, ServerMessage message) {
+      if (message instanceof LocalInfilePacket && !exchange.hasLoadData()) {
+        rejectLocalInfile((LocalInfilePacket) message);
+      }
+      return exchange.emit(message);
+    }
+
+    /**
+     * Server waits for file content, empty content ending command. Packet is written directly to
+     * channel, not through request sink: commands pipelined after this one are still waiting there,
+     * and server would read them as file content.
+     *
+     * @param message LOCAL_INFILE server request
+     */
+    private void rejectLocalInfile(LocalInfilePacket message) {
+      encoder
+          .encodeFlux(new LocalInfileEndPacket(message.getSequencer()))
+          .subscribe(buf -> connection.channel().writeAndFlush(buf));
+    }
+
     public void onRequest(Exchange exchange, long n) {
       exchange.incrementDemand(n);
       requestQueueFilling();
@@ -684,7 +750,7 @@ public class SimpleClient implements Client {
           while (!this.receiverQueue.isEmpty()) {
             if ((exchange = this.exchangeQueue.peek()) == null || !exchange.hasDemand()) return;
             if ((srvMsg = this.receiverQueue.poll()) == null) return;
-            if (exchange.emit(srvMsg)) this.exchangeQueue.poll();
+            if (emit(exchange, srvMsg)) this.exchangeQueue.poll();
           }
         } finally {
           lock.unlock();
@@ -732,6 +798,21 @@ public class SimpleClient implements Client {
 
   public Flux<ServerMessage> sendCommand(
       ClientMessage message, DecoderState initialState, String sql, boolean canSafelyBeReExecuted) {
+    Flux<ServerMessage> messages = send(message, initialState, sql);
+    if (message instanceof ExecutePacket) {
+      // parameter types possibly not received by server
+      ExecutePacket execute = (ExecutePacket) message;
+      return messages
+          .doOnNext(
+              srvMsg -> {
+                if (srvMsg instanceof ErrorPacket) execute.failed();
+              })
+          .doOnError(t -> execute.failed());
+    }
+    return messages;
+  }
+
+  private Flux<ServerMessage> send(ClientMessage message, DecoderState initialState, String sql) {
     return Flux.create(
         sink -> {
           if (!isConnected() || messageSubscriber.isClose()) {
@@ -742,12 +823,16 @@ public class SimpleClient implements Client {
           }
           try {
             lock.lock();
-            Exchange exchange = new Exchange(sink, initialState, sql);
+            Exchange exchange = new Exchange(sink, initialState, sql, metrics);
             if (this.exchangeQueue.offer(exchange)) {
               if (message instanceof PreparePacket) {
                 decoder.addPrepare(((PreparePacket) message).getSql());
               }
+              if (message instanceof LoadDataPacket) {
+                exchange.setLoadData((LoadDataPacket) message);
+              }
               sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
+              if (configuration.killQueryOnCancel()) sink.onCancel(() -> killQuery(exchange));
               this.requestSink.emitNext(message, Sinks.EmitFailureHandler.FAIL_FAST);
             } else {
               sink.error(new R2dbcTransientResourceException("Request queue limit reached"));
@@ -794,9 +879,13 @@ public class SimpleClient implements Client {
             lock.lock();
             Exchange exchange =
                 new Exchange(
-                    sink, DecoderState.PREPARE_AND_EXECUTE_RESPONSE, preparePacket.getSql());
+                    sink,
+                    DecoderState.PREPARE_AND_EXECUTE_RESPONSE,
+                    preparePacket.getSql(),
+                    metrics);
             if (this.exchangeQueue.offer(exchange)) {
               sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
+              if (configuration.killQueryOnCancel()) sink.onCancel(() -> killQuery(exchange));
               decoder.addPrepare(preparePacket.getSql());
               this.requestSink.emitNext(preparePacket, Sinks.EmitFailureHandler.FAIL_FAST);
               this.requestSink.emitNext(executePacket, Sinks.EmitFailureHandler.FAIL_FAST);
@@ -812,6 +901,57 @@ public class SimpleClient implements Client {
         });
   }
 
+  /**
+   * Kill running query of a cancelled exchange, using a side connection, in order to avoid reading
+   * the whole remaining result. Query is only killed if the exchange is the one currently running
+   * and no other command is queued after it, since KILL QUERY applies to the connection.
+   *
+   * @param exchange cancelled exchange
+   */
+  private void killQuery(Exchange exchange) {
+    if (!isKillable(exchange)) return;
+    long threadId = context.getThreadId();
+    getKillClient()
+        // side connection creation takes time: exchange may have completed and next command started
+        .filter(killer -> isKillable(exchange))
+        .flatMapMany(killer -> killer.sendCommand(new QueryPacket("KILL QUERY " + threadId), false))
+        .subscribe(
+            ReferenceCountUtil::release,
+            e -> logger.debug(String.format("fail to kill query of thread %s", threadId), e));
+    // cancelled exchange messages are now discarded without waiting for demand
+    this.messageSubscriber.onRequest(exchange, 0);
+  }
+
+  private boolean isKillable(Exchange exchange) {
+    return isConnected() && exchangeQueue.peek() == exchange && exchangeQueue.size() == 1;
+  }
+
+  /**
+   * Get side connection used to kill queries, creating a new one if needed.
+   *
+   * @return side connection
+   */
+  private Mono<Client> getKillClient() {
+    Client killer = this.killClient.get();
+    if (killer != null && killer.isConnected()) return Mono.just(killer);
+    return SimpleClient.connect(
+            ConnectionProvider.newConnection(),
+            this.connection.channel().remoteAddress(),
+            this.hostAddress,
+            this.configuration,
+            new ReentrantLock())
+        .delayUntil(client -> AuthenticationFlow.exchange(client, configuration, hostAddress))
+        .cast(Client.class)
+        .doOnNext(
+            client -> {
+              Client previous = this.killClient.getAndSet(client);
+              if (previous != null) previous.close().subscribe();
+              if (isClosed.get() && this.killClient.compareAndSet(client, null)) {
+                client.close().subscribe();
+              }
+            });
+  }
+
   public HostAddress getHostAddress() {
     return hostAddress;
   }
@@ -0,0 +1,178 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Value of the last column of a row exceeding packet size, whose content is fed directly from
+ * network frames instead of being assembled in memory.
+ *
+ * <p>Socket reading is paused when consumer is late for more than {@link #HIGH_MARK} bytes, and
+ * resumed once less than {@link #LOW_MARK} bytes are pending. Since the following server messages
+ * come after the value, value must be consumed (or discarded) before any other result can be read.
+ * When row is released without value being retrieved, or when consumer cancels, content is
+ * discarded: queued parts are released, and following parts are released on reception.
+ */
+public final class StreamedValue {
+
+  static final int HIGH_MARK = 1024 * 1024;
+  static final int LOW_MARK = 256 * 1024;
+
+  // queue is owned here, permitting to release buffered parts without subscribing to sink
+  private final Queue<ByteBuf> queue = new ConcurrentLinkedQueue<>();
+  private final Sinks.Many<ByteBuf> sink = Sinks.many().unicast().onBackpressureBuffer(queue);
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicBoolean paused = new AtomicBoolean();
+  private final AtomicBoolean claimed = new AtomicBoolean();
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+  private final Runnable resume;
+  private volatile boolean discarding;
+
+  /**
+   * Create streamed value.
+   *
+   * @param resume action resuming socket reading after a pause
+   */
+  public StreamedValue(Runnable resume) {
+    this.resume = resume;
+  }
+
+  /**
+   * Add a part of value content. Value takes ownership of buffer.
+   *
+   * @param part content part
+   * @return false if socket reading must be paused
+   */
+  public boolean offer(ByteBuf part) {
+    if (discarding) {
+      part.release();
+      return true;
+    }
+    int size = part.readableBytes();
+    if (pending.addAndGet(size) > HIGH_MARK) paused.set(true);
+    if (sink.tryEmitNext(part).isFailure()) {
+      part.release();
+      discarding = true;
+      consumed(size);
+      return true;
+    }
+    // value discarded concurrently, after part has been queued
+    if (discarding) releaseQueued();
+    return !paused.get();
+  }
+
+  /** Value content has been completely received. */
+  public void complete() {
+    sink.tryEmitComplete();
+  }
+
+  /**
+   * Connection failed before value content has been completely received.
+   *
+   * @param t error
+   */
+  public void error(Throwable t) {
+    sink.tryEmitError(t);
+  }
+
+  /**
+   * Retrieve value as Blob. Value can only be retrieved once.
+   *
+   * @param head value content already received with row
+   * @return blob
+   */
+  public Blob claim(ByteBuf head) {
+    if (!claimed.compareAndSet(false, true)) {
+      head.release();
+      throw new R2dbcTransientResourceException("Streamed value can only be retrieved once");
+    }
+    return new Blob() {
+      @Override
+      public Publisher<ByteBuffer> stream() {
+        return Flux.defer(
+            () -> {
+              if (!subscribed.compareAndSet(false, true)) {
+                return Flux.error(
+                    new IllegalStateException("Streamed value can only be consumed once"));
+              }
+              return Flux.concat(
+                      Mono.just(head).map(StreamedValue::toByteBuffer),
+                      sink.asFlux()
+                          .map(
+                              buf -> {
+                                int size = buf.readableBytes();
+                                ByteBuffer bb = toByteBuffer(buf);
+                                consumed(size);
+                                return bb;
+                              }))
+                  .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease)
+                  .doOnCancel(StreamedValue.this::discardContent);
+            });
+      }
+
+      @Override
+      public Publisher<Void> discard() {
+        return Mono.fromRunnable(
+            () -> {
+              if (subscribed.compareAndSet(false, true)) {
+                head.release();
+                discardContent();
+              }
+            });
+      }
+    };
+  }
+
+  /** Row has been released: drain value content if never retrieved. */
+  public void release() {
+    if (claimed.compareAndSet(false, true)) {
+      subscribed.set(true);
+      discardContent();
+    }
+  }
+
+  /**
+   * Stop delivering value content. Sink is never subscribed there, since consumer may already have
+   * subscribed to it: queued parts are released directly, and socket reading resumes.
+   */
+  private void discardContent() {
+    discarding = true;
+    releaseQueued();
+    pending.set(0);
+    if (paused.compareAndSet(true, false)) resume.run();
+  }
+
+  private void releaseQueued() {
+    ByteBuf buf;
+    while ((buf = queue.poll()) != null) buf.release();
+  }
+
+  private void consumed(int size) {
+    if (pending.addAndGet(-size) < LOW_MARK && paused.compareAndSet(true, false)) resume.run();
+  }
+
+  private static ByteBuffer toByteBuffer(ByteBuf buf) {
+    try {
+      ByteBuffer bb = ByteBuffer.allocate(buf.readableBytes());
+      buf.readBytes(bb);
+      bb.flip();
+      return bb;
+    } finally {
+      buf.release();
+    }
+  }
+}
@@ -8,6 +8,7 @@ import io.netty.buffer.ByteBufAllocator;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface Codec<T> {
@@ -47,6 +48,51 @@ public interface Codec<T> {
     throw new IllegalCallerException("Not expected to be use");
   }
 
+  /**
+   * Estimate length of value encoded with text protocol, permitting to size message buffer before
+   * encoding. Estimation is exact or a close upper bound for direct encoding, not counting escaped
+   * characters. Values encoded asynchronously estimate their fixed part only.
+   *
+   * @param value value
+   * @return estimated length in bytes
+   */
+  default int estimateTextLength(Object value) {
+    return 16;
+  }
+
+  /**
+   * Estimate length of value encoded with binary protocol, permitting to size message buffer before
+   * encoding. Estimation is exact or a close upper bound for direct encoding. Values encoded
+   * asynchronously or sent as long data estimate their fixed part only.
+   *
+   * @param value value
+   * @return estimated length in bytes
+   */
+  default int estimateBinaryLength(Object value) {
+    return 16;
+  }
+
+  /**
+   * Stream value content, for server prepared statements sending value with COM_STMT_SEND_LONG_DATA
+   * before execution instead of in execute packet.
+   *
+   * @param allocator buffer allocator
+   * @param value value
+   * @return value content, buffers being released by caller
+   */
+  default Flux<ByteBuf> encodeLongData(ByteBufAllocator allocator, Object value) {
+    throw new IllegalCallerException("Not expected to be use");
+  }
+
+  /**
+   * Indicate if values are sent using COM_STMT_SEND_LONG_DATA with server prepared statements.
+   *
+   * @return true if codec implements encodeLongData
+   */
+  default boolean isLongData() {
+    return false;
+  }
+
   DataType getBinaryEncodeType();
 
   default boolean isDirect() {
@@ -15,6 +15,7 @@ import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BufferUtils;
+import org.mariadb.r2dbc.util.NumberParser;
 
 public class BigDecimalCodec implements Codec<BigDecimal> {
 
@@ -64,6 +65,9 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
       case YEAR:
       case DECIMAL:
       case OLDDECIMAL:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          return NumberParser.parseBigDecimal(buf, length);
+        }
         return new BigDecimal(buf.readCharSequence(length, StandardCharsets.UTF_8).toString());
 
       case BIT:
@@ -151,6 +155,9 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
 
       default:
         // VARCHAR, VARSTRING, STRING, DECIMAL, OLDDECIMAL
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          return NumberParser.parseBigDecimal(buf, length);
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           return new BigDecimal(str);
@@ -174,6 +181,19 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
     out.writeCharSequence(v, StandardCharsets.US_ASCII);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    BigDecimal val = (BigDecimal) value;
+    // sign, decimal point and leading zeros
+    return val.precision() + Math.abs(val.scale()) + 2;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    int length = estimateTextLength(value);
+    return BufferUtils.encodedLengthSize(length) + length;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.DECIMAL;
   }
@@ -176,6 +176,18 @@ public class BigIntegerCodec implements Codec<BigInteger> {
     out.writeCharSequence(v, StandardCharsets.US_ASCII);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    // sign and digits: log10(2) ~ 0.302 digit per bit
+    return ((BigInteger) value).bitLength() * 31 / 100 + 2;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    int length = estimateTextLength(value);
+    return BufferUtils.encodedLengthSize(length) + length;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.DECIMAL;
   }
@@ -88,6 +88,17 @@ public class BitSetCodec implements Codec<BitSet> {
     out.writeBytes(bytes);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return (((BitSet) value).length() + 7) / 8 * Byte.SIZE + 3;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    int length = (((BitSet) value).length() + 7) / 8;
+    return BufferUtils.encodedLengthSize(length) + length;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.BLOB;
   }
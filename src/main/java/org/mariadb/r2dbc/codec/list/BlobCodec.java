@@ -123,10 +123,21 @@ public class BlobCodec implements Codec<Blob> {
         .doAfterTerminate(() -> ((Blob) value).discard());
   }
 
+  @Override
+  public Flux<ByteBuf> encodeLongData(ByteBufAllocator allocator, Object value) {
+    return Flux.from(((Blob) value).stream())
+        .map(Unpooled::wrappedBuffer)
+        .doFinally(s -> Mono.from(((Blob) value).discard()).subscribe());
+  }
+
   public boolean isDirect() {
     return false;
   }
 
+  public boolean isLongData() {
+    return true;
+  }
+
   private class MariaDbBlob implements Blob {
     private ByteBuf data;
 
@@ -149,6 +160,18 @@ public class BlobCodec implements Codec<Blob> {
     }
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    // content is only known once streamed
+    return BufferUtils.BINARY_PREFIX.length + 1;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    // content is only known once streamed
+    return 1;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.BLOB;
   }
@@ -50,6 +50,20 @@ public class BooleanCodec implements Codec<Boolean> {
       ColumnDefinitionPacket column,
       Class<? extends Boolean> type,
       ExceptionFactory factory) {
+    return decodeTextBoolean(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value as primitive boolean, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public boolean decodeTextBoolean(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     switch (column.getDataType()) {
       case BIT:
         return ByteCodec.parseBit(buf, length) != 0;
@@ -85,6 +99,20 @@ public class BooleanCodec implements Codec<Boolean> {
       ColumnDefinitionPacket column,
       Class<? extends Boolean> type,
       ExceptionFactory factory) {
+    return decodeBinaryBoolean(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value as primitive boolean, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public boolean decodeBinaryBoolean(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
 
     switch (column.getDataType()) {
       case BIT:
@@ -132,6 +160,16 @@ public class BooleanCodec implements Codec<Boolean> {
     out.writeByte(((Boolean) value) ? 1 : 0);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 1;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 1;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.TINYINT;
   }
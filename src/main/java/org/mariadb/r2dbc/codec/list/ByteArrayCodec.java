@@ -79,6 +79,17 @@ public class ByteArrayCodec implements Codec<byte[]> {
     out.writeBytes(b);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return BufferUtils.BINARY_PREFIX.length + ((byte[]) value).length + 1;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    int length = ((byte[]) value).length;
+    return BufferUtils.encodedLengthSize(length) + length;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.BLOB;
   }
@@ -104,6 +104,17 @@ public class ByteBufferCodec implements Codec<ByteBuffer> {
     out.writeBytes(val);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return BufferUtils.BINARY_PREFIX.length + ((ByteBuffer) value).remaining() + 1;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    int length = ((ByteBuffer) value).remaining();
+    return BufferUtils.encodedLengthSize(length) + length;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.BLOB;
   }
@@ -15,6 +15,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.NumberParser;
 
 public class ByteCodec implements Codec<Byte> {
 
@@ -100,6 +101,17 @@ public class ByteCodec implements Codec<Byte> {
 
       default:
         // FLOAT, DOUBLE, OLDDECIMAL, DECIMAL, ENUM, VARCHAR, VARSTRING, STRING:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          int start = buf.readerIndex();
+          result = NumberParser.parseTruncatedLong(buf, length);
+          if ((byte) result != result) {
+            throw factory.createParsingException(
+                String.format(
+                    "value '%s' (%s) cannot be decoded as Byte",
+                    buf.toString(start, length, StandardCharsets.UTF_8), column.getDataType()));
+          }
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).byteValueExact();
@@ -189,6 +201,17 @@ public class ByteCodec implements Codec<Byte> {
       case TEXT:
       case VARSTRING:
       case STRING:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          int start = buf.readerIndex();
+          result = NumberParser.parseTruncatedLong(buf, length);
+          if ((byte) result != result) {
+            throw factory.createParsingException(
+                String.format(
+                    "value '%s' (%s) cannot be decoded as Byte",
+                    buf.toString(start, length, StandardCharsets.UTF_8), column.getDataType()));
+          }
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).byteValueExact();
@@ -225,6 +248,16 @@ public class ByteCodec implements Codec<Byte> {
     out.writeByte((Byte) value);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 4;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 1;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.TINYINT;
   }
@@ -5,6 +5,7 @@ package org.mariadb.r2dbc.codec.list;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.r2dbc.spi.Clob;
 import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
@@ -80,6 +81,34 @@ public class ClobCodec implements Codec<Clob> {
         .doOnSubscribe(e -> ((Clob) value).discard());
   }
 
+  @Override
+  public Flux<ByteBuf> encodeLongData(ByteBufAllocator allocator, Object value) {
+    return Flux.from(((Clob) value).stream())
+        .map(
+            cs -> {
+              ByteBuf buf = allocator.buffer(ByteBufUtil.utf8Bytes(cs));
+              buf.writeCharSequence(cs, StandardCharsets.UTF_8);
+              return buf;
+            })
+        .doFinally(s -> Mono.from(((Clob) value).discard()).subscribe());
+  }
+
+  public boolean isLongData() {
+    return true;
+  }
+
+  @Override
+  public int estimateTextLength(Object value) {
+    // content is only known once streamed
+    return BufferUtils.STRING_PREFIX.length + 1;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    // content is only known once streamed
+    return 1;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.VARSTRING;
   }
@@ -5,7 +5,6 @@ package org.mariadb.r2dbc.codec.list;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
@@ -14,6 +13,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.NumberParser;
 
 public class DoubleCodec implements Codec<Double> {
 
@@ -51,6 +51,20 @@ public class DoubleCodec implements Codec<Double> {
       ColumnDefinitionPacket column,
       Class<? extends Double> type,
       ExceptionFactory factory) {
+    return decodeTextDouble(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value as primitive double, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public double decodeTextDouble(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     switch (column.getDataType()) {
       case TINYINT:
       case SMALLINT:
@@ -62,13 +76,13 @@ public class DoubleCodec implements Codec<Double> {
       case OLDDECIMAL:
       case DECIMAL:
       case YEAR:
-        return Double.valueOf(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+        return NumberParser.parseDouble(buf, length);
 
       default:
         // VARCHAR, VARSTRING, STRING:
         String str2 = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
-          return Double.valueOf(str2);
+          return Double.parseDouble(str2);
         } catch (NumberFormatException nfe) {
           throw factory.createParsingException(
               String.format("value '%s' cannot be decoded as Double", str2));
@@ -83,6 +97,20 @@ public class DoubleCodec implements Codec<Double> {
       ColumnDefinitionPacket column,
       Class<? extends Double> type,
       ExceptionFactory factory) {
+    return decodeBinaryDouble(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value as primitive double, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public double decodeBinaryDouble(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     switch (column.getDataType()) {
       case DOUBLE:
         return buf.readDoubleLE();
@@ -129,14 +157,13 @@ public class DoubleCodec implements Codec<Double> {
 
       case OLDDECIMAL:
       case DECIMAL:
-        return new BigDecimal(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString())
-            .doubleValue();
+        return NumberParser.parseDouble(buf, length);
 
       default:
         // VARCHAR, VARSTRING, STRING:
         String str2 = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
-          return Double.valueOf(str2);
+          return Double.parseDouble(str2);
         } catch (NumberFormatException nfe) {
           throw factory.createParsingException(
               String.format("value '%s' cannot be decoded as Double", str2));
@@ -155,6 +182,16 @@ public class DoubleCodec implements Codec<Double> {
     out.writeDoubleLE((Double) value);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 24;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 8;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.DOUBLE;
   }
@@ -13,6 +13,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.TemporalParser;
 
 public class DurationCodec implements Codec<Duration> {
 
@@ -51,22 +52,14 @@ public class DurationCodec implements Codec<Duration> {
             LocalDateTimeCodec.parseTimestamp(
                 buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
         if (parts == null) return null;
-        return Duration.ZERO
-            .plusDays(parts[2] - 1)
-            .plusHours(parts[3])
-            .plusMinutes(parts[4])
-            .plusSeconds(parts[5])
-            .plusNanos(parts[6]);
+        return Duration.ofSeconds(
+            (parts[2] - 1) * 86400L + parts[3] * 3600L + parts[4] * 60L + parts[5], parts[6]);
 
       default:
         // TIME, VARCHAR, VARSTRING, STRING:
+        if (TemporalParser.isTime(buf, length)) return TemporalParser.parseDuration(buf, length);
         parts = LocalTimeCodec.parseTime(buf, length, column, factory);
-        Duration d =
-            Duration.ZERO
-                .plusHours(parts[1])
-                .plusMinutes(parts[2])
-                .plusSeconds(parts[3])
-                .plusNanos(parts[4]);
+        Duration d = Duration.ofSeconds(parts[1] * 3600L + parts[2] * 60L + parts[3], parts[4]);
         if (parts[0] == 1) return d.negated();
         return d;
     }
@@ -101,12 +94,8 @@ public class DurationCodec implements Codec<Duration> {
         }
 
         Duration duration =
-            Duration.ZERO
-                .plusDays(days)
-                .plusHours(hours)
-                .plusMinutes(minutes)
-                .plusSeconds(seconds)
-                .plusNanos(microseconds * 1000);
+            Duration.ofSeconds(
+                days * 86400 + hours * 3600L + minutes * 60L + seconds, microseconds * 1000);
         if (negate) return duration.negated();
         return duration;
 
@@ -125,22 +114,13 @@ public class DurationCodec implements Codec<Duration> {
             }
           }
         }
-        return Duration.ZERO
-            .plusDays(days - 1)
-            .plusHours(hours)
-            .plusMinutes(minutes)
-            .plusSeconds(seconds)
-            .plusNanos(microseconds * 1000);
+        return Duration.ofSeconds(
+            (days - 1) * 86400 + hours * 3600L + minutes * 60L + seconds, microseconds * 1000);
 
       default:
         // VARCHAR, VARSTRING, STRING:
         int[] parts = LocalTimeCodec.parseTime(buf, length, column, factory);
-        Duration d =
-            Duration.ZERO
-                .plusHours(parts[1])
-                .plusMinutes(parts[2])
-                .plusSeconds(parts[3])
-                .plusNanos(parts[4]);
+        Duration d = Duration.ofSeconds(parts[1] * 3600L + parts[2] * 60L + parts[3], parts[4]);
         if (parts[0] == 1) return d.negated();
         return d;
     }
@@ -216,6 +196,17 @@ public class DurationCodec implements Codec<Duration> {
     }
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    // quotes, sign, hours, minutes, seconds and microseconds
+    return 32;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 13;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.TIME;
   }
@@ -5,7 +5,6 @@ package org.mariadb.r2dbc.codec.list;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
@@ -14,6 +13,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.NumberParser;
 
 public class FloatCodec implements Codec<Float> {
 
@@ -62,7 +62,7 @@ public class FloatCodec implements Codec<Float> {
       case DECIMAL:
       case YEAR:
       case FLOAT:
-        return Float.valueOf(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+        return NumberParser.parseFloat(buf, length);
 
       default:
         // VARCHAR, VARSTRING, STRING:
@@ -130,8 +130,7 @@ public class FloatCodec implements Codec<Float> {
 
       case OLDDECIMAL:
       case DECIMAL:
-        return new BigDecimal(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString())
-            .floatValue();
+        return NumberParser.parseFloat(buf, length);
 
       default:
         String str2 = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
@@ -155,6 +154,16 @@ public class FloatCodec implements Codec<Float> {
     out.writeFloatLE((Float) value);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 15;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 4;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.FLOAT;
   }
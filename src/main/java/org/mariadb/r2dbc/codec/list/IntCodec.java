@@ -15,6 +15,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.NumberParser;
 
 public class IntCodec implements Codec<Integer> {
 
@@ -54,6 +55,20 @@ public class IntCodec implements Codec<Integer> {
       ColumnDefinitionPacket column,
       Class<? extends Integer> type,
       ExceptionFactory factory) {
+    return decodeTextInt(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value as primitive int, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public int decodeTextInt(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     long result;
     switch (column.getDataType()) {
       case TINYINT:
@@ -81,6 +96,10 @@ public class IntCodec implements Codec<Integer> {
 
       default:
         // FLOAT, DOUBLE, OLDDECIMAL, VARCHAR, DECIMAL, ENUM, VARSTRING, STRING:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          result = NumberParser.parseTruncatedLong(buf, length);
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -105,6 +124,20 @@ public class IntCodec implements Codec<Integer> {
       ColumnDefinitionPacket column,
       Class<? extends Integer> type,
       ExceptionFactory factory) {
+    return decodeBinaryInt(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value as primitive int, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public int decodeBinaryInt(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
 
     long result;
     switch (column.getDataType()) {
@@ -160,6 +193,10 @@ public class IntCodec implements Codec<Integer> {
         break;
 
       default:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          result = NumberParser.parseTruncatedLong(buf, length);
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -188,6 +225,16 @@ public class IntCodec implements Codec<Integer> {
     out.writeIntLE((Integer) value);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 11;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 4;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.INTEGER;
   }
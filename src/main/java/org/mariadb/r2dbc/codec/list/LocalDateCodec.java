@@ -15,6 +15,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.TemporalParser;
 
 public class LocalDateCodec implements Codec<LocalDate> {
 
@@ -85,11 +86,13 @@ public class LocalDateCodec implements Codec<LocalDate> {
         return LocalDate.of(y, 1, 1);
       case NEWDATE:
       case DATE:
+        if (TemporalParser.isDate(buf, length)) return TemporalParser.parseDate(buf, length);
         parts = parseDate(buf, length);
         break;
 
       case TIMESTAMP:
       case DATETIME:
+        if (TemporalParser.isDateTime(buf, length)) return TemporalParser.parseDate(buf, length);
         parts =
             LocalDateTimeCodec.parseTimestamp(
                 buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
@@ -117,7 +120,7 @@ public class LocalDateCodec implements Codec<LocalDate> {
         }
     }
     if (parts == null) return null;
-    return LocalDate.of(parts[0], parts[1], parts[2]);
+    return TemporalParser.date(parts[0], parts[1], parts[2]);
   }
 
   @Override
@@ -143,7 +146,7 @@ public class LocalDateCodec implements Codec<LocalDate> {
           if (length > 4) {
             buf.skipBytes(length - 4);
           }
-          return LocalDate.of(year, month, dayOfMonth);
+          return TemporalParser.date(year, month, dayOfMonth);
         }
         return null;
 
@@ -167,7 +170,7 @@ public class LocalDateCodec implements Codec<LocalDate> {
           month = buf.readByte();
           dayOfMonth = buf.readByte();
         }
-        return LocalDate.of(year, month, dayOfMonth);
+        return TemporalParser.date(year, month, dayOfMonth);
 
       default:
         // VARCHAR,VARSTRING,STRING:
@@ -211,6 +214,16 @@ public class LocalDateCodec implements Codec<LocalDate> {
     out.writeBytes(new byte[] {0, 0, 0});
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 12;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 8;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.DATE;
   }
@@ -7,7 +7,9 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import java.nio.charset.StandardCharsets;
 import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
@@ -17,6 +19,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.TemporalParser;
 
 public class LocalDateTimeCodec implements Codec<LocalDateTime> {
 
@@ -104,18 +107,29 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
     int[] parts;
     switch (column.getDataType()) {
       case DATE:
+        if (TemporalParser.isDate(buf, length)) {
+          LocalDate date = TemporalParser.parseDate(buf, length);
+          return date == null ? null : date.atStartOfDay();
+        }
         parts = LocalDateCodec.parseDate(buf, length);
         if (parts == null) return null;
         return LocalDateTime.of(parts[0], parts[1], parts[2], 0, 0, 0);
 
       case DATETIME:
       case TIMESTAMP:
+        if (TemporalParser.isDateTime(buf, length)) {
+          return TemporalParser.parseDateTime(buf, length);
+        }
         parts = parseTimestamp(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
         if (parts == null) return null;
         return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5])
             .plusNanos(parts[6]);
 
       case TIME:
+        if (TemporalParser.isTime(buf, length)) {
+          return LocalDateTime.of(
+              TemporalParser.date(1970, 1, 1), TemporalParser.parseTime(buf, length));
+        }
         parts = LocalTimeCodec.parseTime(buf, length, column, factory);
         return LocalDateTime.of(1970, 1, 1, parts[1] % 24, parts[2], parts[3]).plusNanos(parts[4]);
 
@@ -145,7 +159,7 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
 
     int year = 1970;
     int month = 1;
-    long dayOfMonth = 1;
+    int dayOfMonth = 1;
     int hour = 0;
     int minutes = 0;
     int seconds = 0;
@@ -200,8 +214,9 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
         }
     }
 
-    return LocalDateTime.of(year, month, (int) dayOfMonth, hour, minutes, seconds)
-        .plusNanos(microseconds * 1000);
+    return LocalDateTime.of(
+        TemporalParser.date(year, month, dayOfMonth),
+        LocalTime.of(hour, minutes, seconds, (int) microseconds * 1000));
   }
 
   @Override
@@ -239,6 +254,16 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
     }
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return ((LocalDateTime) value).getNano() != 0 ? 28 : 21;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return ((LocalDateTime) value).getNano() != 0 ? 12 : 8;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.DATETIME;
   }
@@ -16,6 +16,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.TemporalParser;
 
 public class LocalTimeCodec implements Codec<LocalTime> {
 
@@ -98,6 +99,7 @@ public class LocalTimeCodec implements Codec<LocalTime> {
     switch (column.getDataType()) {
       case TIMESTAMP:
       case DATETIME:
+        if (TemporalParser.isDateTime(buf, length)) return TemporalParser.parseTime(buf, length);
         parts =
             LocalDateTimeCodec.parseTimestamp(
                 buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
@@ -105,6 +107,7 @@ public class LocalTimeCodec implements Codec<LocalTime> {
         return LocalTime.of(parts[3], parts[4], parts[5], parts[6]);
 
       case TIME:
+        if (TemporalParser.isTime(buf, length)) return TemporalParser.parseTime(buf, length);
         parts = parseTime(buf, length, column, factory);
         parts[1] = parts[1] % 24;
         if (parts[0] == 1) {
@@ -159,7 +162,7 @@ public class LocalTimeCodec implements Codec<LocalTime> {
               microseconds = buf.readIntLE();
             }
           }
-          return LocalTime.of(hour, minutes, seconds).plusNanos(microseconds * 1000);
+          return LocalTime.of(hour, minutes, seconds, (int) microseconds * 1000);
         }
         return null;
 
@@ -250,6 +253,16 @@ public class LocalTimeCodec implements Codec<LocalTime> {
     }
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return ((LocalTime) value).getNano() != 0 ? 17 : 10;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return ((LocalTime) value).getNano() != 0 ? 13 : 9;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.TIME;
   }
@@ -15,6 +15,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.NumberParser;
 
 public class LongCodec implements Codec<Long> {
 
@@ -72,12 +73,29 @@ public class LongCodec implements Codec<Long> {
       ColumnDefinitionPacket column,
       Class<? extends Long> type,
       ExceptionFactory factory) {
+    return decodeTextLong(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value as primitive long, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public long decodeTextLong(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     long result;
     switch (column.getDataType()) {
       case DECIMAL:
       case OLDDECIMAL:
       case DOUBLE:
       case FLOAT:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          return NumberParser.parseTruncatedLong(buf, length);
+        }
         String str1 = buf.readCharSequence(length, StandardCharsets.US_ASCII).toString();
         try {
           return new BigDecimal(str1).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -98,6 +116,8 @@ public class LongCodec implements Codec<Long> {
           result = parse(buf, length);
           break;
         } else {
+          // unsigned value of less than 19 digits fits in a long
+          if (length <= NumberParser.MAX_DIGITS) return parse(buf, length);
           BigInteger val =
               new BigInteger(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
           try {
@@ -137,6 +157,20 @@ public class LongCodec implements Codec<Long> {
       ColumnDefinitionPacket column,
       Class<? extends Long> type,
       ExceptionFactory factory) {
+    return decodeBinaryLong(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value as primitive long, without boxing.
+   *
+   * @param buf buffer, positioned at value
+   * @param length value length
+   * @param column column metadata
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public long decodeBinaryLong(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
 
     switch (column.getDataType()) {
       case BIGINT:
@@ -198,6 +232,9 @@ public class LongCodec implements Codec<Long> {
 
       default:
         // VARSTRING, VARCHAR, STRING, OLDDECIMAL, DECIMAL:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          return NumberParser.parseTruncatedLong(buf, length);
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           return new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -219,6 +256,16 @@ public class LongCodec implements Codec<Long> {
     out.writeLongLE((Long) value);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 20;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 8;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.BIGINT;
   }
@@ -14,6 +14,7 @@ import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.NumberParser;
 
 public class ShortCodec implements Codec<Short> {
 
@@ -74,6 +75,10 @@ public class ShortCodec implements Codec<Short> {
 
       default:
         // FLOAT, DOUBLE, OLDDECIMAL, VARCHAR, DECIMAL, ENUM, VARSTRING, STRING:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          result = NumberParser.parseTruncatedLong(buf, length);
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -143,6 +148,10 @@ public class ShortCodec implements Codec<Short> {
 
       default:
         // OLDDECIMAL, VARCHAR, DECIMAL, ENUM, VARSTRING, STRING:
+        if (NumberParser.isPlainDecimal(buf, length)) {
+          result = NumberParser.parseTruncatedLong(buf, length);
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -171,6 +180,16 @@ public class ShortCodec implements Codec<Short> {
     out.writeShortLE((Short) value);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return 6;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    return 2;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.SMALLINT;
   }
@@ -15,8 +15,10 @@ import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BufferUtils;
+import reactor.core.publisher.Flux;
 
 public class StreamCodec implements Codec<InputStream> {
 
@@ -98,6 +100,49 @@ public class StreamCodec implements Codec<InputStream> {
     val.release();
   }
 
+  @Override
+  public Flux<ByteBuf> encodeLongData(ByteBufAllocator allocator, Object value) {
+    InputStream is = (InputStream) value;
+    return Flux.generate(
+        sink -> {
+          ByteBuf chunk = allocator.ioBuffer(LongDataPacket.CHUNK_SIZE);
+          try {
+            int read;
+            do {
+              read = chunk.writeBytes(is, chunk.writableBytes());
+            } while (read >= 0 && chunk.isWritable());
+
+            if (chunk.isReadable()) {
+              sink.next(chunk);
+            } else {
+              chunk.release();
+            }
+            if (read < 0) sink.complete();
+          } catch (IOException ioe) {
+            chunk.release();
+            sink.error(
+                new R2dbcNonTransientResourceException(
+                    "Failed to read InputStream", "H1000", 9000, ioe));
+          }
+        });
+  }
+
+  public boolean isLongData() {
+    return true;
+  }
+
+  @Override
+  public int estimateTextLength(Object value) {
+    // content is only known once read
+    return BufferUtils.BINARY_PREFIX.length + 1;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    // content is only known once read
+    return 1;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.BLOB;
   }
@@ -5,6 +5,7 @@ package org.mariadb.r2dbc.codec.list;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -274,6 +275,17 @@ public class StringCodec implements Codec<String> {
     out.writeBytes(b);
   }
 
+  @Override
+  public int estimateTextLength(Object value) {
+    return ByteBufUtil.utf8Bytes((String) value) + 2;
+  }
+
+  @Override
+  public int estimateBinaryLength(Object value) {
+    int length = ByteBufUtil.utf8Bytes((String) value);
+    return BufferUtils.encodedLengthSize(length) + length;
+  }
+
   public DataType getBinaryEncodeType() {
     return DataType.TEXT;
   }
@@ -0,0 +1,20 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message;
+
+import org.mariadb.r2dbc.client.Client;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client message that refers to a server prepared statement. When replayed on a new connection,
+ * command must be re-prepared and statement id substituted.
+ */
+public interface RedoableWithPrepareClientMessage extends ClientMessage {
+
+  String getSql();
+
+  Mono<ClientMessage> rePrepare(Client client);
+
+  void forceStatementId(int statementId);
+}
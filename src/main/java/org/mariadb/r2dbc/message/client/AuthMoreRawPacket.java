@@ -8,6 +8,7 @@ import io.netty.buffer.ByteBufAllocator;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class AuthMoreRawPacket implements ClientMessage {
@@ -22,7 +23,7 @@ public final class AuthMoreRawPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer(raw.length);
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, raw.length);
     buf.writeBytes(raw);
     return Mono.just(buf);
   }
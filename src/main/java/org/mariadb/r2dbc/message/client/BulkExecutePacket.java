@@ -0,0 +1,204 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.client.Client;
+import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.message.RedoableWithPrepareClientMessage;
+import org.mariadb.r2dbc.message.server.Sequencer;
+import org.mariadb.r2dbc.util.Binding;
+import org.mariadb.r2dbc.util.BufferUtils;
+import org.mariadb.r2dbc.util.ServerPrepareResult;
+import reactor.core.publisher.Mono;
+
+/**
+ * COM_STMT_BULK_EXECUTE packet. See https://mariadb.com/kb/en/com_stmt_bulk_execute/
+ *
+ * <p>Send parameters of many bindings in one command. Encoding stops before max_allowed_packet is
+ * reached or when a parameter type change, {@link #getNextIndex()} indicating the first binding
+ * that still has to be sent.
+ */
+public final class BulkExecutePacket implements RedoableWithPrepareClientMessage {
+  private static final int SEND_TYPES_TO_SERVER = 128;
+  private static final byte INDICATOR_NONE = 0;
+  private static final byte INDICATOR_NULL = 1;
+
+  private final Binding[] bindings;
+  private final int startIndex;
+  private final int maxAllowedPacket;
+  private int statementId;
+  private final ServerPrepareResult prepareResult;
+  private final int parameterCount;
+  private final String sql;
+  private final MessageSequence sequencer = new Sequencer((byte) 0xff);
+  private int nextIndex;
+  private ByteBuf savedBuf = null;
+
+  public BulkExecutePacket(
+      String sql,
+      ServerPrepareResult prepareResult,
+      Binding[] bindings,
+      int startIndex,
+      int maxAllowedPacket) {
+    this.sql = sql;
+    this.bindings = bindings;
+    this.startIndex = startIndex;
+    this.nextIndex = startIndex;
+    this.maxAllowedPacket = maxAllowedPacket;
+    this.prepareResult = prepareResult;
+    this.statementId = prepareResult.getStatementId();
+    this.parameterCount = prepareResult.getNumParams();
+  }
+
+  /**
+   * Check that bindings can be sent using a bulk command: bulk command only permit parameters that
+   * can be written directly.
+   *
+   * @param bindings binding values
+   * @return true if bulk can be used
+   */
+  public static boolean canUseBulk(Binding[] bindings) {
+    for (Binding row : bindings) {
+      for (int i = 0; i < row.size(); i++) {
+        if (!row.isNull(i) && !row.getCodec(i).isDirect()) return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
+    if (savedBuf != null) {
+      ByteBuf tmp = savedBuf;
+      this.savedBuf = null;
+      return Mono.just(tmp);
+    }
+
+    // parameter types are those of first non-null value
+    DataType[] types = new DataType[parameterCount];
+    for (int i = 0; i < parameterCount; i++) {
+      types[i] = bindings[startIndex].getCodec(i).getBinaryEncodeType();
+      if (bindings[startIndex].isNull(i)) {
+        for (int row = startIndex + 1; row < bindings.length; row++) {
+          if (!bindings[row].isNull(i)) {
+            types[i] = bindings[row].getCodec(i).getBinaryEncodeType();
+            break;
+          }
+        }
+      }
+    }
+
+    // next COM_STMT_EXECUTE must send its own types
+    prepareResult.resetParameterTypes();
+
+    ByteBuf buf = BufferUtils.allocateMessage(allocator);
+    buf.writeByte(0xfa);
+    buf.writeIntLE(statementId);
+    buf.writeShortLE(SEND_TYPES_TO_SERVER);
+    for (int i = 0; i < parameterCount; i++) {
+      buf.writeShortLE(types[i].get());
+    }
+
+    int row = startIndex;
+    rowLoop:
+    for (; row < bindings.length; row++) {
+      Binding params = bindings[row];
+      if (row != startIndex) {
+        // parameter type change needs a new command
+        for (int i = 0; i < parameterCount; i++) {
+          if (!params.isNull(i) && params.getCodec(i).getBinaryEncodeType() != types[i]) {
+            break rowLoop;
+          }
+        }
+      }
+
+      int rowStartIndex = buf.writerIndex();
+      for (int i = 0; i < parameterCount; i++) {
+        if (params.isNull(i)) {
+          buf.writeByte(INDICATOR_NULL);
+        } else {
+          buf.writeByte(INDICATOR_NONE);
+          params.encodeDirectBinary(i, allocator, buf, context);
+        }
+      }
+
+      if (row != startIndex && buf.readableBytes() > maxAllowedPacket) {
+        // row will be sent in next command
+        buf.writerIndex(rowStartIndex);
+        break;
+      }
+    }
+    nextIndex = row;
+    return Mono.just(buf);
+  }
+
+  /**
+   * Index of first binding not sent by this command. Only valid once packet is encoded.
+   *
+   * @return next binding index
+   */
+  public int getNextIndex() {
+    return nextIndex;
+  }
+
+  public Mono<ClientMessage> rePrepare(Client client) {
+    ServerPrepareResult res;
+    if (client.getPrepareCache() != null && (res = client.getPrepareCache().get(sql)) != null) {
+      this.forceStatementId(res.getStatementId());
+      return Mono.just(this);
+    }
+    return client
+        .sendPrepare(new PreparePacket(sql), ExceptionFactory.INSTANCE, sql)
+        .flatMap(
+            serverPrepareResult -> {
+              this.forceStatementId(serverPrepareResult.getStatementId());
+              return Mono.just(this);
+            });
+  }
+
+  public void save(ByteBuf buf, int initialReaderIndex) {
+    savedBuf = buf.retainedDuplicate().readerIndex(initialReaderIndex);
+  }
+
+  public void releaseSave() {
+    if (savedBuf != null) {
+      savedBuf.release();
+      savedBuf = null;
+    }
+  }
+
+  public void forceStatementId(int statementId) {
+    this.statementId = statementId;
+    if (savedBuf != null) {
+      // replace byte at position 1 with new statement id
+      int writerIndex = this.savedBuf.writerIndex();
+      this.savedBuf.writerIndex(this.savedBuf.readerIndex() + 1);
+      this.savedBuf.writeIntLE(statementId);
+      this.savedBuf.writerIndex(writerIndex);
+    }
+  }
+
+  public MessageSequence getSequencer() {
+    return sequencer;
+  }
+
+  public void resetSequencer() {
+    sequencer.reset();
+  }
+
+  public String getSql() {
+    return sql;
+  }
+
+  @Override
+  public String toString() {
+    return "BulkExecutePacket{" + "sql='" + sql + '\'' + ", startIndex=" + startIndex + '}';
+  }
+}
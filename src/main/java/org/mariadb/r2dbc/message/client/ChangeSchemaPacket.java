@@ -8,6 +8,7 @@ import io.netty.buffer.ByteBufAllocator;
 import java.nio.charset.StandardCharsets;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 /**
@@ -28,7 +29,7 @@ public final class ChangeSchemaPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer();
+    ByteBuf buf = BufferUtils.allocateMessage(allocator);
     buf.writeByte(0x02);
     buf.writeCharSequence(this.schema, StandardCharsets.UTF_8);
     return Mono.just(buf);
@@ -9,6 +9,7 @@ import java.nio.charset.StandardCharsets;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class ClearPasswordPacket implements ClientMessage {
@@ -23,8 +24,8 @@ public final class ClearPasswordPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return Mono.just(allocator.ioBuffer(0));
-    ByteBuf buf = allocator.ioBuffer(password.length() * 4);
+    if (password == null) return Mono.just(BufferUtils.allocateMessage(allocator, 0));
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, password.length() * 4);
     buf.writeCharSequence(password, StandardCharsets.UTF_8);
     buf.writeByte(0);
     return Mono.just(buf);
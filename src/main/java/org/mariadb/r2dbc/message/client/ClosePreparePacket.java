@@ -7,6 +7,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 /**
@@ -23,7 +24,7 @@ public final class ClosePreparePacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer();
+    ByteBuf buf = BufferUtils.allocateMessage(allocator);
     buf.writeByte(0x19);
     buf.writeIntLE(statementId);
     return Mono.just(buf);
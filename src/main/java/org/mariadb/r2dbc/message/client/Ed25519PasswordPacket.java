@@ -17,6 +17,7 @@ import org.mariadb.r2dbc.authentication.standard.ed25519.spec.EdDSAParameterSpec
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class Ed25519PasswordPacket implements ClientMessage {
@@ -81,8 +82,8 @@ public final class Ed25519PasswordPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return Mono.just(allocator.ioBuffer(0));
-    ByteBuf buf = allocator.ioBuffer(64);
+    if (password == null) return Mono.just(BufferUtils.allocateMessage(allocator, 0));
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, 64);
     buf.writeBytes(ed25519SignWithPassword(password, seed));
     return Mono.just(buf);
   }
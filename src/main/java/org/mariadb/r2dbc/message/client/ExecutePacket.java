@@ -7,28 +7,95 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.client.Client;
+import org.mariadb.r2dbc.codec.Codec;
+import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.message.RedoableWithPrepareClientMessage;
 import org.mariadb.r2dbc.message.server.Sequencer;
 import org.mariadb.r2dbc.util.BindValue;
+import org.mariadb.r2dbc.util.Binding;
+import org.mariadb.r2dbc.util.BufferUtils;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public final class ExecutePacket implements ClientMessage {
-  private final BindValue[] bindValues;
+public final class ExecutePacket implements RedoableWithPrepareClientMessage {
+  private final Binding parameters;
   private int statementId;
+  private ServerPrepareResult prepareResult;
   private final int parameterCount;
   private final String sql;
+  private final boolean openCursor;
   private final MessageSequence sequencer = new Sequencer((byte) 0xff);
   private ByteBuf savedBuf = null;
+  // parameters whose value has been sent with COM_STMT_SEND_LONG_DATA
+  private boolean[] longDataSent = null;
 
   public ExecutePacket(String sql, ServerPrepareResult prepareResult, BindValue[] bindValues) {
+    this(sql, prepareResult, new Binding(bindValues), false);
+  }
+
+  /**
+   * Create COM_STMT_EXECUTE packet.
+   *
+   * @param sql sql command
+   * @param prepareResult prepare result, null if not known (will then use last prepared statement)
+   * @param parameters parameters, see {@link Binding#getBinaryParameters(int)}
+   * @param openCursor open a read-only cursor, rows then having to be fetched with COM_STMT_FETCH
+   */
+  public ExecutePacket(
+      String sql, ServerPrepareResult prepareResult, Binding parameters, boolean openCursor) {
     this.sql = sql;
-    this.bindValues = bindValues;
+    this.openCursor = openCursor;
+    this.parameters = parameters;
+    this.prepareResult = prepareResult;
     this.statementId = prepareResult == null ? -1 : prepareResult.getStatementId();
-    this.parameterCount = prepareResult == null ? bindValues.length : prepareResult.getNumParams();
+    this.parameterCount = prepareResult == null ? parameters.size() : prepareResult.getNumParams();
+  }
+
+  /**
+   * Indicate if some parameter values must be sent with COM_STMT_SEND_LONG_DATA before execute
+   * packet.
+   *
+   * @return true if some parameters are sent as long data
+   */
+  public boolean hasLongData() {
+    for (int i = 0; i < parameterCount; i++) {
+      if (!parameters.isNull(i) && parameters.getCodec(i).isLongData()) return true;
+    }
+    return false;
+  }
+
+  /**
+   * COM_STMT_SEND_LONG_DATA packets streaming long data parameter values in chunks, to be sent
+   * before execute packet.
+   *
+   * @param allocator buffer allocator
+   * @return long data packets
+   */
+  public Flux<LongDataPacket> encodeLongData(ByteBufAllocator allocator) {
+    return Flux.range(0, parameterCount)
+        .filter(i -> !parameters.isNull(i) && parameters.getCodec(i).isLongData())
+        .concatMap(
+            i ->
+                parameters
+                    .getCodec(i)
+                    .encodeLongData(allocator, parameters.getValue(i))
+                    .filter(
+                        buf -> {
+                          if (buf.isReadable()) return true;
+                          buf.release();
+                          return false;
+                        })
+                    .concatMapIterable(LongDataPacket::split)
+                    .map(
+                        chunk -> {
+                          if (longDataSent == null) longDataSent = new boolean[parameterCount];
+                          longDataSent[i] = true;
+                          return new LongDataPacket(statementId, i, chunk);
+                        }));
   }
 
   @Override
@@ -38,48 +105,71 @@ public final class ExecutePacket implements ClientMessage {
       this.savedBuf = null;
       return Mono.just(tmp);
     }
-    ByteBuf buf = allocator.ioBuffer();
-    buf.writeByte(0x17);
-    buf.writeIntLE(statementId);
-    buf.writeByte(0x00); // NO CURSOR
-    buf.writeIntLE(1); // Iteration pos
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, estimateLength());
+    if (prepareResult != null && prepareResult.getStatementId() == statementId) {
+      buf.writeBytes(prepareResult.getExecutePrefix(openCursor));
+    } else {
+      buf.writeByte(0x17);
+      buf.writeIntLE(statementId);
+      buf.writeByte(openCursor ? 0x01 : 0x00); // CURSOR_TYPE_READ_ONLY / NO CURSOR
+      buf.writeIntLE(1); // Iteration pos
+    }
 
     // create null bitmap
     boolean direct = true;
+    DataType[] sentTypes = null;
     if (parameterCount > 0) {
       int nullCount = (parameterCount + 7) / 8;
 
       byte[] nullBitsBuffer = new byte[nullCount];
       for (int i = 0; i < parameterCount; i++) {
-        BindValue param = bindValues[i];
-        if (param.isNull()) {
+        if (parameters.isNull(i)) {
           nullBitsBuffer[i / 8] |= (1 << (i % 8));
         }
-        if (!param.getCodec().isDirect()) {
+        Codec<?> codec = parameters.getCodec(i);
+        if (!codec.isDirect() && !codec.isLongData()) {
           direct = false;
         }
       }
       buf.writeBytes(nullBitsBuffer);
 
-      buf.writeByte(0x01); // Send Parameter type flag
-      // Store types of parameters in first package that is sent to the server.
-      for (int i = 0; i < parameterCount; i++) {
-        buf.writeShortLE(bindValues[i].getCodec().getBinaryEncodeType().get());
+      // server reuses types of previous execution when unchanged
+      if (prepareResult == null
+          || prepareResult.parameterTypesChanged(parameters, parameterCount)) {
+        buf.writeByte(0x01); // Send Parameter type flag
+        sentTypes = writeParameterTypes(buf);
+      } else {
+        buf.writeByte(0x00);
       }
     }
 
     if (direct) {
-      for (int i = 0; i < parameterCount; i++) {
-        if (!bindValues[i].isNull()) bindValues[i].encodeDirectBinary(allocator, buf, context);
+      try {
+        for (int i = 0; i < parameterCount; i++) {
+          if (parameters.isNull(i)) continue;
+          if (parameters.getCodec(i).isLongData()) {
+            encodeLongDataValue(buf, i);
+          } else {
+            parameters.encodeDirectBinary(i, allocator, buf, context);
+          }
+        }
+      } catch (Throwable t) {
+        buf.release();
+        failed();
+        return Mono.error(t);
       }
+      encoded(sentTypes);
       return Mono.just(buf);
     } else {
+      final DataType[] types = sentTypes;
       return Flux.range(0, parameterCount)
           .flatMap(
               i -> {
-                BindValue param = bindValues[i];
+                BindValue param = parameters.get(i);
                 if (param.getValue() != null) {
-                  if (param.getCodec().isDirect()) {
+                  if (param.getCodec().isLongData()) {
+                    encodeLongDataValue(buf, i);
+                  } else if (param.getCodec().isDirect()) {
                     param.encodeDirectBinary(allocator, buf, context);
                   } else {
                     return param
@@ -94,13 +184,56 @@ public final class ExecutePacket implements ClientMessage {
                 }
                 return Mono.empty();
               })
-          .then(Mono.just(buf));
+          .then(Mono.fromRunnable(() -> encoded(types)))
+          .thenReturn(buf)
+          .doOnError(
+              t -> {
+                buf.release();
+                failed();
+              });
+    }
+  }
+
+  private void encoded(DataType[] sentTypes) {
+    // packet is complete: record types only now, following packets being encoded after this one
+    if (sentTypes != null && prepareResult != null) prepareResult.setParameterTypes(sentTypes);
+  }
+
+  /**
+   * Encoding or command failed: types possibly not received by server must be sent again on next
+   * execution.
+   */
+  public void failed() {
+    if (prepareResult != null) prepareResult.resetParameterTypes();
+  }
+
+  private int estimateLength() {
+    // command, statement id, flags, iteration count, null bitmap, type flag and parameter types
+    int length = 10 + (parameterCount + 7) / 8 + 1 + 2 * parameterCount;
+    for (int i = 0; i < parameterCount; i++) {
+      length += parameters.estimateBinaryLength(i);
     }
+    return length;
+  }
+
+  private DataType[] writeParameterTypes(ByteBuf buf) {
+    DataType[] types = new DataType[parameterCount];
+    for (int i = 0; i < parameterCount; i++) {
+      types[i] = parameters.getCodec(i).getBinaryEncodeType();
+      buf.writeShortLE(types[i].get());
+    }
+    return types;
+  }
+
+  private void encodeLongDataValue(ByteBuf buf, int index) {
+    // value already sent, or empty
+    if (longDataSent == null || !longDataSent[index]) buf.writeByte(0x00);
   }
 
   public Mono<ClientMessage> rePrepare(Client client) {
     ServerPrepareResult res;
     if (client.getPrepareCache() != null && (res = client.getPrepareCache().get(sql)) != null) {
+      this.prepareResult = res;
       this.forceStatementId(res.getStatementId());
       return Mono.just(this);
     }
@@ -108,13 +241,14 @@ public final class ExecutePacket implements ClientMessage {
         .sendPrepare(new PreparePacket(sql), ExceptionFactory.INSTANCE, sql)
         .flatMap(
             serverPrepareResult -> {
+              this.prepareResult = serverPrepareResult;
               this.forceStatementId(serverPrepareResult.getStatementId());
               return Mono.just(this);
             });
   }
 
   public void save(ByteBuf buf, int initialReaderIndex) {
-    savedBuf = buf.readerIndex(initialReaderIndex).retain();
+    savedBuf = buf.retainedDuplicate().readerIndex(initialReaderIndex);
   }
 
   public void releaseSave() {
@@ -132,6 +266,24 @@ public final class ExecutePacket implements ClientMessage {
       this.savedBuf.writerIndex(this.savedBuf.readerIndex() + 1);
       this.savedBuf.writeIntLE(statementId);
       this.savedBuf.writerIndex(writerIndex);
+
+      // new statement doesn't know types of previous executions
+      int typeFlagIndex = this.savedBuf.readerIndex() + 10 + (parameterCount + 7) / 8;
+      if (parameterCount > 0 && this.savedBuf.getByte(typeFlagIndex) == 0x00) {
+        ByteBuf buf =
+            BufferUtils.allocateMessage(
+                this.savedBuf.alloc(), this.savedBuf.readableBytes() + 2 * parameterCount);
+        buf.writeBytes(
+            this.savedBuf,
+            this.savedBuf.readerIndex(),
+            typeFlagIndex - this.savedBuf.readerIndex());
+        buf.writeByte(0x01);
+        writeParameterTypes(buf);
+        buf.writeBytes(
+            this.savedBuf, typeFlagIndex + 1, this.savedBuf.writerIndex() - typeFlagIndex - 1);
+        this.savedBuf.release();
+        this.savedBuf = buf;
+      }
     }
   }
 
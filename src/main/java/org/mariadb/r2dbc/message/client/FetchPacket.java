@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.util.BufferUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * COM_STMT_FETCH packet, retrieving rows from a cursor opened by COM_STMT_EXECUTE. See
+ * https://mariadb.com/kb/en/com_stmt_fetch/
+ */
+public final class FetchPacket implements ClientMessage {
+
+  private final int statementId;
+  private final int fetchSize;
+
+  public FetchPacket(int statementId, int fetchSize) {
+    this.statementId = statementId;
+    this.fetchSize = fetchSize;
+  }
+
+  @Override
+  public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, 9);
+    buf.writeByte(0x1c);
+    buf.writeIntLE(statementId);
+    buf.writeIntLE(fetchSize);
+    return Mono.just(buf);
+  }
+
+  @Override
+  public String toString() {
+    return "FetchPacket{" + "statementId=" + statementId + ", fetchSize=" + fetchSize + '}';
+  }
+}
@@ -78,7 +78,7 @@ public final class HandshakeResponse implements ClientMessage {
             initialHandshakePacket.getMajorServerVersion(),
             initialHandshakePacket.getMinorServerVersion());
 
-    ByteBuf buf = allocator.buffer(4096);
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, 4096);
 
     final byte[] authData;
     String authenticationPluginType = initialHandshakePacket.getAuthenticationPluginType();
@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.message.server.Sequencer;
+import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.BufferUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * LOAD DATA LOCAL INFILE command. Query is sent as a COM_QUERY, then, once server asks for file
+ * content with a LOCAL_INFILE packet, content is streamed from publisher in packets of at most
+ * max_allowed_packet (and 16M) bytes, ending with an empty packet.
+ */
+public final class LoadDataPacket implements ClientMessage {
+
+  /** Maximum content length sent in one packet */
+  public static final int MAX_PACKET_LENGTH = 0xffffff;
+
+  private final String sql;
+  private final Publisher<ByteBuffer> data;
+  private final int maxPacketLength;
+  private final Sinks.One<Boolean> requested = Sinks.one();
+  private final MessageSequence sequencer = new Sequencer((byte) 0xff);
+  private volatile Throwable dataError;
+
+  public LoadDataPacket(String sql, Publisher<ByteBuffer> data, int maxAllowedPacket) {
+    this.sql = Assert.requireNonNull(sql, "query must not be null");
+    this.data = Assert.requireNonNull(data, "data must not be null");
+    this.maxPacketLength = Math.max(1, Math.min(maxAllowedPacket, MAX_PACKET_LENGTH));
+  }
+
+  @Override
+  public Mono<ByteBuf> encode(Context context, ByteBufAllocator byteBufAllocator) {
+    ByteBuf out = BufferUtils.allocateMessage(byteBufAllocator, this.sql.length() + 1);
+    out.writeByte(0x03);
+    out.writeCharSequence(this.sql, StandardCharsets.UTF_8);
+    return Mono.just(out);
+  }
+
+  /**
+   * Server response to command has been received.
+   *
+   * @param fileRequested true if server asks for file content, false if command ended without it
+   */
+  public void requested(boolean fileRequested) {
+    // server LOCAL_INFILE packet is part of exchange sequence
+    if (fileRequested) sequencer.next();
+    requested.tryEmitValue(fileRequested);
+  }
+
+  /**
+   * Emit true when file content must be sent, false if server didn't ask for it.
+   *
+   * @return server decision
+   */
+  public Mono<Boolean> onRequest() {
+    return requested.asMono();
+  }
+
+  /**
+   * File content, in buffers of at most min(max_allowed_packet, MAX_PACKET_LENGTH) bytes. Publisher
+   * error ends content early, error being then available with {@link #getDataError()}, since server
+   * always expects ending packet.
+   *
+   * @return file content
+   */
+  public Flux<ByteBuf> encodeData() {
+    return Flux.from(data)
+        // an empty packet would end content
+        .filter(ByteBuffer::hasRemaining)
+        .concatMapIterable(
+            bb -> {
+              ByteBuf buf = Unpooled.wrappedBuffer(bb);
+              if (buf.readableBytes() <= maxPacketLength) return Collections.singletonList(buf);
+              List<ByteBuf> parts = new ArrayList<>();
+              while (buf.readableBytes() > 0) {
+                parts.add(buf.readRetainedSlice(Math.min(maxPacketLength, buf.readableBytes())));
+              }
+              buf.release();
+              return parts;
+            })
+        .onErrorResume(
+            t -> {
+              dataError = t;
+              return Mono.empty();
+            });
+  }
+
+  public Throwable getDataError() {
+    return dataError;
+  }
+
+  public MessageSequence getSequencer() {
+    return sequencer;
+  }
+
+  @Override
+  public String toString() {
+    return "LoadDataPacket{" + "sql='" + sql + '\'' + '}';
+  }
+}
@@ -0,0 +1,45 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.util.BufferUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * Empty file content, answering a LOCAL_INFILE request that client doesn't satisfy, so server ends
+ * command with an OK or ERR packet.
+ */
+public final class LocalInfileEndPacket implements ClientMessage {
+
+  private final MessageSequence sequencer;
+
+  /**
+   * Create packet.
+   *
+   * @param sequencer LOCAL_INFILE packet sequencer, packet being sent with the next sequence
+   */
+  public LocalInfileEndPacket(MessageSequence sequencer) {
+    this.sequencer = sequencer;
+  }
+
+  @Override
+  public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
+    return Mono.just(BufferUtils.allocateMessage(allocator, 0));
+  }
+
+  @Override
+  public MessageSequence getSequencer() {
+    return sequencer;
+  }
+
+  @Override
+  public String toString() {
+    return "LocalInfileEndPacket{}";
+  }
+}
@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.message.server.Sequencer;
+import reactor.core.publisher.Mono;
+
+/**
+ * COM_STMT_SEND_LONG_DATA packet, sending a part of a parameter value before statement execution.
+ * Server doesn't send any response to this command.
+ */
+public final class LongDataPacket implements ClientMessage {
+
+  /** Maximum data length sent in one packet */
+  public static final int CHUNK_SIZE = 64 * 1024;
+
+  private final int statementId;
+  private final int parameterIndex;
+  private final ByteBuf data;
+  private final MessageSequence sequencer = new Sequencer((byte) 0xff);
+
+  /**
+   * Create COM_STMT_SEND_LONG_DATA packet. Packet takes ownership of data buffer.
+   *
+   * @param statementId statement id, -1 for last prepared statement
+   * @param parameterIndex parameter index
+   * @param data data, at most CHUNK_SIZE long
+   */
+  public LongDataPacket(int statementId, int parameterIndex, ByteBuf data) {
+    this.statementId = statementId;
+    this.parameterIndex = parameterIndex;
+    this.data = data;
+  }
+
+  /**
+   * Split buffer in parts of at most CHUNK_SIZE bytes. Parts take ownership of buffer.
+   *
+   * @param buf buffer
+   * @return buffer parts
+   */
+  public static List<ByteBuf> split(ByteBuf buf) {
+    if (buf.readableBytes() <= CHUNK_SIZE) return Collections.singletonList(buf);
+    List<ByteBuf> parts = new ArrayList<>(buf.readableBytes() / CHUNK_SIZE + 1);
+    while (buf.readableBytes() > 0) {
+      parts.add(buf.readRetainedSlice(Math.min(CHUNK_SIZE, buf.readableBytes())));
+    }
+    buf.release();
+    return parts;
+  }
+
+  @Override
+  public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
+    ByteBuf header = allocator.ioBuffer(7);
+    header.writeByte(0x18);
+    header.writeIntLE(statementId);
+    header.writeShortLE(parameterIndex);
+    return Mono.just(allocator.compositeBuffer(2).addComponents(true, header, data));
+  }
+
+  public MessageSequence getSequencer() {
+    return sequencer;
+  }
+
+  @Override
+  public String toString() {
+    return "LongDataPacket{"
+        + "statementId="
+        + statementId
+        + ", parameterIndex="
+        + parameterIndex
+        + ", length="
+        + data.readableBytes()
+        + '}';
+  }
+}
@@ -11,6 +11,7 @@ import java.security.NoSuchAlgorithmException;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class NativePasswordPacket implements ClientMessage {
@@ -57,8 +58,8 @@ public final class NativePasswordPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return Mono.just(allocator.ioBuffer(0));
-    ByteBuf buf = allocator.ioBuffer(32);
+    if (password == null) return Mono.just(BufferUtils.allocateMessage(allocator, 0));
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, 32);
     buf.writeBytes(encrypt(password, seed));
     return Mono.just(buf);
   }
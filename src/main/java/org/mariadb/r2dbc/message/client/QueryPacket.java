@@ -11,6 +11,7 @@ import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
 import org.mariadb.r2dbc.message.server.Sequencer;
 import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class QueryPacket implements ClientMessage {
@@ -24,7 +25,7 @@ public final class QueryPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator byteBufAllocator) {
-    ByteBuf out = byteBufAllocator.ioBuffer(this.sql.length() + 1);
+    ByteBuf out = BufferUtils.allocateMessage(byteBufAllocator, this.sql.length() + 1);
     out.writeByte(0x03);
     out.writeCharSequence(this.sql, StandardCharsets.UTF_8);
     return Mono.just(out);
@@ -13,6 +13,7 @@ import org.mariadb.r2dbc.message.MessageSequence;
 import org.mariadb.r2dbc.message.server.Sequencer;
 import org.mariadb.r2dbc.util.Assert;
 import org.mariadb.r2dbc.util.BindValue;
+import org.mariadb.r2dbc.util.BufferUtils;
 import org.mariadb.r2dbc.util.ClientParser;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -48,7 +49,12 @@ public final class QueryWithParametersPacket implements ClientMessage {
                 : " RETURNING " + String.join(", ", generatedColumns))
             : null;
 
-    ByteBuf out = byteBufAllocator.ioBuffer();
+    int estimatedLength = 1 + parser.getQuery().length;
+    if (additionalReturningPart != null) estimatedLength += additionalReturningPart.length();
+    for (int i = 0; i < parser.getParamCount(); i++) {
+      estimatedLength += bindValues[i].estimateTextLength();
+    }
+    ByteBuf out = BufferUtils.allocateMessage(byteBufAllocator, estimatedLength);
     out.writeByte(0x03);
 
     if (parser.getParamCount() == 0) {
@@ -132,7 +138,7 @@ public final class QueryWithParametersPacket implements ClientMessage {
   }
 
   public void save(ByteBuf buf, int initialReaderIndex) {
-    savedBuf = buf.readerIndex(initialReaderIndex).retain();
+    savedBuf = buf.retainedDuplicate().readerIndex(initialReaderIndex);
   }
 
   public void resetSequencer() {
@@ -0,0 +1,30 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.util.BufferUtils;
+import reactor.core.publisher.Mono;
+
+/**
+ * COM_RESET_CONNECTION: reset session state (rollback transaction, drop temporary tables, close
+ * server prepared statements, reset session variables) without re-authentication.
+ */
+public final class ResetConnectionPacket implements ClientMessage {
+
+  @Override
+  public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
+    ByteBuf buf = BufferUtils.allocateMessage(allocator);
+    buf.writeByte(0x1f);
+    return Mono.just(buf);
+  }
+
+  @Override
+  public String toString() {
+    return "ResetConnectionPacket{}";
+  }
+}
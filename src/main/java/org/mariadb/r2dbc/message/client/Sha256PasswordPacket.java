@@ -14,6 +14,7 @@ import javax.crypto.Cipher;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class Sha256PasswordPacket implements ClientMessage {
@@ -67,8 +68,8 @@ public final class Sha256PasswordPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return Mono.just(allocator.ioBuffer(0));
-    ByteBuf buf = allocator.ioBuffer(256);
+    if (password == null) return Mono.just(BufferUtils.allocateMessage(allocator, 0));
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, 256);
     buf.writeBytes(encrypt(publicKey, password, seed));
     return Mono.just(buf);
   }
@@ -8,6 +8,7 @@ import io.netty.buffer.ByteBufAllocator;
 import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class Sha2PublicKeyRequestPacket implements ClientMessage {
@@ -20,7 +21,7 @@ public final class Sha2PublicKeyRequestPacket implements ClientMessage {
 
   @Override
   public Mono<ByteBuf> encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer(1);
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, 1);
     buf.writeByte(0x02);
     return Mono.just(buf);
   }
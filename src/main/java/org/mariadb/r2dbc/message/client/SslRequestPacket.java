@@ -9,6 +9,7 @@ import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.MessageSequence;
 import org.mariadb.r2dbc.message.server.InitialHandshakePacket;
+import org.mariadb.r2dbc.util.BufferUtils;
 import reactor.core.publisher.Mono;
 
 public final class SslRequestPacket implements ClientMessage {
@@ -30,7 +31,7 @@ public final class SslRequestPacket implements ClientMessage {
             initialHandshakePacket.getMajorServerVersion(),
             initialHandshakePacket.getMinorServerVersion());
 
-    ByteBuf buf = allocator.buffer(32, 32);
+    ByteBuf buf = BufferUtils.allocateMessage(allocator, 32);
 
     buf.writeIntLE((int) clientCapabilities);
     buf.writeIntLE(1024 * 1024 * 1024);
@@ -64,6 +64,9 @@ public final class AuthenticationFlow {
         .doOnNext(
             state -> {
               if (State.COMPLETED == state) {
+                if ((flow.clientCapabilities & Capabilities.COMPRESS) > 0) {
+                  flow.client.enableCompression();
+                }
                 if (flow.authMoreDataPacket != null) {
                   flow.authMoreDataPacket.release();
                   flow.authMoreDataPacket = null;
@@ -121,6 +124,18 @@ public final class AuthenticationFlow {
       capabilities |= Capabilities.CONNECT_WITH_DB;
     }
 
+    if (configuration.useBulkStmts()) {
+      capabilities |= Capabilities.MARIADB_CLIENT_STMT_BULK_OPERATIONS;
+    }
+
+    if (configuration.useCompression()) {
+      capabilities |= Capabilities.COMPRESS;
+    }
+
+    if (configuration.allowLocalInfile()) {
+      capabilities |= Capabilities.LOCAL_FILES;
+    }
+
     return capabilities & serverCapabilities;
   }
 
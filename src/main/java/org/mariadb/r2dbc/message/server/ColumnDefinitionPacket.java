@@ -135,6 +135,28 @@ public final class ColumnDefinitionPacket
         meta, charset, length, dataType, decimals, flags, ending, conf);
   }
 
+  /**
+   * Indicate if a column definition packet body describes exactly this column, permitting to reuse
+   * this instance instead of decoding a new one. Buffer reader index is not modified.
+   *
+   * @param buf column definition packet body
+   * @return true if identical
+   */
+  public boolean isSameDefinition(ByteBuf buf) {
+    int metaLength = buf.readableBytes() - 12;
+    if (ending || metaLength != this.meta.length) return false;
+    int idx = buf.readerIndex();
+    for (int i = 0; i < metaLength; i++) {
+      if (buf.getByte(idx + i) != this.meta[i]) return false;
+    }
+    idx += metaLength;
+    return buf.getUnsignedShortLE(idx) == this.charset
+        && buf.getUnsignedIntLE(idx + 2) == this.length
+        && DataType.fromServer(buf.getUnsignedByte(idx + 6), this.charset) == this.dataType
+        && buf.getUnsignedShortLE(idx + 7) == this.flags
+        && buf.getByte(idx + 9) == this.decimals;
+  }
+
   public static ColumnDefinitionPacket fromGeneratedId(
       String name, MariadbConnectionConfiguration conf) {
     return new ColumnDefinitionPacket(name, conf);
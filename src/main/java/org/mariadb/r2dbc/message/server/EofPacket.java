@@ -35,12 +35,52 @@ public class EofPacket implements ServerMessage {
     short warningCount = buf.readShortLE();
     short serverStatus = buf.readShortLE();
     context.setServerStatus(serverStatus);
+    // intermediate EOF ends exchange when a cursor is opened: rows are then retrieved by fetching
     return new EofPacket(
         sequencer,
         serverStatus,
         warningCount,
         resultSetEnd,
-        resultSetEnd && (serverStatus & ServerStatus.MORE_RESULTS_EXISTS) == 0);
+        resultSetEnd
+            ? (serverStatus & ServerStatus.MORE_RESULTS_EXISTS) == 0
+            : (serverStatus & ServerStatus.CURSOR_EXISTS) > 0);
+  }
+
+  /**
+   * Decode EOF ending a COM_STMT_FETCH response. Result-set ends when cursor has no more rows.
+   *
+   * @param sequencer sequencer
+   * @param buf current EOF buf
+   * @param context current context
+   * @return Eof packet
+   */
+  public static EofPacket decodeFetch(Sequencer sequencer, ByteBuf buf, Context context) {
+    buf.skipBytes(1);
+    short warningCount = buf.readShortLE();
+    short serverStatus = buf.readShortLE();
+    context.setServerStatus(serverStatus);
+    boolean resultSetEnd =
+        (serverStatus & ServerStatus.LAST_ROW_SENT) > 0
+            || (serverStatus & ServerStatus.CURSOR_EXISTS) == 0;
+    return new EofPacket(sequencer, serverStatus, warningCount, resultSetEnd, true);
+  }
+
+  /**
+   * Indicate if this EOF ends a COM_STMT_EXECUTE response having opened a cursor.
+   *
+   * @return true if cursor has been opened
+   */
+  public boolean cursorOpened() {
+    return !resultSetEnd && ending;
+  }
+
+  /**
+   * Cursor opening EOF ends the execute exchange, but result-set continues with fetched rows.
+   *
+   * @return intermediate EOF equivalent
+   */
+  public EofPacket asIntermediate() {
+    return new EofPacket(sequencer, serverStatus, warningCount, false, false);
   }
 
   /**
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.server;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.StandardCharsets;
+import org.mariadb.r2dbc.message.ServerMessage;
+
+/** LOCAL_INFILE request: server asks for file content after a LOAD DATA LOCAL INFILE command. */
+public class LocalInfilePacket implements ServerMessage {
+
+  private final Sequencer sequencer;
+  private final String fileName;
+
+  public LocalInfilePacket(Sequencer sequencer, String fileName) {
+    this.sequencer = sequencer;
+    this.fileName = fileName;
+  }
+
+  public static LocalInfilePacket decode(Sequencer sequencer, ByteBuf buf) {
+    buf.skipBytes(1);
+    return new LocalInfilePacket(sequencer, buf.toString(StandardCharsets.UTF_8));
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public Sequencer getSequencer() {
+    return sequencer;
+  }
+}
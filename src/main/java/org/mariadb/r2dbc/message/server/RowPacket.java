@@ -5,11 +5,13 @@ package org.mariadb.r2dbc.message.server;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.util.ReferenceCounted;
+import org.mariadb.r2dbc.client.StreamedValue;
 import org.mariadb.r2dbc.message.ServerMessage;
 
 public final class RowPacket implements ServerMessage, ReferenceCounted {
 
   private final ByteBuf raw;
+  private StreamedValue largeValue;
 
   public RowPacket(ByteBuf raw) {
     this.raw = raw.retain();
@@ -19,6 +21,19 @@ public final class RowPacket implements ServerMessage, ReferenceCounted {
     return raw;
   }
 
+  /**
+   * Last column value, when streamed from network instead of being part of raw row.
+   *
+   * @return streamed value, or null
+   */
+  public StreamedValue getLargeValue() {
+    return largeValue;
+  }
+
+  public void setLargeValue(StreamedValue largeValue) {
+    this.largeValue = largeValue;
+  }
+
   @Override
   public int refCnt() {
     return raw.refCnt();
@@ -49,11 +64,19 @@ public final class RowPacket implements ServerMessage, ReferenceCounted {
   }
 
   public boolean release() {
+    releaseLargeValue();
     return raw.release();
   }
 
   @Override
   public boolean release(int decrement) {
+    releaseLargeValue();
     return raw.release(decrement);
   }
+
+  // raw may be a slice sharing reference count: large value is drained on first release if not
+  // already retrieved
+  private void releaseLargeValue() {
+    if (largeValue != null) largeValue.release();
+  }
 }
@@ -58,6 +58,26 @@ public class BindValue {
     this.codec.encodeDirectBinary(allocator, out, this.value, context);
   }
 
+  /**
+   * Estimate encoded value length, see {@link Codec#estimateTextLength(Object)}.
+   *
+   * @return estimated length in bytes
+   */
+  public int estimateTextLength() {
+    // NULL values are written as 'null'
+    return this.value == null ? 4 : this.codec.estimateTextLength(this.value);
+  }
+
+  /**
+   * Estimate encoded value length, see {@link Codec#estimateBinaryLength(Object)}.
+   *
+   * @return estimated length in bytes
+   */
+  public int estimateBinaryLength() {
+    // NULL values are only indicated in null bitmap
+    return this.value == null ? 0 : this.codec.estimateBinaryLength(this.value);
+  }
+
   public Mono<ByteBuf> encodeText(ByteBufAllocator allocator, Context context) {
     return this.codec.encodeText(allocator, this.value, context);
   }
@@ -3,9 +3,16 @@
 
 package org.mariadb.r2dbc.util;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import java.util.Arrays;
 import java.util.Objects;
 import org.mariadb.r2dbc.MariadbCommonStatement;
+import org.mariadb.r2dbc.codec.Codec;
+import org.mariadb.r2dbc.codec.list.DoubleCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.LongCodec;
+import org.mariadb.r2dbc.message.Context;
 import reactor.util.Logger;
 import reactor.util.Loggers;
 
@@ -13,6 +20,12 @@ public final class Binding {
   private static final Logger LOGGER = Loggers.getLogger(Binding.class);
 
   private BindValue[] binds;
+
+  // values set without boxing, stored by parameter index: codec (null when value is in binds) and
+  // value, double values being stored as raw long bits. Allocated on first primitive value.
+  private Codec<?>[] primitiveCodecs;
+  private long[] primitives;
+
   private final int expectedSize;
   private int currentSize = 0;
 
@@ -22,7 +35,76 @@ public final class Binding {
         new BindValue[(expectedSize == MariadbCommonStatement.UNKNOWN_SIZE) ? 10 : expectedSize];
   }
 
+  /**
+   * Create binding with parameters already set.
+   *
+   * @param binds parameters
+   */
+  public Binding(BindValue[] binds) {
+    this(binds, null, null, binds.length);
+  }
+
+  private Binding(BindValue[] binds, Codec<?>[] primitiveCodecs, long[] primitives, int size) {
+    this.binds = binds;
+    this.primitiveCodecs = primitiveCodecs;
+    this.primitives = primitives;
+    this.expectedSize = size;
+    this.currentSize = size;
+  }
+
   public Binding add(int index, BindValue parameter) {
+    ensureIndex(index);
+    this.binds[index] = parameter;
+    if (this.primitiveCodecs != null) this.primitiveCodecs[index] = null;
+    return this;
+  }
+
+  /**
+   * Set int parameter, without boxing.
+   *
+   * @param index parameter index
+   * @param value value
+   * @return this binding
+   */
+  public Binding addInt(int index, int value) {
+    return addPrimitive(index, IntCodec.INSTANCE, value);
+  }
+
+  /**
+   * Set long parameter, without boxing.
+   *
+   * @param index parameter index
+   * @param value value
+   * @return this binding
+   */
+  public Binding addLong(int index, long value) {
+    return addPrimitive(index, LongCodec.INSTANCE, value);
+  }
+
+  /**
+   * Set double parameter, without boxing.
+   *
+   * @param index parameter index
+   * @param value value
+   * @return this binding
+   */
+  public Binding addDouble(int index, double value) {
+    return addPrimitive(index, DoubleCodec.INSTANCE, Double.doubleToRawLongBits(value));
+  }
+
+  private Binding addPrimitive(int index, Codec<?> codec, long value) {
+    ensureIndex(index);
+    if (this.primitiveCodecs == null) {
+      this.primitiveCodecs = new Codec<?>[this.binds.length];
+      this.primitives = new long[this.binds.length];
+    }
+    this.binds[index] = null;
+    this.primitiveCodecs[index] = codec;
+    this.primitives[index] = value;
+    return this;
+  }
+
+  private void ensureIndex(int index) {
     if (index >= this.expectedSize) {
       if (expectedSize != MariadbCommonStatement.UNKNOWN_SIZE) {
         throw new IndexOutOfBoundsException(
@@ -32,21 +114,113 @@ public final class Binding {
       grow(index + 1);
     }
     if (index >= currentSize) currentSize = index + 1;
-    this.binds[index] = parameter;
-    return this;
   }
 
   private void grow(int minLength) {
     int currLength = this.binds.length;
     int newLength = Math.max(currLength + (currLength >> 1), minLength);
     this.binds = Arrays.copyOf(this.binds, newLength);
+    if (this.primitiveCodecs != null) {
+      this.primitiveCodecs = Arrays.copyOf(this.primitiveCodecs, newLength);
+      this.primitives = Arrays.copyOf(this.primitives, newLength);
+    }
   }
 
   public void clear() {
     this.binds = new BindValue[expectedSize];
+    this.primitiveCodecs = null;
+    this.primitives = null;
     this.currentSize = 0;
   }
 
+  private boolean isPrimitive(int index) {
+    return this.primitiveCodecs != null && this.primitiveCodecs[index] != null;
+  }
+
+  private boolean isSet(int index) {
+    return this.binds[index] != null || isPrimitive(index);
+  }
+
+  /**
+   * Parameter codec.
+   *
+   * @param index parameter index
+   * @return codec
+   */
+  public Codec<?> getCodec(int index) {
+    return isPrimitive(index) ? this.primitiveCodecs[index] : this.binds[index].getCodec();
+  }
+
+  /**
+   * Indicate if parameter is null.
+   *
+   * @param index parameter index
+   * @return true if parameter value is null
+   */
+  public boolean isNull(int index) {
+    return !isPrimitive(index) && this.binds[index].isNull();
+  }
+
+  /**
+   * Parameter value, primitive values being boxed.
+   *
+   * @param index parameter index
+   * @return value
+   */
+  public Object getValue(int index) {
+    if (!isPrimitive(index)) return this.binds[index].getValue();
+    long value = this.primitives[index];
+    Codec<?> codec = this.primitiveCodecs[index];
+    if (codec == IntCodec.INSTANCE) return (int) value;
+    if (codec == DoubleCodec.INSTANCE) return Double.longBitsToDouble(value);
+    return value;
+  }
+
+  /**
+   * Parameter, see {@link BindValue#encodeDirectBinary(ByteBufAllocator, ByteBuf, Context)}.
+   *
+   * @param index parameter index
+   * @param allocator buffer allocator
+   * @param out buffer
+   * @param context connection context
+   */
+  public void encodeDirectBinary(
+      int index, ByteBufAllocator allocator, ByteBuf out, Context context) {
+    if (!isPrimitive(index)) {
+      this.binds[index].encodeDirectBinary(allocator, out, context);
+      return;
+    }
+    long value = this.primitives[index];
+    if (this.primitiveCodecs[index] == IntCodec.INSTANCE) {
+      out.writeIntLE((int) value);
+    } else {
+      // long, or double raw bits
+      out.writeLongLE(value);
+    }
+  }
+
+  /**
+   * Parameter, see {@link BindValue#estimateBinaryLength()}.
+   *
+   * @param index parameter index
+   * @return estimated length in bytes
+   */
+  public int estimateBinaryLength(int index) {
+    if (!isPrimitive(index)) return this.binds[index].estimateBinaryLength();
+    return this.primitiveCodecs[index] == IntCodec.INSTANCE ? 4 : 8;
+  }
+
+  /**
+   * Parameter as BindValue, primitive values being boxed.
+   *
+   * @param index parameter index
+   * @return parameter
+   */
+  public BindValue get(int index) {
+    if (!isPrimitive(index)) return this.binds[index];
+    return new BindValue(this.primitiveCodecs[index], getValue(index));
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -56,60 +230,115 @@ public final class Binding {
       return false;
     }
     Binding that = (Binding) o;
-    return Objects.equals(this.binds, that.binds);
+    return Objects.equals(this.binds, that.binds)
+        && Arrays.equals(this.primitiveCodecs, that.primitiveCodecs)
+        && Arrays.equals(this.primitives, that.primitives);
   }
 
   @Override
   public int hashCode() {
     int result = Objects.hash(expectedSize);
     result = 31 * result + Arrays.hashCode(binds);
+    result = 31 * result + Arrays.hashCode(primitives);
     return result;
   }
 
   @Override
   public String toString() {
-    return Arrays.toString(this.binds);
+    if (this.primitiveCodecs == null) return Arrays.toString(this.binds);
+    BindValue[] values = new BindValue[this.binds.length];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = isPrimitive(i) ? get(i) : this.binds[i];
+    }
+    return Arrays.toString(values);
   }
 
   public void validate(int expectedSize) {
     // valid parameters
     for (int i = 0; i < expectedSize; i++) {
-      if (binds[i] == null) {
+      if (!isSet(i)) {
         throw new IllegalStateException(String.format("Parameter at position %d is not set", i));
       }
     }
   }
 
-  public BindValue[] getBindResultParameters(int paramNumber) {
-    if (paramNumber == 0) {
-      return new BindValue[0];
-    }
-
+  private void checkParameters(int paramNumber) {
     if (paramNumber < this.binds.length) {
       throw new IllegalStateException(
           String.format("No parameter specified for index %d", this.binds.length));
     }
 
     for (int i = 0; i < paramNumber; i++) {
-      if (this.binds[i] == null) {
+      if (!isSet(i)) {
         throw new IllegalStateException(String.format("No parameter specified for index %d", i));
       }
     }
+    if (paramNumber > expectedSize) {
+      throw new IllegalStateException(
+          String.format("No parameter specified for index %d", expectedSize));
+    }
+  }
+
+  public BindValue[] getBindResultParameters(int paramNumber) {
+    if (paramNumber == 0) {
+      return new BindValue[0];
+    }
+    checkParameters(paramNumber);
+    if (this.primitiveCodecs != null) {
+      BindValue[] values = new BindValue[paramNumber];
+      for (int i = 0; i < paramNumber; i++) values[i] = get(i);
+      return values;
+    }
     if (paramNumber == expectedSize) return binds;
-    if (paramNumber < expectedSize) {
-      return Arrays.copyOfRange(binds, 0, paramNumber);
+    return Arrays.copyOfRange(binds, 0, paramNumber);
+  }
+
+  /**
+   * Parameters for binary protocol, primitive values being kept unboxed. Returned binding shares
+   * values with this binding, and is not affected by a later {@link #clear()}.
+   *
+   * @param paramNumber number of parameters
+   * @return parameters
+   */
+  public Binding getBinaryParameters(int paramNumber) {
+    if (paramNumber != 0) checkParameters(paramNumber);
+    return new Binding(this.binds, this.primitiveCodecs, this.primitives, paramNumber);
+  }
+
+  /**
+   * Parameters for binary protocol, when number of parameters is not known, see {@link
+   * #getBinaryParameters(int)}.
+   *
+   * @return parameters
+   */
+  public Binding getBinaryParameters() {
+    for (int i = 0; i < currentSize; i++) {
+      if (!isSet(i)) {
+        throw new IllegalStateException(String.format("No parameter specified for index %d", i));
+      }
     }
-    throw new IllegalStateException(
-        String.format("No parameter specified for index %d", expectedSize));
+    return new Binding(this.binds, this.primitiveCodecs, this.primitives, currentSize);
+  }
+
+  /**
+   * Number of parameters.
+   *
+   * @return number of parameters set
+   */
+  public int size() {
+    return this.currentSize;
   }
 
   public BindValue[] getBinds() {
 
     for (int i = 0; i < currentSize; i++) {
-      if (this.binds[i] == null) {
+      if (!isSet(i)) {
         throw new IllegalStateException(String.format("No parameter specified for index %d", i));
       }
     }
-    return Arrays.copyOfRange(binds, 0, currentSize);
+    if (this.primitiveCodecs == null) return Arrays.copyOfRange(binds, 0, currentSize);
+    BindValue[] values = new BindValue[currentSize];
+    for (int i = 0; i < currentSize; i++) values[i] = get(i);
+    return values;
   }
 }
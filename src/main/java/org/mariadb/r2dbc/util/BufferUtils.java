@@ -22,6 +22,9 @@ public final class BufferUtils {
   public static final byte[] BINARY_PREFIX = {'_', 'b', 'i', 'n', 'a', 'r', 'y', ' ', '\''};
   public static final byte[] STRING_PREFIX = {'\''};
 
+  /** Packet header length, reserved before client message content */
+  public static final int HEADER_LENGTH = 4;
+
   private static final DateTimeFormatter TIMESTAMP_FORMAT =
       DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
   private static final DateTimeFormatter TIMESTAMP_FORMAT_NO_FRACTIONAL =
@@ -73,6 +76,19 @@ public final class BufferUtils {
     return buf.slice(buf.readerIndex() - length, length);
   }
 
+  /**
+   * Number of bytes of length encoded integer, like written by {@link #encodeLength(int)}.
+   *
+   * @param length length to encode
+   * @return encoded length size in bytes
+   */
+  public static int encodedLengthSize(int length) {
+    if (length < 251) return 1;
+    if (length < 65536) return 3;
+    if (length < 16777216) return 4;
+    return 9;
+  }
+
   public static byte[] encodeLength(int length) {
     if (length < 251) {
       return new byte[] {(byte) length};
@@ -105,6 +121,31 @@ public final class BufferUtils {
     buf.writeBytes(bytes);
   }
 
+  /**
+   * Allocate client message buffer, reserving packet header space before reader index, so that
+   * encoder can write header in place.
+   *
+   * @param allocator allocator
+   * @param initialCapacity expected content length
+   * @return empty message buffer
+   */
+  public static ByteBuf allocateMessage(ByteBufAllocator allocator, int initialCapacity) {
+    return allocator
+        .ioBuffer(HEADER_LENGTH + initialCapacity)
+        .setIndex(HEADER_LENGTH, HEADER_LENGTH);
+  }
+
+  /**
+   * Allocate client message buffer of default capacity, reserving packet header space before reader
+   * index.
+   *
+   * @param allocator allocator
+   * @return empty message buffer
+   */
+  public static ByteBuf allocateMessage(ByteBufAllocator allocator) {
+    return allocator.ioBuffer().setIndex(HEADER_LENGTH, HEADER_LENGTH);
+  }
+
   public static ByteBuf encodeByte(ByteBufAllocator allocator, int value) {
     ByteBuf byteBuf = allocator.buffer();
     byteBuf.writeByte(value);
@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.util;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded concurrent cache with CLOCK (second chance) eviction.
+ *
+ * <p>Reads are lock-free and only mark the entry as referenced, contrary to an access-ordered
+ * {@link LinkedHashMap} that reorders entries on each read. When size exceeds maximum size, entries
+ * are examined in insertion order: referenced entries get a second chance (flag cleared, moved to
+ * the end), first non-referenced entry is evicted.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ClockCache<K, V> {
+
+  private final int maxSize;
+  private final ConcurrentHashMap<K, Node<K, V>> map;
+  private final ConcurrentLinkedQueue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  // replaced or removed nodes still in clock queue
+  private final AtomicInteger stale = new AtomicInteger();
+  private final int staleThreshold;
+  private final BiConsumer<K, V> evictionListener;
+
+  public ClockCache(int maxSize) {
+    this(maxSize, null);
+  }
+
+  /**
+   * Create cache.
+   *
+   * @param maxSize maximum number of entries
+   * @param evictionListener listener called when an entry is evicted because cache is full. Not
+   *     called when entry is replaced or removed.
+   */
+  public ClockCache(int maxSize, BiConsumer<K, V> evictionListener) {
+    this.maxSize = maxSize;
+    this.map = new ConcurrentHashMap<>(Math.max(16, Math.min(maxSize, 1024) * 4 / 3));
+    this.evictionListener = evictionListener;
+    this.staleThreshold = Math.max(16, maxSize);
+  }
+
+  public V get(K key) {
+    Node<K, V> node = map.get(key);
+    if (node == null) return null;
+    if (!node.referenced) node.referenced = true;
+    return node.value;
+  }
+
+  /**
+   * Add value if key is not already cached.
+   *
+   * @param key key
+   * @param value value
+   * @return existing value if any, null if value has been added
+   */
+  public V putIfAbsent(K key, V value) {
+    Node<K, V> node = new Node<>(key, value);
+    Node<K, V> existing = map.putIfAbsent(key, node);
+    if (existing != null) {
+      existing.referenced = true;
+      return existing.value;
+    }
+    clock.offer(node);
+    if (size.incrementAndGet() > maxSize) evict();
+    return null;
+  }
+
+  /**
+   * Add value, replacing existing value if any.
+   *
+   * @param key key
+   * @param value value
+   */
+  public void put(K key, V value) {
+    Node<K, V> node = new Node<>(key, value);
+    Node<K, V> previous = map.put(key, node);
+    clock.offer(node);
+    if (previous == null) {
+      if (size.incrementAndGet() > maxSize) evict();
+    } else {
+      // replaced node stays in clock queue until polled or compacted
+      markStale();
+    }
+  }
+
+  public V remove(K key) {
+    Node<K, V> node = map.remove(key);
+    if (node == null) return null;
+    size.decrementAndGet();
+    markStale();
+    return node.value;
+  }
+
+  private void markStale() {
+    if (stale.incrementAndGet() > staleThreshold) {
+      stale.set(0);
+      clock.removeIf(node -> map.get(node.key) != node);
+    }
+  }
+
+  private void evict() {
+    Node<K, V> node;
+    while (size.get() > maxSize && (node = clock.poll()) != null) {
+      if (map.get(node.key) != node) {
+        // removed or replaced entry
+        if (stale.get() > 0) stale.decrementAndGet();
+        continue;
+      }
+      if (node.referenced) {
+        node.referenced = false;
+        clock.offer(node);
+        continue;
+      }
+      if (map.remove(node.key, node)) {
+        size.decrementAndGet();
+        if (evictionListener != null) evictionListener.accept(node.key, node.value);
+      }
+    }
+  }
+
+  public int size() {
+    return size.get();
+  }
+
+  public Collection<V> values() {
+    return map.values().stream().map(node -> node.value).collect(Collectors.toList());
+  }
+
+  /**
+   * Snapshot of current entries. Doesn't mark entries as referenced.
+   *
+   * @return entries
+   */
+  public Map<K, V> asMap() {
+    Map<K, V> res = new LinkedHashMap<>();
+    for (Node<K, V> node : map.values()) res.put(node.key, node.value);
+    return res;
+  }
+
+  /** Remove all entries, without calling eviction listener. */
+  public void clear() {
+    map.clear();
+    clock.clear();
+    size.set(0);
+    stale.set(0);
+  }
+
+  public int _test_clockSize() {
+    return clock.size();
+  }
+
+  private static final class Node<K, V> {
+    final K key;
+    final V value;
+    volatile boolean referenced;
+
+    Node(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+}
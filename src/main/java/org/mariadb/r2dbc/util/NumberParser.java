@@ -0,0 +1,243 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.util;
+
+import io.netty.buffer.ByteBuf;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parse text protocol numeric values directly from buffer, without intermediate String.
+ *
+ * <p>Fast paths only handle plain decimal values of at most {@link #MAX_DIGITS} digits (like
+ * "-123.45"), other forms being left to JDK parsing.
+ */
+public final class NumberParser {
+
+  /** Maximum number of digits of a value parsed without String, fitting in a long */
+  public static final int MAX_DIGITS = 18;
+
+  // 2^53: greater integers are not always exactly represented as double
+  private static final long DOUBLE_EXACT_LIMIT = 1L << 53;
+  private static final long FLOAT_EXACT_LIMIT = 1L << 24;
+
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private static final float[] FLOAT_POWERS_OF_TEN = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  private NumberParser() {}
+
+  /**
+   * Indicate if value at reader index is a plain decimal: optional sign, digits with an optional
+   * decimal point, and no more than {@link #MAX_DIGITS} digits.
+   *
+   * @param buf buffer, reader index not being moved
+   * @param length value length
+   * @return true if value can be parsed with {@link #parseTruncatedLong(ByteBuf, int)} or {@link
+   *     #parseBigDecimal(ByteBuf, int)}
+   */
+  public static boolean isPlainDecimal(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int end = idx + length;
+    if (idx < end && isSign(buf.getByte(idx))) idx++;
+    int digits = 0;
+    boolean point = false;
+    for (; idx < end; idx++) {
+      byte b = buf.getByte(idx);
+      if (b >= '0' && b <= '9') {
+        if (++digits > MAX_DIGITS) return false;
+      } else if (b == '.' && !point) {
+        point = true;
+      } else {
+        return false;
+      }
+    }
+    return digits > 0;
+  }
+
+  /**
+   * Parse plain decimal value, truncating fractional part, like <code>
+   * new BigDecimal(value).setScale(0, RoundingMode.DOWN).longValue()</code>.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length, value being a plain decimal
+   * @return integer part of value
+   */
+  public static long parseTruncatedLong(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int end = idx + length;
+    boolean negate = false;
+    byte b = buf.getByte(idx);
+    if (isSign(b)) {
+      negate = b == '-';
+      idx++;
+    }
+    long result = 0;
+    for (; idx < end && (b = buf.getByte(idx)) != '.'; idx++) {
+      result = result * 10 + (b - '0');
+    }
+    buf.skipBytes(length);
+    return negate ? -result : result;
+  }
+
+  /**
+   * Parse plain decimal value, with the same unscaled value and scale as <code>
+   * new BigDecimal(value)
+   * </code>.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length, value being a plain decimal
+   * @return decimal value
+   */
+  public static BigDecimal parseBigDecimal(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int end = idx + length;
+    boolean negate = false;
+    byte b = buf.getByte(idx);
+    if (isSign(b)) {
+      negate = b == '-';
+      idx++;
+    }
+    long unscaled = 0;
+    int scale = -1;
+    for (; idx < end; idx++) {
+      b = buf.getByte(idx);
+      if (b == '.') {
+        scale = 0;
+      } else {
+        unscaled = unscaled * 10 + (b - '0');
+        if (scale >= 0) scale++;
+      }
+    }
+    buf.skipBytes(length);
+    return BigDecimal.valueOf(negate ? -unscaled : unscaled, Math.max(scale, 0));
+  }
+
+  /**
+   * Parse decimal value, with optional exponent, as double. Result is correctly rounded, like
+   * {@link Double#parseDouble(String)}: values having more significant digits or an exponent out of
+   * the range permitting exact computation are parsed by the JDK.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length
+   * @return double value
+   * @throws NumberFormatException if value is not a number
+   */
+  public static double parseDouble(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int end = idx + length;
+    boolean negate = false;
+    if (idx < end && isSign(buf.getByte(idx))) {
+      negate = buf.getByte(idx) == '-';
+      idx++;
+    }
+
+    // significant digits as integer, and power of ten to apply
+    long significand = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean point = false;
+    byte b = 0;
+    for (; idx < end; idx++) {
+      b = buf.getByte(idx);
+      if (b >= '0' && b <= '9') {
+        if (significand == 0 && b == '0') {
+          if (point) exponent--;
+          digits = Math.max(digits, 1);
+          continue;
+        }
+        if (++digits > MAX_DIGITS) return parseDoubleString(buf, length);
+        significand = significand * 10 + (b - '0');
+        if (point) exponent--;
+      } else if (b == '.' && !point) {
+        point = true;
+      } else {
+        break;
+      }
+    }
+    if (digits == 0) return parseDoubleString(buf, length);
+
+    if (idx < end) {
+      // exponent
+      if (b != 'e' && b != 'E' || ++idx == end) return parseDoubleString(buf, length);
+      boolean negativeExponent = false;
+      b = buf.getByte(idx);
+      if (isSign(b)) {
+        negativeExponent = b == '-';
+        if (++idx == end) return parseDoubleString(buf, length);
+      }
+      int exp = 0;
+      for (; idx < end; idx++) {
+        b = buf.getByte(idx);
+        if (b < '0' || b > '9' || exp > 1000) return parseDoubleString(buf, length);
+        exp = exp * 10 + (b - '0');
+      }
+      exponent += negativeExponent ? -exp : exp;
+    }
+
+    if (significand > DOUBLE_EXACT_LIMIT || exponent < -22 || exponent > 22)
+      return parseDoubleString(buf, length);
+
+    // both significand and power of ten are exact: a single operation is correctly rounded
+    double value = significand;
+    value =
+        exponent < 0
+            ? value / DOUBLE_POWERS_OF_TEN[-exponent]
+            : value * DOUBLE_POWERS_OF_TEN[exponent];
+    buf.skipBytes(length);
+    return negate ? -value : value;
+  }
+
+  /**
+   * Parse plain decimal value as float, correctly rounded like {@link Float#parseFloat(String)}.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length
+   * @return float value
+   * @throws NumberFormatException if value is not a number
+   */
+  public static float parseFloat(ByteBuf buf, int length) {
+    if (isPlainDecimal(buf, length)) {
+      int idx = buf.readerIndex();
+      int end = idx + length;
+      boolean negate = false;
+      byte b = buf.getByte(idx);
+      if (isSign(b)) {
+        negate = b == '-';
+        idx++;
+      }
+      long significand = 0;
+      int exponent = 0;
+      boolean point = false;
+      for (; idx < end; idx++) {
+        b = buf.getByte(idx);
+        if (b == '.') {
+          point = true;
+        } else {
+          significand = significand * 10 + (b - '0');
+          if (point) exponent--;
+        }
+      }
+      if (significand <= FLOAT_EXACT_LIMIT && exponent >= -10) {
+        float value = (float) significand / FLOAT_POWERS_OF_TEN[-exponent];
+        buf.skipBytes(length);
+        return negate ? -value : value;
+      }
+    }
+    return Float.parseFloat(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+  }
+
+  private static double parseDoubleString(ByteBuf buf, int length) {
+    return Double.parseDouble(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+  }
+
+  private static boolean isSign(byte b) {
+    return b == '-' || b == '+';
+  }
+}
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.util;
+
+/**
+ * Factory-wide cache of parsed queries, keyed by sql and escape mode. Parse results are immutable
+ * and can be shared by all connections and statements.
+ */
+public final class ParseCache {
+
+  private final int size;
+  // one cache per escape mode
+  private final ClockCache<String, ClientParser> clientParsers;
+  private final ClockCache<String, ClientParser> clientParsersNoBackslash;
+  private final ClockCache<String, ServerNamedParamParser> serverParsers;
+  private final ClockCache<String, ServerNamedParamParser> serverParsersNoBackslash;
+
+  public ParseCache(int size) {
+    this.size = size;
+    this.clientParsers = new ClockCache<>(size);
+    this.clientParsersNoBackslash = new ClockCache<>(size);
+    this.serverParsers = new ClockCache<>(size);
+    this.serverParsersNoBackslash = new ClockCache<>(size);
+  }
+
+  /**
+   * Get client parse result, parsing query if not cached.
+   *
+   * @param sql sql
+   * @param noBackslashEscapes escape mode
+   * @return parse result
+   */
+  public ClientParser clientParser(String sql, boolean noBackslashEscapes) {
+    if (size <= 0) return ClientParser.parameterParts(sql, noBackslashEscapes);
+    ClockCache<String, ClientParser> cache =
+        noBackslashEscapes ? clientParsersNoBackslash : clientParsers;
+    ClientParser parser = cache.get(sql);
+    if (parser == null) {
+      parser = ClientParser.parameterParts(sql, noBackslashEscapes);
+      ClientParser cached = cache.putIfAbsent(sql, parser);
+      if (cached != null) return cached;
+    }
+    return parser;
+  }
+
+  /**
+   * Get server named parameter parse result, parsing query if not cached.
+   *
+   * @param sql sql
+   * @param noBackslashEscapes escape mode
+   * @return parse result
+   */
+  public ServerNamedParamParser serverParser(String sql, boolean noBackslashEscapes) {
+    if (size <= 0) return ServerNamedParamParser.parameterParts(sql, noBackslashEscapes);
+    ClockCache<String, ServerNamedParamParser> cache =
+        noBackslashEscapes ? serverParsersNoBackslash : serverParsers;
+    ServerNamedParamParser parser = cache.get(sql);
+    if (parser == null) {
+      parser = ServerNamedParamParser.parameterParts(sql, noBackslashEscapes);
+      ServerNamedParamParser cached = cache.putIfAbsent(sql, parser);
+      if (cached != null) return cached;
+    }
+    return parser;
+  }
+}
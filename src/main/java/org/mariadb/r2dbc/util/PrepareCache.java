@@ -3,33 +3,59 @@
 
 package org.mariadb.r2dbc.util;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
+import org.mariadb.r2dbc.api.MariadbMetrics;
 import org.mariadb.r2dbc.client.Client;
 
-public class PrepareCache extends LinkedHashMap<String, ServerPrepareResult> {
+/**
+ * Connection server prepared statement cache. Lookups are lock-free, evicted statements are closed
+ * on server once not used anymore.
+ */
+public class PrepareCache {
 
-  private static final long serialVersionUID = -8922905563713952695L;
-  private final int maxSize;
+  private final ClockCache<String, ServerPrepareResult> cache;
   private final Client client;
+  private final MariadbMetrics metrics;
 
-  public PrepareCache(int size, Client client) {
-    super(size, .75f, true);
-    this.maxSize = size;
+  public PrepareCache(int size, Client client, MariadbMetrics metrics) {
     this.client = client;
+    this.metrics = metrics;
+    this.cache =
+        new ClockCache<>(
+            size,
+            (sql, result) -> {
+              result.unCache(client);
+              metrics.prepareCacheEviction();
+            });
   }
 
-  @Override
-  public boolean removeEldestEntry(Map.Entry<String, ServerPrepareResult> eldest) {
-    if (this.size() > maxSize) {
-      eldest.getValue().unCache(client);
-      return true;
-    }
-    return false;
+  /**
+   * Get cached prepare result. Lookup isn't recorded as a cache hit, a statement possibly looking
+   * up the same sql multiple times: see {@link #hit()}.
+   *
+   * @param sql sql
+   * @return cached prepare result, null if not cached
+   */
+  public ServerPrepareResult get(String sql) {
+    return cache.get(sql);
+  }
+
+  /** Record a cache hit: command is executed using an existing prepare result. */
+  public void hit() {
+    metrics.prepareCacheHit();
   }
 
-  public synchronized ServerPrepareResult put(String key, ServerPrepareResult result) {
-    ServerPrepareResult cached = super.get(key);
+  /**
+   * Cache a new prepare result.
+   *
+   * @param key sql
+   * @param result new prepare result
+   * @return the already cached result if any (new result must then be closed), null otherwise
+   */
+  public ServerPrepareResult put(String key, ServerPrepareResult result) {
+    metrics.prepareCacheMiss();
+    if (!result.cache()) return null;
+    ServerPrepareResult cached = cache.putIfAbsent(key, result);
 
     // if there is already some cached data, return existing cached data
     if (cached != null) {
@@ -37,10 +63,29 @@ public class PrepareCache extends LinkedHashMap<String, ServerPrepareResult> {
       result.unCache(client);
       return cached;
     }
+    return null;
+  }
 
-    if (result.cache()) {
-      super.put(key, result);
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Snapshot of cached statements.
+   *
+   * @return cached statements by sql
+   */
+  public Map<String, ServerPrepareResult> asMap() {
+    return cache.asMap();
+  }
+
+  /**
+   * Empty cache without closing statements, server having already released them (connection reset).
+   */
+  public void reset() {
+    for (ServerPrepareResult result : cache.values()) {
+      result.invalidate();
     }
-    return null;
+    cache.clear();
   }
 }
@@ -7,6 +7,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.mariadb.r2dbc.client.Client;
+import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.client.ClosePreparePacket;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 
@@ -16,6 +17,13 @@ public class ServerPrepareResult {
   private final int numParams;
   private ColumnDefinitionPacket[] columns;
 
+  // COM_STMT_EXECUTE fixed part: command, statement id, flags and iteration count
+  private final byte[] executePrefix;
+  private final byte[] cursorExecutePrefix;
+
+  // parameter types last sent to server, that server reuses when execute omits them
+  private volatile DataType[] parameterTypes;
+
   private final AtomicBoolean closing = new AtomicBoolean();
   private final AtomicInteger use = new AtomicInteger(1);
   private final AtomicBoolean cached = new AtomicBoolean(false);
@@ -24,6 +32,23 @@ public class ServerPrepareResult {
     this.statementId = statementId;
     this.numParams = numParams;
     this.columns = columns;
+    this.executePrefix = executePrefix(statementId, (byte) 0x00);
+    this.cursorExecutePrefix = executePrefix(statementId, (byte) 0x01);
+  }
+
+  private static byte[] executePrefix(int statementId, byte flags) {
+    return new byte[] {
+      0x17,
+      (byte) statementId,
+      (byte) (statementId >>> 8),
+      (byte) (statementId >>> 16),
+      (byte) (statementId >>> 24),
+      flags,
+      1,
+      0,
+      0,
+      0
+    };
   }
 
   public void setColumns(ColumnDefinitionPacket[] columns) {
@@ -42,6 +67,47 @@ public class ServerPrepareResult {
     return columns;
   }
 
+  /**
+   * COM_STMT_EXECUTE packet beginning: command, statement id, flags and iteration count.
+   *
+   * @param openCursor use read-only cursor flag
+   * @return prefix bytes, not to be modified
+   */
+  public byte[] getExecutePrefix(boolean openCursor) {
+    return openCursor ? cursorExecutePrefix : executePrefix;
+  }
+
+  /**
+   * Indicate if parameter types of an execution differ from types last sent to server. Server keeps
+   * types of last execution sending them, permitting to omit types when unchanged.
+   *
+   * @param parameters parameters
+   * @param parameterCount number of parameters
+   * @return true if types differ from last sent types, and must be sent
+   */
+  public boolean parameterTypesChanged(Binding parameters, int parameterCount) {
+    DataType[] types = this.parameterTypes;
+    if (types == null || types.length != parameterCount) return true;
+    for (int i = 0; i < parameterCount; i++) {
+      if (types[i] != parameters.getCodec(i).getBinaryEncodeType()) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Record parameter types sent to server, once execute packet has been completely encoded.
+   *
+   * @param types sent parameter types
+   */
+  public void setParameterTypes(DataType[] types) {
+    this.parameterTypes = types;
+  }
+
+  /** Forget last sent parameter types, next execution having to send them. */
+  public void resetParameterTypes() {
+    this.parameterTypes = null;
+  }
+
   public void close(Client client) {
     if (!cached.get() && closing.compareAndSet(false, true)) {
       client.sendCommandWithoutResult(new ClosePreparePacket(this.statementId));
@@ -69,6 +135,12 @@ public class ServerPrepareResult {
     }
   }
 
+  /** Mark statement as closed, without sending COM_STMT_CLOSE, server having already closed it. */
+  public void invalidate() {
+    closing.set(true);
+    cached.set(false);
+  }
+
   public boolean cache() {
     if (closing.get()) {
       return false;
@@ -0,0 +1,250 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.util;
+
+import io.netty.buffer.ByteBuf;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Parse text protocol temporal values directly from buffer, without intermediate String or array.
+ *
+ * <p>Fast paths only handle fixed layouts sent by server: 'YYYY-MM-DD' for DATE, 'YYYY-MM-DD
+ * HH:MM:SS[.ffffff]' for DATETIME/TIMESTAMP and 'HH:MM:SS[.ffffff]' for TIME, other forms (negative
+ * or 3 digits hours TIME, ...) being left to codecs generic parsing.
+ */
+public final class TemporalParser {
+
+  private static final int DATE_LENGTH = 10;
+  private static final int TIME_LENGTH = 8;
+  private static final int DATE_TIME_LENGTH = DATE_LENGTH + 1 + TIME_LENGTH;
+  private static final int MAX_FRACTIONAL_DIGITS = 6;
+
+  // direct-mapped cache of dates: consecutive days use consecutive slots.
+  // Race is benign, LocalDate being immutable.
+  private static final int DATE_CACHE_SIZE = 512;
+  private static final LocalDate[] DATE_CACHE = new LocalDate[DATE_CACHE_SIZE];
+
+  private static final int[] NANO_MULTIPLIERS = {
+    1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000
+  };
+
+  private TemporalParser() {}
+
+  /**
+   * Get LocalDate, reusing cached instance for recently decoded dates.
+   *
+   * @param year year
+   * @param month month of year, from 1 to 12
+   * @param dayOfMonth day of month, from 1 to 31
+   * @return date
+   * @throws java.time.DateTimeException if date is not valid
+   */
+  public static LocalDate date(int year, int month, int dayOfMonth) {
+    int slot = (year * 372 + month * 31 + dayOfMonth) & (DATE_CACHE_SIZE - 1);
+    LocalDate cached = DATE_CACHE[slot];
+    if (cached != null
+        && cached.getDayOfMonth() == dayOfMonth
+        && cached.getMonthValue() == month
+        && cached.getYear() == year) {
+      return cached;
+    }
+    LocalDate date = LocalDate.of(year, month, dayOfMonth);
+    DATE_CACHE[slot] = date;
+    return date;
+  }
+
+  /**
+   * Indicate if value at reader index has 'YYYY-MM-DD' layout.
+   *
+   * @param buf buffer, reader index not being moved
+   * @param length value length
+   * @return true if value can be parsed with {@link #parseDate(ByteBuf, int)}
+   */
+  public static boolean isDate(ByteBuf buf, int length) {
+    return length == DATE_LENGTH && isDateLayout(buf, buf.readerIndex());
+  }
+
+  /**
+   * Indicate if value at reader index has 'YYYY-MM-DD HH:MM:SS[.ffffff]' layout.
+   *
+   * @param buf buffer, reader index not being moved
+   * @param length value length
+   * @return true if value can be parsed with {@link #parseDateTime(ByteBuf, int)}, {@link
+   *     #parseDate(ByteBuf, int)} or {@link #parseTime(ByteBuf, int)}
+   */
+  public static boolean isDateTime(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    return length >= DATE_TIME_LENGTH
+        && isDateLayout(buf, idx)
+        && buf.getByte(idx + DATE_LENGTH) == ' '
+        && isTimeLayout(buf, idx + DATE_LENGTH + 1, length - DATE_LENGTH - 1);
+  }
+
+  /**
+   * Indicate if value at reader index has 'HH:MM:SS[.ffffff]' layout.
+   *
+   * @param buf buffer, reader index not being moved
+   * @param length value length
+   * @return true if value can be parsed with {@link #parseTime(ByteBuf, int)} or {@link
+   *     #parseDuration(ByteBuf, int)}
+   */
+  public static boolean isTime(ByteBuf buf, int length) {
+    return isTimeLayout(buf, buf.readerIndex(), length);
+  }
+
+  /**
+   * Parse DATE or DATETIME value date part. Zero date is returned as null, like zero datetime. Zero
+   * date with a time part is returned as '0000-01-01'.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length, value having DATE or DATETIME layout
+   * @return date
+   */
+  public static LocalDate parseDate(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int year = digits(buf, idx, 4);
+    int month = digits(buf, idx + 5, 2);
+    int day = digits(buf, idx + 8, 2);
+    buf.skipBytes(length);
+    if (year == 0 && month == 0 && day == 0) {
+      if (length == DATE_LENGTH || isZeroTime(buf, idx + DATE_LENGTH + 1, length)) return null;
+      return date(0, 1, 1);
+    }
+    return date(year, month, day);
+  }
+
+  /**
+   * Parse DATETIME value. Zero datetime is returned as null, zero date with a time part having
+   * '0000-01-01' date.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length, value having DATETIME layout
+   * @return date-time
+   */
+  public static LocalDateTime parseDateTime(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int timeIdx = idx + DATE_LENGTH + 1;
+    int year = digits(buf, idx, 4);
+    int month = digits(buf, idx + 5, 2);
+    int day = digits(buf, idx + 8, 2);
+    int hour = digits(buf, timeIdx, 2);
+    int minutes = digits(buf, timeIdx + 3, 2);
+    int seconds = digits(buf, timeIdx + 6, 2);
+    int nanos = nanos(buf, timeIdx, length - DATE_LENGTH - 1);
+    buf.skipBytes(length);
+    LocalDate date;
+    if (year == 0 && month == 0 && day == 0) {
+      if ((hour | minutes | seconds | nanos) == 0) return null;
+      date = date(0, 1, 1);
+    } else {
+      date = date(year, month, day);
+    }
+    return LocalDateTime.of(date, LocalTime.of(hour, minutes, seconds, nanos));
+  }
+
+  /**
+   * Parse TIME value, or DATETIME time part. TIME hours are taken modulo 24, and zero datetime
+   * returned as null.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length, value having TIME or DATETIME layout
+   * @return time
+   */
+  public static LocalTime parseTime(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int timeLength = length;
+    if (length >= DATE_TIME_LENGTH && buf.getByte(idx + 4) == '-') {
+      if (isZeroDate(buf, idx) && isZeroTime(buf, idx + DATE_LENGTH + 1, length)) {
+        buf.skipBytes(length);
+        return null;
+      }
+      idx += DATE_LENGTH + 1;
+      timeLength -= DATE_LENGTH + 1;
+    }
+    int hour = digits(buf, idx, 2) % 24;
+    int minutes = digits(buf, idx + 3, 2);
+    int seconds = digits(buf, idx + 6, 2);
+    int nanos = nanos(buf, idx, timeLength);
+    buf.skipBytes(length);
+    return LocalTime.of(hour, minutes, seconds, nanos);
+  }
+
+  /**
+   * Parse TIME value as Duration.
+   *
+   * @param buf buffer, reader index being moved after value
+   * @param length value length, value having TIME layout
+   * @return duration
+   */
+  public static Duration parseDuration(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    long seconds =
+        digits(buf, idx, 2) * 3600L + digits(buf, idx + 3, 2) * 60L + digits(buf, idx + 6, 2);
+    int nanos = nanos(buf, idx, length);
+    buf.skipBytes(length);
+    return Duration.ofSeconds(seconds, nanos);
+  }
+
+  private static boolean isDateLayout(ByteBuf buf, int idx) {
+    return isDigits(buf, idx, 4)
+        && buf.getByte(idx + 4) == '-'
+        && isDigits(buf, idx + 5, 2)
+        && buf.getByte(idx + 7) == '-'
+        && isDigits(buf, idx + 8, 2);
+  }
+
+  private static boolean isTimeLayout(ByteBuf buf, int idx, int length) {
+    if (length != TIME_LENGTH
+        && (length < TIME_LENGTH + 2
+            || length > TIME_LENGTH + 1 + MAX_FRACTIONAL_DIGITS
+            || buf.getByte(idx + TIME_LENGTH) != '.'
+            || !isDigits(buf, idx + TIME_LENGTH + 1, length - TIME_LENGTH - 1))) {
+      return false;
+    }
+    return isDigits(buf, idx, 2)
+        && buf.getByte(idx + 2) == ':'
+        && isDigits(buf, idx + 3, 2)
+        && buf.getByte(idx + 5) == ':'
+        && isDigits(buf, idx + 6, 2);
+  }
+
+  private static boolean isDigits(ByteBuf buf, int idx, int number) {
+    for (int i = idx; i < idx + number; i++) {
+      byte b = buf.getByte(i);
+      if (b < '0' || b > '9') return false;
+    }
+    return true;
+  }
+
+  private static int digits(ByteBuf buf, int idx, int number) {
+    int value = 0;
+    for (int i = idx; i < idx + number; i++) {
+      value = value * 10 + (buf.getByte(i) - '0');
+    }
+    return value;
+  }
+
+  /** Fractional part of time starting at idx, as nanoseconds. */
+  private static int nanos(ByteBuf buf, int idx, int timeLength) {
+    if (timeLength == TIME_LENGTH) return 0;
+    int fractionalDigits = timeLength - TIME_LENGTH - 1;
+    return digits(buf, idx + TIME_LENGTH + 1, fractionalDigits)
+        * NANO_MULTIPLIERS[fractionalDigits];
+  }
+
+  private static boolean isZeroDate(ByteBuf buf, int idx) {
+    return digits(buf, idx, 4) == 0 && digits(buf, idx + 5, 2) == 0 && digits(buf, idx + 8, 2) == 0;
+  }
+
+  private static boolean isZeroTime(ByteBuf buf, int timeIdx, int length) {
+    for (int i = timeIdx; i < timeIdx + length - DATE_LENGTH - 1; i++) {
+      byte b = buf.getByte(i);
+      if (b != '0' && b != ':' && b != '.') return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,165 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.mariadb.r2dbc.api.MariadbMetrics;
+
+/**
+ * {@link MariadbMetrics} binding to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Connection gauges are aggregated over all open connections, in order to keep a fixed number of
+ * meters: number of open connections, in-flight commands and buffered server messages. Command
+ * timers are tagged with command type and outcome.
+ *
+ * <pre>{@code
+ * MariadbConnectionConfiguration conf =
+ *     MariadbConnectionConfiguration.builder()
+ *         ...
+ *         .metrics(new MicrometerMariadbMetrics(registry, Tags.of("pool", "main")))
+ *         .build();
+ * }</pre>
+ */
+public final class MicrometerMariadbMetrics implements MariadbMetrics {
+
+  private static final String PREFIX = "r2dbc.mariadb.";
+
+  private final MeterRegistry registry;
+  private final Tags tags;
+  private final Set<ConnectionGauges> connections = ConcurrentHashMap.newKeySet();
+
+  private final Counter packetsReceived;
+  private final Counter bytesReceived;
+  private final Counter packetsSent;
+  private final Counter bytesSent;
+  private final Counter prepareCacheHits;
+  private final Counter prepareCacheMisses;
+  private final Counter prepareCacheEvictions;
+
+  // timers by command type and outcome, avoiding registry lookup on each command
+  private final ConcurrentHashMap<String, Timer> firstResponseTimers = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Timer> commandTimers = new ConcurrentHashMap<>();
+
+  public MicrometerMariadbMetrics(MeterRegistry registry) {
+    this(registry, Tags.empty());
+  }
+
+  /**
+   * Create binding.
+   *
+   * @param registry meter registry
+   * @param tags tags added to all meters, permitting to distinguish connection factories
+   */
+  public MicrometerMariadbMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+    this.registry = registry;
+    this.tags = Tags.of(tags);
+
+    Gauge.builder(PREFIX + "connections", connections, Set::size)
+        .description("Open connections")
+        .tags(this.tags)
+        .register(registry);
+    Gauge.builder(
+            PREFIX + "exchanges.pending",
+            connections,
+            conns -> conns.stream().mapToInt(ConnectionGauges::getExchangeQueueSize).sum())
+        .description("Commands sent and awaiting completion")
+        .tags(this.tags)
+        .register(registry);
+    Gauge.builder(
+            PREFIX + "messages.buffered",
+            connections,
+            conns -> conns.stream().mapToInt(ConnectionGauges::getReceiverQueueSize).sum())
+        .description("Server messages received and awaiting subscriber demand")
+        .tags(this.tags)
+        .register(registry);
+
+    this.packetsReceived = counter("packets.received", "Packets received from server");
+    this.bytesReceived = counter("bytes.received", "Bytes received from server");
+    this.packetsSent = counter("packets.sent", "Packets sent to server");
+    this.bytesSent = counter("bytes.sent", "Bytes sent to server");
+    this.prepareCacheHits =
+        counter("prepare.cache.hits", "Executions reusing a cached prepared statement");
+    this.prepareCacheMisses = counter("prepare.cache.misses", "Statements prepared on server");
+    this.prepareCacheEvictions =
+        counter("prepare.cache.evictions", "Prepared statements evicted from a full cache");
+  }
+
+  private Counter counter(String name, String description) {
+    return Counter.builder(PREFIX + name).description(description).tags(tags).register(registry);
+  }
+
+  private Timer timer(String name, String description, String command, boolean success) {
+    return Timer.builder(PREFIX + name)
+        .description(description)
+        .tags(tags)
+        .tag("command", command)
+        .tag("success", Boolean.toString(success))
+        .register(registry);
+  }
+
+  @Override
+  public void connectionOpened(ConnectionGauges gauges) {
+    connections.add(gauges);
+  }
+
+  @Override
+  public void connectionClosed(ConnectionGauges gauges) {
+    connections.remove(gauges);
+  }
+
+  @Override
+  public void packetReceived(int bytes) {
+    packetsReceived.increment();
+    bytesReceived.increment(bytes);
+  }
+
+  @Override
+  public void packetsSent(int packets, int bytes) {
+    packetsSent.increment(packets);
+    bytesSent.increment(bytes);
+  }
+
+  @Override
+  public void prepareCacheHit() {
+    prepareCacheHits.increment();
+  }
+
+  @Override
+  public void prepareCacheMiss() {
+    prepareCacheMisses.increment();
+  }
+
+  @Override
+  public void prepareCacheEviction() {
+    prepareCacheEvictions.increment();
+  }
+
+  @Override
+  public void commandCompleted(
+      String command, long firstResponseNanos, long totalNanos, boolean success) {
+    String key = success ? command : command + ".error";
+    firstResponseTimers
+        .computeIfAbsent(
+            key,
+            k ->
+                timer(
+                    "command.first.response",
+                    "Time until first server response, including client queuing",
+                    command,
+                    success))
+        .record(firstResponseNanos, TimeUnit.NANOSECONDS);
+    commandTimers
+        .computeIfAbsent(
+            key, k -> timer("command.duration", "Time until command completion", command, success))
+        .record(totalNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -3,6 +3,7 @@
 
 package org.mariadb.r2dbc.integration;
 
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
@@ -65,6 +66,67 @@ public class BatchTest extends BaseConnectionTest {
     MariadbConnectionConfiguration confNoMulti =
         TestConfiguration.defaultBuilder.clone().allowMultiQueries(false).build();
     batchTest(confNoMulti);
+    MariadbConnectionConfiguration confNoPipeline =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .allowMultiQueries(false)
+            .allowPipelining(false)
+            .build();
+    batchTest(confNoPipeline);
+    // multi-queries split in multiple commands
+    MariadbConnectionConfiguration confMultiSplit =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .allowMultiQueries(true)
+            .maxAllowedPacket(200)
+            .build();
+    batchTest(confMultiSplit);
+  }
+
+  @Test
+  void batchFailure() throws Exception {
+    batchFailure(TestConfiguration.defaultBuilder.clone().allowMultiQueries(false).build(), 1);
+    batchFailure(
+        TestConfiguration.defaultBuilder
+            .clone()
+            .allowMultiQueries(false)
+            .batchPipelineWindow(4)
+            .build(),
+        4);
+    batchFailure(TestConfiguration.defaultBuilder.clone().allowMultiQueries(true).build(), 1);
+  }
+
+  private void batchFailure(MariadbConnectionConfiguration conf, int window) throws Exception {
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      connection
+          .createStatement("CREATE TEMPORARY TABLE batchFailure (id int not null primary key)")
+          .execute()
+          .blockLast();
+      MariadbBatch batch = connection.createBatch();
+      for (int i = 0; i < 10; i++) {
+        // 4th command fails with a duplicate key
+        batch.add("INSERT INTO batchFailure VALUES (" + (i == 3 ? 1 : i) + ")");
+      }
+      batch
+          .execute()
+          .flatMap(it -> it.getRowsUpdated())
+          .as(StepVerifier::create)
+          .expectNext(1L, 1L, 1L)
+          .expectError(R2dbcDataIntegrityViolationException.class)
+          .verify();
+
+      // no command is sent after failure, only those already sent are executed
+      connection
+          .createStatement("SELECT COUNT(*) FROM batchFailure WHERE id > " + (2 + window))
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, Long.class)))
+          .as(StepVerifier::create)
+          .expectNext(0L)
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
   }
 
   private void batchTest(MariadbConnectionConfiguration conf) throws Exception {
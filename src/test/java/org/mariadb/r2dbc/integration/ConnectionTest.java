@@ -7,16 +7,21 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import ch.qos.logback.classic.Level;
 import io.r2dbc.spi.*;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.*;
 import org.mariadb.r2dbc.*;
 import org.mariadb.r2dbc.api.MariadbConnection;
+import org.mariadb.r2dbc.api.MariadbMetrics;
 import org.mariadb.r2dbc.api.MariadbStatement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -96,6 +101,149 @@ public class ConnectionTest extends BaseConnectionTest {
     assertFalse(connection.validate(ValidationDepth.REMOTE).block());
   }
 
+  @Test
+  void compression() throws Exception {
+    Assumptions.assumeTrue(
+        !"maxscale".equals(System.getenv("srv")) && !"skysql-ha".equals(System.getenv("srv")));
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useCompression(true)
+            .compressionThreshold(100)
+            .build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      char[] chars = new char[200_000];
+      Arrays.fill(chars, 'a');
+      String longValue = new String(chars);
+      connection
+          .createStatement("SELECT ?, REPEAT('b', 100000), 1")
+          .bind(0, longValue)
+          .execute()
+          .flatMap(
+              r ->
+                  r.map(
+                      (row, metadata) ->
+                          row.get(0, String.class).length()
+                              + row.get(1, String.class).length()
+                              + row.get(2, Integer.class)))
+          .as(StepVerifier::create)
+          .expectNext(300_001)
+          .verifyComplete();
+      assertTrue(connection.validate(ValidationDepth.REMOTE).block());
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  @Timeout(20)
+  void killQueryOnCancel() throws Exception {
+    // sequence table requirement
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 1, 0));
+    Assumptions.assumeTrue(
+        !"maxscale".equals(System.getenv("srv")) && !"skysql-ha".equals(System.getenv("srv")));
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder.clone().killQueryOnCancel(true).build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      for (int i = 0; i < 2; i++) {
+        connection
+            .createStatement("SELECT * FROM seq_1_to_1000000000")
+            .execute()
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, String.class)))
+            .take(10)
+            .as(StepVerifier::create)
+            .expectNextCount(10)
+            .verifyComplete();
+        connection
+            .createStatement("SELECT 5")
+            .execute()
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+            .as(StepVerifier::create)
+            .expectNext(5)
+            .verifyComplete();
+      }
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  void metrics() throws Exception {
+    AtomicInteger opened = new AtomicInteger();
+    AtomicInteger closed = new AtomicInteger();
+    AtomicLong bytesReceived = new AtomicLong();
+    AtomicLong bytesSent = new AtomicLong();
+    AtomicInteger prepareHits = new AtomicInteger();
+    AtomicInteger prepareMisses = new AtomicInteger();
+    Map<String, AtomicInteger> commands = new ConcurrentHashMap<>();
+    MariadbMetrics metrics =
+        new MariadbMetrics() {
+          @Override
+          public void connectionOpened(ConnectionGauges gauges) {
+            opened.incrementAndGet();
+          }
+
+          @Override
+          public void connectionClosed(ConnectionGauges gauges) {
+            closed.incrementAndGet();
+          }
+
+          @Override
+          public void packetReceived(int bytes) {
+            bytesReceived.addAndGet(bytes);
+          }
+
+          @Override
+          public void packetsSent(int packets, int bytes) {
+            bytesSent.addAndGet(bytes);
+          }
+
+          @Override
+          public void prepareCacheHit() {
+            prepareHits.incrementAndGet();
+          }
+
+          @Override
+          public void prepareCacheMiss() {
+            prepareMisses.incrementAndGet();
+          }
+
+          @Override
+          public void commandCompleted(
+              String command, long firstResponseNanos, long totalNanos, boolean success) {
+            assertTrue(firstResponseNanos > 0 && totalNanos >= firstResponseNanos);
+            commands.computeIfAbsent(command, k -> new AtomicInteger()).incrementAndGet();
+          }
+        };
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder.clone().useServerPrepStmts(true).metrics(metrics).build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      assertEquals(1, opened.get());
+      for (int i = 0; i < 2; i++) {
+        connection
+            .createStatement("SELECT ?")
+            .bind(0, i)
+            .execute()
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+            .as(StepVerifier::create)
+            .expectNext(i)
+            .verifyComplete();
+      }
+      // one prepare, then one execution reusing it
+      assertEquals(1, prepareMisses.get());
+      assertEquals(1, prepareHits.get());
+      assertTrue(bytesReceived.get() > 0);
+      assertTrue(bytesSent.get() > 0);
+      assertTrue(commands.containsKey("QUERY_RESPONSE"));
+    } finally {
+      connection.close().block();
+    }
+    assertEquals(1, closed.get());
+  }
+
   @Test
   void connectionWithoutErrorOnClose() throws Exception {
     Assumptions.assumeTrue(System.getenv("local") == null || "1".equals(System.getenv("local")));
@@ -348,6 +496,86 @@ public class ConnectionTest extends BaseConnectionTest {
         .verify();
   }
 
+  @Test
+  @Timeout(30)
+  void pipelinedCommandsAnsweredInOrder() throws Exception {
+    MariadbConnection connection = factory.create().block();
+    try {
+      AtomicInteger completed = new AtomicInteger();
+      List<Integer> results =
+          Flux.range(0, 1_000)
+              .flatMapSequential(
+                  i ->
+                      connection
+                          .createStatement("SELECT " + i)
+                          .execute()
+                          .flatMap(r -> r.map((row, meta) -> row.get(0, Integer.class)))
+                          // responses must be received in command order
+                          .doOnComplete(() -> assertEquals(i, completed.getAndIncrement())),
+                  100)
+              .collectList()
+              .block();
+      assertEquals(1_000, results.size());
+      for (int i = 0; i < 1_000; i++) assertEquals(i, results.get(i));
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  @Timeout(30)
+  void encoderErrorFailsPendingCommands() throws Exception {
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder.clone().useServerPrepStmts(true).build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      // prepare is cached, so execute packet is sent as soon as statement is executed
+      connection
+          .createStatement("SELECT LENGTH(?)")
+          .bind(0, "a")
+          .execute()
+          .flatMap(r -> r.getRowsUpdated())
+          .blockLast();
+      InputStream failingStream =
+          new InputStream() {
+            private int pos;
+
+            @Override
+            public int read() throws IOException {
+              if (pos++ == 100_000) throw new IOException("stream read failure");
+              return 'a';
+            }
+          };
+      Mono<Boolean> failing =
+          connection
+              .createStatement("SELECT LENGTH(?)")
+              .bind(0, failingStream)
+              .execute()
+              .flatMap(r -> r.map((row, meta) -> row.get(0, Integer.class)))
+              .then(Mono.just(false))
+              .onErrorReturn(R2dbcNonTransientResourceException.class, true);
+      Flux<Boolean> pending =
+          Flux.range(0, 50)
+              .flatMap(
+                  i ->
+                      connection
+                          .createStatement("SELECT " + i)
+                          .execute()
+                          .flatMap(r -> r.map((row, meta) -> row.get(0, Integer.class)))
+                          .then(Mono.just(false))
+                          .onErrorReturn(R2dbcNonTransientResourceException.class, true));
+
+      // send fails when encoding execute packet, failing every command waiting behind it
+      List<Boolean> failed =
+          Flux.merge(failing, pending).collectList().block(Duration.ofSeconds(10));
+      assertEquals(51, failed.size());
+      assertFalse(failed.contains(false));
+      assertFalse(connection.validate(ValidationDepth.LOCAL).block());
+    } finally {
+      connection.close().block();
+    }
+  }
+
   @Test
   void basicConnectionWithSessionVariable() throws Exception {
     Map<String, String> sessionVariable = new HashMap<>();
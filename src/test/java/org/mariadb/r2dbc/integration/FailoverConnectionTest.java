@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import io.r2dbc.spi.R2dbcTransientResourceException;
 import io.r2dbc.spi.ValidationDepth;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -253,6 +254,57 @@ public class FailoverConnectionTest extends BaseConnectionTest {
     Thread.sleep(50);
   }
 
+  @Test
+  @Timeout(20)
+  void longDataNotReplayed() throws Exception {
+    Assumptions.assumeFalse(System.getenv("TRAVIS") != null && isWindows);
+    Assumptions.assumeTrue(
+        !"maxscale".equals(System.getenv("srv"))
+            && !"skysql".equals(System.getenv("srv"))
+            && !"skysql-ha".equals(System.getenv("srv")));
+
+    MariadbConnection connection = createFailoverProxyConnection(HaMode.SEQUENTIAL, false, true);
+    try {
+      InputStream stream =
+          new InputStream() {
+            private int pos;
+
+            @Override
+            public int read() throws IOException {
+              if (pos == 100_000) {
+                // connection fails while parameter is being streamed
+                try {
+                  proxy.restart(200);
+                } catch (InterruptedException e) {
+                  throw new IOException(e);
+                }
+              }
+              return pos++ < 2_000_000 ? 'a' : -1;
+            }
+          };
+      connection
+          .createStatement("SELECT LENGTH(?)")
+          .bind(0, stream)
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, Long.class)))
+          .as(StepVerifier::create)
+          .expectErrorMatches(
+              throwable ->
+                  throwable instanceof R2dbcTransientResourceException
+                      && throwable
+                          .getMessage()
+                          .contains("Command with streamed parameters cannot be replayed"))
+          .verify();
+
+      // connection has been recreated
+      Thread.sleep(300);
+      assertTrue(connection.validate(ValidationDepth.REMOTE).block());
+    } finally {
+      connection.close().block();
+      proxy.forceClose();
+    }
+  }
+
   private MariadbConnection createFailoverProxyConnection(
       HaMode haMode, boolean transactionReplay, boolean usePrepare) throws Exception {
 
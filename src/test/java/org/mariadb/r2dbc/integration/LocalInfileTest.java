@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.integration;
+
+import io.r2dbc.spi.R2dbcException;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.BaseConnectionTest;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.MariadbConnectionFactory;
+import org.mariadb.r2dbc.TestConfiguration;
+import org.mariadb.r2dbc.api.MariadbConnection;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+public class LocalInfileTest extends BaseConnectionTest {
+
+  private static final String LOAD =
+      "LOAD DATA LOCAL INFILE 'data' INTO TABLE LocalInfile"
+          + " FIELDS TERMINATED BY ',' LINES TERMINATED BY '\\n'";
+
+  @BeforeAll
+  public static void before2() {
+    after2();
+    sharedConn
+        .createStatement("CREATE TABLE LocalInfile (id int, val varchar(20))")
+        .execute()
+        .blockLast();
+  }
+
+  @AfterAll
+  public static void after2() {
+    sharedConn.createStatement("DROP TABLE IF EXISTS LocalInfile").execute().blockLast();
+  }
+
+  private static Flux<ByteBuffer> lines(int number) {
+    return Flux.range(0, number)
+        .map(i -> ByteBuffer.wrap((i + ",val" + i + "\n").getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void disabledByDefault() {
+    sharedConn
+        .loadData(LOAD, lines(10))
+        .as(StepVerifier::create)
+        .expectErrorMatches(
+            t -> t instanceof R2dbcException && t.getMessage().contains("allowLocalInfile"))
+        .verify();
+  }
+
+  @Test
+  void loadData() throws Exception {
+    Assumptions.assumeTrue(
+        !"maxscale".equals(System.getenv("srv")) && !"skysql-ha".equals(System.getenv("srv")));
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder.clone().allowLocalInfile(true).build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      String localInfile =
+          connection
+              .createStatement("SELECT @@local_infile")
+              .execute()
+              .flatMap(r -> r.map((row, meta) -> row.get(0, String.class)))
+              .blockLast();
+      Assumptions.assumeTrue("1".equals(localInfile) || "ON".equalsIgnoreCase(localInfile));
+
+      connection.createStatement("TRUNCATE LocalInfile").execute().blockLast();
+      connection
+          .loadData(LOAD, lines(10_000))
+          .as(StepVerifier::create)
+          .expectNext(10_000L)
+          .verifyComplete();
+
+      // connection still usable afterwards
+      connection
+          .createStatement("SELECT COUNT(*), MAX(val) FROM LocalInfile WHERE id = 9999")
+          .execute()
+          .flatMap(r -> r.map((row, meta) -> row.get(0, Long.class) + row.get(1, String.class)))
+          .as(StepVerifier::create)
+          .expectNext("1val9999")
+          .verifyComplete();
+
+      // command not executed with loadData is rejected, server command being ended
+      connection
+          .createStatement(LOAD)
+          .execute()
+          .flatMap(r -> r.getRowsUpdated())
+          .as(StepVerifier::create)
+          .expectErrorMatches(
+              t ->
+                  t instanceof R2dbcNonTransientResourceException
+                      && t.getMessage().contains("MariadbConnection.loadData"))
+          .verify();
+      connection
+          .createStatement("SELECT COUNT(*) FROM LocalInfile")
+          .execute()
+          .flatMap(r -> r.map((row, meta) -> row.get(0, Long.class)))
+          .as(StepVerifier::create)
+          .expectNext(10_000L)
+          .verifyComplete();
+
+      // publisher error is reported once server has ended command
+      connection
+          .loadData(LOAD, lines(5).concatWith(Flux.error(new IllegalStateException("file error"))))
+          .as(StepVerifier::create)
+          .expectErrorMessage("file error")
+          .verify();
+    } finally {
+      connection.close().block();
+    }
+  }
+}
@@ -0,0 +1,289 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.BaseConnectionTest;
+import org.mariadb.r2dbc.MariadbConnectionPool;
+import org.mariadb.r2dbc.MariadbPoolConfiguration;
+import org.mariadb.r2dbc.TestConfiguration;
+import org.mariadb.r2dbc.api.MariadbConnection;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+public class PoolTest extends BaseConnectionTest {
+
+  @Test
+  void warmupAndReuse() throws Exception {
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(TestConfiguration.defaultBuilder.clone().build())
+                .minSize(2)
+                .maxSize(4)
+                .build());
+    try {
+      assertEquals(2, pool.warmup().block());
+      assertEquals(2, pool.getTotalSize());
+      assertEquals(2, pool.getIdleSize());
+
+      MariadbConnection connection = pool.create().block();
+      long threadId = connection.getThreadId();
+      assertEquals(1, pool.getIdleSize());
+      connection.close().block();
+      assertEquals(2, pool.getIdleSize());
+
+      // most recently used connection is reused
+      connection = pool.create().block();
+      assertEquals(threadId, connection.getThreadId());
+      connection.close().block();
+      // closing twice is ignored
+      connection.close().block();
+      assertEquals(2, pool.getIdleSize());
+      assertEquals(2, pool.getTotalSize());
+    } finally {
+      pool.close().block();
+    }
+    assertEquals(0, pool.getTotalSize());
+  }
+
+  @Test
+  void warmupPartialFailure() throws Exception {
+    Assumptions.assumeTrue(
+        !"maxscale".equals(System.getenv("srv"))
+            && !"skysql".equals(System.getenv("srv"))
+            && !"skysql-ha".equals(System.getenv("srv")));
+    sharedConn.createStatement("DROP USER IF EXISTS poolLimitedUser").execute().blockLast();
+    sharedConn
+        .createStatement(
+            "CREATE USER poolLimitedUser IDENTIFIED BY 'MySup8%rPassw@ord'"
+                + " WITH MAX_USER_CONNECTIONS 2")
+        .execute()
+        .blockLast();
+    sharedConn.createStatement("GRANT SELECT ON *.* TO poolLimitedUser").execute().blockLast();
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(
+                    TestConfiguration.defaultBuilder
+                        .clone()
+                        .username("poolLimitedUser")
+                        .password("MySup8%rPassw@ord")
+                        .build())
+                .minSize(4)
+                .maxSize(4)
+                .build());
+    try {
+      // 2 of 4 connections are refused by server
+      pool.warmup().as(StepVerifier::create).expectError().verify();
+      assertEquals(2, pool.getTotalSize());
+      assertEquals(2, pool.getIdleSize());
+
+      // failed slots have been released, created connections are usable
+      MariadbConnection connection = pool.create().block();
+      MariadbConnection connection2 = pool.create().block();
+      assertEquals(2, pool.getTotalSize());
+      connection.close().block();
+      connection2.close().block();
+      assertEquals(2, pool.getIdleSize());
+    } finally {
+      pool.close().block();
+      sharedConn.createStatement("DROP USER IF EXISTS poolLimitedUser").execute().blockLast();
+    }
+  }
+
+  @Test
+  void stateReset() throws Exception {
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(
+                    TestConfiguration.defaultBuilder.clone().useServerPrepStmts(true).build())
+                .maxSize(1)
+                .build());
+    try {
+      MariadbConnection connection = pool.create().block();
+      connection.createStatement("SELECT ?").bind(0, 1).execute().blockLast();
+      connection.setAutoCommit(false).block();
+      connection.setTransactionIsolationLevel(IsolationLevel.SERIALIZABLE).block();
+      connection.beginTransaction().block();
+      assertTrue(connection.isInTransaction());
+      connection.close().block();
+
+      connection = pool.create().block();
+      assertFalse(connection.isInTransaction());
+      assertTrue(connection.isAutoCommit());
+      assertEquals(IsolationLevel.REPEATABLE_READ, connection.getTransactionIsolationLevel());
+      // prepare cache is kept
+      assertEquals(
+          1,
+          ((org.mariadb.r2dbc.MariadbConnection) ((Wrapped<?>) connection).unwrap())
+              ._test_prepareCache()
+              .size());
+      connection.close().block();
+    } finally {
+      pool.close().block();
+    }
+  }
+
+  @Test
+  void statementTimeoutReset() throws Exception {
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 1, 0));
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(TestConfiguration.defaultBuilder.clone().build())
+                .maxSize(1)
+                .build());
+    try {
+      MariadbConnection connection = pool.create().block();
+      BigDecimal initial = statementTimeout(connection);
+      connection.setStatementTimeout(Duration.ofSeconds(5)).block();
+      assertEquals(0, BigDecimal.valueOf(5).compareTo(statementTimeout(connection)));
+      connection.close().block();
+
+      connection = pool.create().block();
+      assertEquals(0, initial.compareTo(statementTimeout(connection)));
+      connection.close().block();
+    } finally {
+      pool.close().block();
+    }
+  }
+
+  private BigDecimal statementTimeout(MariadbConnection connection) {
+    return connection
+        .createStatement("SELECT @@max_statement_time")
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, BigDecimal.class)))
+        .blockLast();
+  }
+
+  @Test
+  void closedHandle() throws Exception {
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(TestConfiguration.defaultBuilder.clone().build())
+                .maxSize(1)
+                .build());
+    try {
+      MariadbConnection connection = pool.create().block();
+      connection.close().block();
+      // same physical connection is now lent to another borrower
+      MariadbConnection other = pool.create().block();
+
+      assertThrows(
+          R2dbcNonTransientResourceException.class,
+          () -> connection.createStatement("SELECT 1"),
+          "Connection has been closed and given back to pool");
+      connection
+          .beginTransaction()
+          .as(StepVerifier::create)
+          .expectError(R2dbcNonTransientResourceException.class)
+          .verify();
+      connection
+          .validate(ValidationDepth.LOCAL)
+          .as(StepVerifier::create)
+          .expectNext(false)
+          .verifyComplete();
+      assertFalse(other.isInTransaction());
+      other.close().block();
+    } finally {
+      pool.close().block();
+    }
+  }
+
+  @Test
+  void resetConnection() throws Exception {
+    Assumptions.assumeTrue(
+        isMariaDBServer() && minVersion(10, 2, 4) || !isMariaDBServer() && minVersion(5, 7, 3));
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(
+                    TestConfiguration.defaultBuilder.clone().useServerPrepStmts(true).build())
+                .maxSize(1)
+                .useResetConnection(true)
+                .build());
+    try {
+      MariadbConnection connection = pool.create().block();
+      connection.createStatement("SELECT ?").bind(0, 1).execute().blockLast();
+      connection.createStatement("SET @myVar=5").execute().blockLast();
+      connection.close().block();
+
+      connection = pool.create().block();
+      connection
+          .createStatement("SELECT @myVar")
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0) == null))
+          .as(StepVerifier::create)
+          .expectNext(true)
+          .verifyComplete();
+      // statement must be re-prepared
+      connection
+          .createStatement("SELECT ?")
+          .bind(0, 2)
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+          .as(StepVerifier::create)
+          .expectNext(2)
+          .verifyComplete();
+      connection.close().block();
+    } finally {
+      pool.close().block();
+    }
+  }
+
+  @Test
+  void acquireTimeout() throws Exception {
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(TestConfiguration.defaultBuilder.clone().build())
+                .maxSize(1)
+                .acquireTimeout(Duration.ofMillis(200))
+                .build());
+    try {
+      MariadbConnection connection = pool.create().block();
+      pool.create().as(StepVerifier::create).expectError(R2dbcTimeoutException.class).verify();
+      assertEquals(0, pool.getPendingAcquireSize());
+      connection.close().block();
+      pool.create().flatMap(MariadbConnection::close).block();
+    } finally {
+      pool.close().block();
+    }
+  }
+
+  @Test
+  void concurrentBorrow() throws Exception {
+    MariadbConnectionPool pool =
+        new MariadbConnectionPool(
+            MariadbPoolConfiguration.builder(TestConfiguration.defaultBuilder.clone().build())
+                .maxSize(3)
+                .build());
+    try {
+      Flux.range(0, 50)
+          .flatMap(
+              i ->
+                  Mono.usingWhen(
+                      pool.create(),
+                      conn ->
+                          Flux.from(conn.createStatement("SELECT " + i).execute())
+                              .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+                              .single(),
+                      MariadbConnection::close))
+          .reduce(0, Integer::sum)
+          .as(StepVerifier::create)
+          .expectNext(1225)
+          .verifyComplete();
+      assertTrue(pool.getTotalSize() <= 3);
+    } finally {
+      pool.close().block();
+    }
+  }
+}
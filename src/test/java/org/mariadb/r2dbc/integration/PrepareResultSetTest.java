@@ -101,6 +101,68 @@ public class PrepareResultSetTest extends BaseConnectionTest {
     sharedConn.createStatement("DROP TABLE IF EXISTS missingParameter").execute().blockLast();
   }
 
+  @Test
+  void fetchSize() {
+    // sequence table requirement
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 1, 0));
+    for (int fetchSize : new int[] {1, 7, 100, 1000}) {
+      sharedConnPrepare
+          .createStatement("SELECT seq, 'a' FROM seq_1_to_100 WHERE seq > ?")
+          .bind(0, 10)
+          .fetchSize(fetchSize)
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+          .as(StepVerifier::create)
+          .expectNext(11, 12, 13)
+          .expectNextCount(87)
+          .verifyComplete();
+    }
+
+    // without parameter
+    sharedConnPrepare
+        .createStatement("SELECT * FROM seq_1_to_1000")
+        .fetchSize(10)
+        .execute()
+        .flatMap(r -> r.getRowsUpdated())
+        .as(StepVerifier::create)
+        .expectNext(1000L)
+        .verifyComplete();
+
+    // empty result-set
+    sharedConnPrepare
+        .createStatement("SELECT * FROM seq_1_to_1000 WHERE seq < ?")
+        .bind(0, 0)
+        .fetchSize(10)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    // cancel before end, connection must stay usable
+    sharedConnPrepare
+        .createStatement("SELECT * FROM seq_1_to_100000 WHERE seq > ?")
+        .bind(0, 0)
+        .fetchSize(50)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .take(120)
+        .as(StepVerifier::create)
+        .expectNextCount(120)
+        .verifyComplete();
+    sharedConnPrepare
+        .createStatement("SELECT ?")
+        .bind(0, 5)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .as(StepVerifier::create)
+        .expectNext(5)
+        .verifyComplete();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> sharedConnPrepare.createStatement("SELECT 1").fetchSize(-1),
+        "fetch size must be greater or equal to 0");
+  }
+
   @Test
   void bindWithName() {
     sharedConnPrepare
@@ -627,7 +689,6 @@ public class PrepareResultSetTest extends BaseConnectionTest {
   }
 
   @Test
-  @SuppressWarnings("unchecked")
   void cacheReuse() throws Throwable {
     Assumptions.assumeTrue(
         isMariaDBServer()
@@ -657,36 +718,26 @@ public class PrepareResultSetTest extends BaseConnectionTest {
             .expectNext(i)
             .verifyComplete();
 
-        Object[] entriesArr = cache.entrySet().toArray();
+        // CLOCK eviction: statements not used since last clock pass are evicted first
+        Map<String, ServerPrepareResult> entries = cache.asMap();
         switch ((int) i) {
           case 0:
-            Assertions.assertTrue(entriesArr[0].toString().startsWith("SELECT 0"));
-            prepareResults[0] = ((Map.Entry<String, ServerPrepareResult>) entriesArr[0]).getValue();
+            assertCached(entries, 0);
             break;
           case 1:
-            Assertions.assertTrue(entriesArr[0].toString().startsWith("SELECT 0"));
-            Assertions.assertTrue(entriesArr[1].toString().startsWith("SELECT 1"));
-            prepareResults[1] = ((Map.Entry<String, ServerPrepareResult>) entriesArr[1]).getValue();
+            assertCached(entries, 0, 1);
             break;
           case 2:
-            Assertions.assertTrue(entriesArr[0].toString().startsWith("SELECT 0"));
-            Assertions.assertTrue(entriesArr[1].toString().startsWith("SELECT 1"));
-            Assertions.assertTrue(entriesArr[2].toString().startsWith("SELECT 2"));
-            prepareResults[2] = ((Map.Entry<String, ServerPrepareResult>) entriesArr[2]).getValue();
+            assertCached(entries, 0, 1, 2);
             break;
           case 3:
-            Assertions.assertTrue(entriesArr[0].toString().startsWith("SELECT 2"));
-            Assertions.assertTrue(entriesArr[1].toString().startsWith("SELECT 1"));
-            Assertions.assertTrue(entriesArr[2].toString().startsWith("SELECT 3"));
-            prepareResults[3] = ((Map.Entry<String, ServerPrepareResult>) entriesArr[2]).getValue();
+            assertCached(entries, 1, 2, 3);
             break;
           case 4:
-            Assertions.assertTrue(entriesArr[0].toString().startsWith("SELECT 1"));
-            Assertions.assertTrue(entriesArr[1].toString().startsWith("SELECT 3"));
-            Assertions.assertTrue(entriesArr[2].toString().startsWith("SELECT 4"));
-            prepareResults[4] = ((Map.Entry<String, ServerPrepareResult>) entriesArr[2]).getValue();
+            assertCached(entries, 1, 3, 4);
             break;
         }
+        prepareResults[(int) i] = entries.get("SELECT " + i + ", CAST (? AS INTEGER)");
 
         if (i % 2 == 0) {
           connection
@@ -723,4 +774,46 @@ public class PrepareResultSetTest extends BaseConnectionTest {
       connection.close().block();
     }
   }
+
+  @Test
+  void shareColumnMetadata() throws Throwable {
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useServerPrepStmts(true)
+            .shareColumnMetadata(true)
+            .build();
+    String sql = "SELECT CAST(? AS INTEGER) as a, 'b' as b";
+    MariadbConnectionFactory factory = new MariadbConnectionFactory(conf);
+    MariadbConnection connection = factory.create().block();
+    MariadbConnection connection2 = factory.create().block();
+    try {
+      for (MariadbConnection conn : new MariadbConnection[] {connection, connection2}) {
+        conn.createStatement(sql)
+            .bind(0, 1)
+            .execute()
+            .flatMap(r -> r.map((row, metadata) -> row.get("a", Integer.class)))
+            .as(StepVerifier::create)
+            .expectNext(1)
+            .verifyComplete();
+      }
+      ServerPrepareResult prepare =
+          ((org.mariadb.r2dbc.MariadbConnection) connection)._test_prepareCache().asMap().get(sql);
+      ServerPrepareResult prepare2 =
+          ((org.mariadb.r2dbc.MariadbConnection) connection2)._test_prepareCache().asMap().get(sql);
+      Assertions.assertSame(prepare.getColumns(), prepare2.getColumns());
+    } finally {
+      connection.close().block();
+      connection2.close().block();
+    }
+  }
+
+  private static void assertCached(Map<String, ServerPrepareResult> entries, int... values) {
+    Assertions.assertEquals(values.length, entries.size(), entries.keySet().toString());
+    for (int value : values) {
+      Assertions.assertTrue(
+          entries.containsKey("SELECT " + value + ", CAST (? AS INTEGER)"),
+          entries.keySet().toString());
+    }
+  }
 }
@@ -3,9 +3,23 @@
 
 package org.mariadb.r2dbc.integration;
 
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.mariadb.r2dbc.BaseConnectionTest;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.MariadbConnectionFactory;
+import org.mariadb.r2dbc.TestConfiguration;
 import org.mariadb.r2dbc.api.MariadbConnection;
+import org.mariadb.r2dbc.api.MariadbStatement;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 public class StatementBatchingTest extends BaseConnectionTest {
@@ -20,6 +34,147 @@ public class StatementBatchingTest extends BaseConnectionTest {
     batchStatement(sharedConnPrepare);
   }
 
+  @Test
+  void batchStatementPipelineWindow() throws Exception {
+    batchStatementWithConf(TestConfiguration.defaultBuilder.clone().batchPipelineWindow(2).build());
+    batchStatementWithConf(
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useServerPrepStmts(true)
+            .batchPipelineWindow(2)
+            .build());
+    batchStatementWithConf(TestConfiguration.defaultBuilder.clone().allowPipelining(false).build());
+    batchStatementWithConf(
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useServerPrepStmts(true)
+            .allowPipelining(false)
+            .build());
+  }
+
+  @Test
+  void batchStatementFailure() throws Exception {
+    batchStatementFailureWithConf(TestConfiguration.defaultBuilder.clone().build(), 1);
+    batchStatementFailureWithConf(
+        TestConfiguration.defaultBuilder.clone().useServerPrepStmts(true).build(), 1);
+    batchStatementFailureWithConf(
+        TestConfiguration.defaultBuilder.clone().batchPipelineWindow(4).build(), 4);
+    batchStatementFailureWithConf(
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useServerPrepStmts(true)
+            .batchPipelineWindow(4)
+            .build(),
+        4);
+  }
+
+  private void batchStatementFailureWithConf(MariadbConnectionConfiguration conf, int window)
+      throws Exception {
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      connection
+          .createStatement("CREATE TEMPORARY TABLE batchFailure (id int not null primary key)")
+          .execute()
+          .blockLast();
+      MariadbStatement stmt = connection.createStatement("INSERT INTO batchFailure values (?)");
+      for (int i = 0; i < 10; i++) {
+        if (i > 0) stmt.add();
+        // 4th binding fails with a duplicate key
+        stmt.bind(0, i == 3 ? 1 : i);
+      }
+      stmt.execute()
+          .flatMap(it -> it.getRowsUpdated())
+          .as(StepVerifier::create)
+          .expectNext(1L, 1L, 1L)
+          .expectError(R2dbcDataIntegrityViolationException.class)
+          .verify();
+
+      // no binding is sent after failure, only those already sent are executed
+      connection
+          .createStatement("SELECT COUNT(*) FROM batchFailure WHERE id > ?")
+          .bind(0, 2 + window)
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, Long.class)))
+          .as(StepVerifier::create)
+          .expectNext(0L)
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  void batchStatementMaxPipelineWindow() throws Exception {
+    int window = MariadbConnectionConfiguration.MAX_BATCH_PIPELINE_WINDOW;
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> TestConfiguration.defaultBuilder.clone().batchPipelineWindow(window + 1).build());
+    MariadbConnection connection =
+        new MariadbConnectionFactory(
+                TestConfiguration.defaultBuilder.clone().batchPipelineWindow(window).build())
+            .create()
+            .block();
+    try {
+      connection
+          .createStatement("CREATE TEMPORARY TABLE batchMaxWindow (id int not null primary key)")
+          .execute()
+          .blockLast();
+      MariadbStatement stmt = connection.createStatement("INSERT INTO batchMaxWindow values (?)");
+      for (int i = 0; i < 3 * window; i++) {
+        if (i > 0) stmt.add();
+        stmt.bind(0, i);
+      }
+      // a full window of batch commands leaves room for other commands
+      Mono<Long> batch = stmt.execute().flatMap(it -> it.getRowsUpdated()).count();
+      Mono<Integer> query =
+          connection
+              .createStatement("SELECT 1")
+              .execute()
+              .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+              .single();
+      Mono.zip(batch, query)
+          .as(StepVerifier::create)
+          .assertNext(
+              res -> {
+                Assertions.assertEquals(3L * window, res.getT1());
+                Assertions.assertEquals(1, res.getT2());
+              })
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  private void batchStatementWithConf(MariadbConnectionConfiguration conf) throws Exception {
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      connection
+          .createStatement(
+              "CREATE TEMPORARY TABLE batchWindow (id int not null primary key, test varchar(10))")
+          .execute()
+          .blockLast();
+      MariadbStatement stmt = connection.createStatement("INSERT INTO batchWindow values (?, ?)");
+      for (int i = 0; i < 10; i++) {
+        if (i > 0) stmt.add();
+        stmt.bind(0, i).bind(1, "test" + i);
+      }
+      stmt.execute()
+          .flatMap(it -> it.getRowsUpdated())
+          .as(StepVerifier::create)
+          .expectNext(1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L, 1L)
+          .verifyComplete();
+      connection
+          .createStatement("SELECT group_concat(id ORDER BY id) FROM batchWindow")
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, String.class)))
+          .as(StepVerifier::create)
+          .expectNext("0,1,2,3,4,5,6,7,8,9")
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
   void batchStatement(MariadbConnection connection) {
     connection
         .createStatement(
@@ -83,4 +238,114 @@ public class StatementBatchingTest extends BaseConnectionTest {
         .verifyComplete();
     connection.rollbackTransaction().block();
   }
+
+  @Test
+  void batchStatementBulk() throws Exception {
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 2, 0));
+    // small max_allowed_packet to force bulk splitting
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useServerPrepStmts(true)
+            .useBulkStmts(true)
+            .maxAllowedPacket(1024)
+            .build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      connection
+          .createStatement(
+              "CREATE TEMPORARY TABLE batchStatementBulk (id int not null primary key, test varchar(20))")
+          .execute()
+          .blockLast();
+      MariadbStatement stmt =
+          connection.createStatement("INSERT INTO batchStatementBulk values (?, ?)");
+      for (int i = 1; i < 200; i++) {
+        stmt.bind(0, i).bind(1, "test" + i).add();
+      }
+      stmt.bind(0, 200).bindNull(1, String.class);
+      stmt.execute()
+          .flatMap(r -> r.getRowsUpdated())
+          .reduce(0L, Long::sum)
+          .as(StepVerifier::create)
+          .expectNext(200L)
+          .verifyComplete();
+
+      connection
+          .createStatement("SELECT count(*), count(test), max(test) FROM batchStatementBulk")
+          .execute()
+          .flatMap(
+              r ->
+                  r.map(
+                      (row, metadata) ->
+                          row.get(0, Long.class)
+                              + "-"
+                              + row.get(1, Long.class)
+                              + "-"
+                              + row.get(2, String.class)))
+          .as(StepVerifier::create)
+          .expectNext("200-199-test99")
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  void batchStatementLongData() {
+    // batch of server prepared statements with values sent in several COM_STMT_SEND_LONG_DATA
+    // chunks per execution
+    int length = 3 * LongDataPacket.CHUNK_SIZE + 10;
+    sharedConnPrepare
+        .createStatement(
+            "CREATE TEMPORARY TABLE batchStatementLongData (id int not null primary key, b LONGBLOB, c LONGTEXT)")
+        .execute()
+        .blockLast();
+    MariadbStatement stmt =
+        sharedConnPrepare.createStatement("INSERT INTO batchStatementLongData VALUES (?, ?, ?)");
+    for (int i = 1; i <= 3; i++) {
+      byte[] bytes = new byte[length];
+      Arrays.fill(bytes, (byte) i);
+      char[] chars = new char[length];
+      Arrays.fill(chars, (char) ('a' + i));
+      stmt.bind(0, i)
+          .bind(1, Blob.from(Mono.just(ByteBuffer.wrap(bytes))))
+          .bind(
+              2, Clob.from(Flux.just(new String(chars, 0, 10), new String(chars, 10, length - 10))))
+          .add();
+    }
+    stmt.bind(0, 4).bindNull(1, Blob.class).bindNull(2, Clob.class);
+    stmt.execute()
+        .flatMap(r -> r.getRowsUpdated())
+        .reduce(0L, Long::sum)
+        .as(StepVerifier::create)
+        .expectNext(4L)
+        .verifyComplete();
+
+    sharedConnPrepare
+        .createStatement(
+            "SELECT id, LENGTH(b), LENGTH(c), HEX(SUBSTRING(b, ?, 1)), SUBSTRING(c, ?, 1) FROM batchStatementLongData ORDER BY id")
+        .bind(0, length)
+        .bind(1, length)
+        .execute()
+        .flatMap(
+            r ->
+                r.map(
+                    (row, metadata) ->
+                        row.get(0, Integer.class)
+                            + "-"
+                            + row.get(1, Integer.class)
+                            + "-"
+                            + row.get(2, Integer.class)
+                            + "-"
+                            + row.get(3, String.class)
+                            + "-"
+                            + row.get(4, String.class)))
+        .as(StepVerifier::create)
+        .expectNext(
+            "1-" + length + "-" + length + "-01-b",
+            "2-" + length + "-" + length + "-02-c",
+            "3-" + length + "-" + length + "-03-d",
+            "4-null-null-null-null")
+        .verifyComplete();
+  }
 }
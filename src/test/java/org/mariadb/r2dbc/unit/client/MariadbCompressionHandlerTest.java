@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.client.MariadbCompressionHandler;
+
+public class MariadbCompressionHandlerTest {
+
+  private static ByteBuf packet(int sequence, String data) {
+    byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeMediumLE(bytes.length);
+    buf.writeByte(sequence);
+    buf.writeBytes(bytes);
+    return buf;
+  }
+
+  private static String repeat(String s, int times) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < times; i++) sb.append(s);
+    return sb.toString();
+  }
+
+  @Test
+  void smallPacketNotCompressed() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbCompressionHandler(100));
+    ByteBuf packet = packet(0, "SELECT 1");
+    byte[] expected = ByteBufUtil.getBytes(packet);
+    assertTrue(channel.writeOutbound(packet));
+    ByteBuf out = channel.readOutbound();
+    assertEquals(expected.length, out.getUnsignedMediumLE(0));
+    assertEquals(0, out.getUnsignedByte(3));
+    assertEquals(0, out.getUnsignedMediumLE(4));
+    assertArrayEquals(expected, ByteBufUtil.getBytes(out, 7, expected.length));
+    out.release();
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void roundTrip() {
+    EmbeddedChannel client = new EmbeddedChannel(new MariadbCompressionHandler(50));
+    String sql = "SELECT '" + repeat("abcdefgh", 1000) + "'";
+    ByteBuf packet = packet(0, sql);
+    byte[] expected = ByteBufUtil.getBytes(packet);
+    assertTrue(client.writeOutbound(packet));
+    ByteBuf compressed = client.readOutbound();
+    assertTrue(compressed.readableBytes() < expected.length);
+    assertEquals(0, compressed.getUnsignedByte(3));
+    assertEquals(expected.length, compressed.getUnsignedMediumLE(4));
+
+    // decode in two parts to ensure incomplete packets are awaited
+    EmbeddedChannel server = new EmbeddedChannel(new MariadbCompressionHandler(50));
+    assertFalse(server.writeInbound(compressed.readRetainedSlice(10)));
+    assertTrue(server.writeInbound(compressed));
+    ByteBuf decoded = server.readInbound();
+    assertArrayEquals(expected, ByteBufUtil.getBytes(decoded));
+    decoded.release();
+
+    client.finishAndReleaseAll();
+    server.finishAndReleaseAll();
+  }
+
+  @Test
+  void sequence() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbCompressionHandler(50));
+    // server response with compression sequence 0
+    ByteBuf response = Unpooled.buffer();
+    ByteBuf ok = packet(1, "ok");
+    response.writeMediumLE(ok.readableBytes());
+    response.writeByte(0);
+    response.writeMediumLE(0);
+    response.writeBytes(ok);
+    ok.release();
+    assertTrue(channel.writeInbound(response));
+    ((ByteBuf) channel.readInbound()).release();
+
+    // continuation packet keeps compression sequence
+    channel.writeOutbound(packet(2, "data"));
+    ByteBuf out = channel.readOutbound();
+    assertEquals(1, out.getUnsignedByte(3));
+    out.release();
+
+    // new command reset compression sequence
+    channel.writeOutbound(packet(0, "SELECT 1"));
+    out = channel.readOutbound();
+    assertEquals(0, out.getUnsignedByte(3));
+    out.release();
+    channel.finishAndReleaseAll();
+  }
+}
@@ -0,0 +1,204 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.client.MariadbFrameDecoder;
+import org.mariadb.r2dbc.client.MariadbRowMetadata;
+import org.mariadb.r2dbc.client.MariadbRowText;
+import org.mariadb.r2dbc.client.SimpleContext;
+import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.message.server.EofPacket;
+import org.mariadb.r2dbc.message.server.RowPacket;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+import org.mariadb.r2dbc.util.constants.ServerStatus;
+import reactor.core.publisher.Flux;
+
+public class MariadbFrameDecoderTest {
+
+  private static final int MAX_PACKET = 0xffffff;
+  private static final int VALUE_LENGTH = 2 * MAX_PACKET + 100;
+
+  private static EmbeddedChannel channel() {
+    MariadbConnectionConfiguration conf =
+        MariadbConnectionConfiguration.builder()
+            .host("localhost")
+            .username("test")
+            .streamLargeValues(true)
+            .build();
+    MariadbFrameDecoder decoder = new MariadbFrameDecoder(new ArrayDeque<>(), null, conf);
+    long capabilities = Capabilities.CLIENT_MYSQL | Capabilities.CLIENT_PROTOCOL_41;
+    decoder.setContext(
+        new SimpleContext(
+            "10.6.11-MariaDB",
+            1L,
+            capabilities,
+            ServerStatus.AUTOCOMMIT,
+            true,
+            capabilities,
+            "db",
+            null,
+            IsolationLevel.REPEATABLE_READ));
+    return new EmbeddedChannel(decoder);
+  }
+
+  private static void writePacket(ByteBuf out, int sequence, ByteBuf body) {
+    out.writeMediumLE(body.readableBytes());
+    out.writeByte(sequence);
+    out.writeBytes(body);
+  }
+
+  /** Result-set of one BLOB column, with one row containing a value of VALUE_LENGTH bytes. */
+  private static ByteBuf resultSet() {
+    ByteBuf out = Unpooled.buffer();
+    writePacket(out, 1, Unpooled.wrappedBuffer(new byte[] {1}));
+
+    ByteBuf column = Unpooled.buffer();
+    for (String s : new String[] {"def", "db", "t", "t", "v", "v"}) {
+      column.writeByte(s.length());
+      column.writeCharSequence(s, StandardCharsets.UTF_8);
+    }
+    column.writeByte(0x0c);
+    column.writeShortLE(63);
+    column.writeIntLE(-1);
+    column.writeByte(DataType.BLOB.get());
+    column.writeShortLE(0);
+    column.writeByte(0);
+    column.writeShortLE(0);
+    writePacket(out, 2, column);
+    writePacket(out, 3, Unpooled.wrappedBuffer(new byte[] {(byte) 0xfe, 0, 0, 2, 0}));
+
+    ByteBuf row = Unpooled.buffer(VALUE_LENGTH + 9);
+    row.writeByte(0xfe);
+    row.writeLongLE(VALUE_LENGTH);
+    for (int i = 0; i < VALUE_LENGTH; i++) row.writeByte(i);
+    int sequence = 4;
+    while (true) {
+      int length = Math.min(MAX_PACKET, row.readableBytes());
+      writePacket(out, sequence++, row.readSlice(length));
+      if (length < MAX_PACKET) break;
+    }
+    writePacket(out, sequence, Unpooled.wrappedBuffer(new byte[] {(byte) 0xfe, 0, 0, 2, 0}));
+    return out;
+  }
+
+  private static void writeInChunks(EmbeddedChannel channel, ByteBuf data) {
+    while (data.isReadable()) {
+      channel.writeInbound(data.readRetainedSlice(Math.min(256 * 1024, data.readableBytes())));
+    }
+    data.release();
+  }
+
+  @Test
+  public void streamLargeValue() {
+    EmbeddedChannel channel = channel();
+    writeInChunks(channel, resultSet());
+
+    channel.readInbound(); // column count
+    ColumnDefinitionPacket column = channel.readInbound();
+    Assertions.assertTrue(channel.readInbound() instanceof EofPacket);
+    RowPacket packet = channel.readInbound();
+    Assertions.assertNotNull(packet.getLargeValue());
+    MariadbRowText row =
+        new MariadbRowText(
+            packet.getRaw(),
+            new MariadbRowMetadata(new ColumnDefinitionPacket[] {column}),
+            ExceptionFactory.INSTANCE,
+            packet.getLargeValue());
+    // consumer is late: socket reading is paused
+    Assertions.assertFalse(channel.config().isAutoRead());
+    Assertions.assertThrows(R2dbcTransientResourceException.class, () -> row.get(0, byte[].class));
+
+    Blob blob = row.get(0, Blob.class);
+    Assertions.assertThrows(R2dbcTransientResourceException.class, () -> row.get(0, Blob.class));
+    packet.release();
+    long[] read = new long[] {0};
+    boolean[] sameContent = new boolean[] {true};
+    Flux.from(blob.stream())
+        .doOnNext(
+            bb -> {
+              while (bb.hasRemaining()) {
+                if (bb.get() != (byte) read[0]++) sameContent[0] = false;
+              }
+            })
+        .blockLast();
+    Assertions.assertEquals(VALUE_LENGTH, read[0]);
+    Assertions.assertTrue(sameContent[0]);
+
+    channel.runPendingTasks();
+    Assertions.assertTrue(channel.config().isAutoRead());
+    Assertions.assertTrue(channel.readInbound() instanceof EofPacket);
+    Assertions.assertFalse(channel.finish());
+  }
+
+  @Test
+  public void unclaimedValueIsDrained() {
+    EmbeddedChannel channel = channel();
+    ByteBuf data = resultSet();
+    // send until row is received
+    channel.writeInbound(data.readRetainedSlice(MAX_PACKET + 1024));
+    RowPacket row;
+    Object msg;
+    do {
+      msg = channel.readInbound();
+    } while (!(msg instanceof RowPacket));
+    row = (RowPacket) msg;
+    row.release();
+
+    writeInChunks(channel, data);
+    channel.runPendingTasks();
+    Assertions.assertTrue(channel.config().isAutoRead());
+    Assertions.assertTrue(channel.readInbound() instanceof EofPacket);
+    Assertions.assertFalse(channel.finish());
+  }
+
+  @Test
+  public void cancelledValueIsReleased() {
+    EmbeddedChannel channel = channel();
+    ByteBuf data = resultSet();
+    data.retain();
+    // send row and part of value content
+    channel.writeInbound(data.readRetainedSlice(MAX_PACKET + 1024));
+    channel.readInbound(); // column count
+    ColumnDefinitionPacket column = channel.readInbound();
+    Assertions.assertTrue(channel.readInbound() instanceof EofPacket);
+    RowPacket packet = channel.readInbound();
+    channel.writeInbound(data.readRetainedSlice(2 * 1024 * 1024));
+    Assertions.assertFalse(channel.config().isAutoRead());
+
+    MariadbRowText row =
+        new MariadbRowText(
+            packet.getRaw(),
+            new MariadbRowMetadata(new ColumnDefinitionPacket[] {column}),
+            ExceptionFactory.INSTANCE,
+            packet.getLargeValue());
+    Blob blob = row.get(0, Blob.class);
+    packet.release();
+
+    // consumer cancels after having read head and one part
+    Assertions.assertEquals(2, Flux.from(blob.stream()).take(2).count().block());
+    channel.runPendingTasks();
+    Assertions.assertTrue(channel.config().isAutoRead());
+
+    // remaining content is released on reception
+    writeInChunks(channel, data);
+    Assertions.assertTrue(channel.readInbound() instanceof EofPacket);
+    Assertions.assertFalse(channel.finish());
+    // only reference left is the one retained by this test: every part has been released
+    Assertions.assertEquals(1, data.refCnt());
+    data.release();
+  }
+}
@@ -0,0 +1,355 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.IsolationLevel;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.api.MariadbMetrics;
+import org.mariadb.r2dbc.client.MariadbPacketEncoder;
+import org.mariadb.r2dbc.client.SimpleContext;
+import org.mariadb.r2dbc.codec.Codecs;
+import org.mariadb.r2dbc.codec.list.ByteBufferCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.client.ExecutePacket;
+import org.mariadb.r2dbc.message.client.LoadDataPacket;
+import org.mariadb.r2dbc.message.client.LocalInfileEndPacket;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
+import org.mariadb.r2dbc.message.client.QueryPacket;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.message.server.Sequencer;
+import org.mariadb.r2dbc.util.BindValue;
+import org.mariadb.r2dbc.util.Binding;
+import org.mariadb.r2dbc.util.ServerPrepareResult;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+import org.mariadb.r2dbc.util.constants.ServerStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class MariadbPacketEncoderTest {
+
+  private static MariadbPacketEncoder encoder() {
+    MariadbPacketEncoder encoder = new MariadbPacketEncoder(MariadbMetrics.NONE);
+    encoder.setContext(encoderContext());
+    return encoder;
+  }
+
+  private static Context encoderContext() {
+    long capabilities = Capabilities.CLIENT_MYSQL | Capabilities.CLIENT_PROTOCOL_41;
+    return new SimpleContext(
+        "10.6.11-MariaDB",
+        1L,
+        capabilities,
+        ServerStatus.AUTOCOMMIT,
+        true,
+        capabilities,
+        "db",
+        UnpooledByteBufAllocator.DEFAULT,
+        IsolationLevel.REPEATABLE_READ);
+  }
+
+  private static void assertLongData(ByteBuf packet, int parameter, int length) {
+    Assertions.assertEquals(length + 7, packet.readUnsignedMediumLE());
+    Assertions.assertEquals(0, packet.readByte());
+    Assertions.assertEquals(0x18, packet.readByte());
+    Assertions.assertEquals(-1, packet.readIntLE());
+    Assertions.assertEquals(parameter, packet.readShortLE());
+    Assertions.assertEquals(length, packet.readableBytes());
+  }
+
+  @Test
+  public void longData() {
+    int length = 3 * LongDataPacket.CHUNK_SIZE + 10;
+    byte[] data = new byte[length];
+    BindValue[] values =
+        new BindValue[] {
+          Codecs.encode(12, 0),
+          Codecs.encode(new ByteArrayInputStream(data), 1),
+          Codecs.encode(Blob.from(Mono.just(ByteBuffer.wrap(new byte[] {1, 2, 3}))), 2),
+          Codecs.encode(new ByteArrayInputStream(new byte[0]), 3)
+        };
+
+    List<ByteBuf> packets =
+        Flux.from(encoder().encode(new ExecutePacket("INSERT", null, values)))
+            .cast(ByteBuf.class)
+            .collectList()
+            .block();
+
+    Assertions.assertEquals(6, packets.size());
+    assertLongData(packets.get(0), 1, LongDataPacket.CHUNK_SIZE);
+    assertLongData(packets.get(1), 1, LongDataPacket.CHUNK_SIZE);
+    assertLongData(packets.get(2), 1, LongDataPacket.CHUNK_SIZE);
+    assertLongData(packets.get(3), 1, 10);
+    assertLongData(packets.get(4), 2, 3);
+
+    // execute packet only contains int value and empty stream value
+    ByteBuf execute = packets.get(5);
+    execute.skipBytes(4 + 1 + 4 + 1 + 4);
+    Assertions.assertEquals(0, execute.readByte()); // null bitmap
+    Assertions.assertEquals(1, execute.readByte()); // send types
+    execute.skipBytes(4 * 2);
+    Assertions.assertEquals(12, execute.readIntLE());
+    Assertions.assertEquals(0, execute.readByte());
+    Assertions.assertEquals(0, execute.readableBytes());
+    packets.forEach(ByteBuf::release);
+  }
+
+  private static void assertPacket(ByteBuf packet, int sequence, String content) {
+    Assertions.assertEquals(content.length(), packet.readUnsignedMediumLE());
+    Assertions.assertEquals(sequence, packet.readByte());
+    Assertions.assertEquals(content, packet.toString(StandardCharsets.UTF_8));
+    packet.release();
+  }
+
+  @Test
+  public void headerInPlace() {
+    ByteBuf packet = encoder().encodeFlux(new QueryPacket("SELECT 1")).block();
+    Assertions.assertFalse(packet instanceof CompositeByteBuf);
+    assertPacket(packet, 0, "\u0003SELECT 1");
+  }
+
+  @Test
+  public void largeContentSplit() {
+    StringBuilder sb = new StringBuilder("SELECT '");
+    while (sb.length() < 0xffffff) sb.append("0123456789abcdef");
+    String sql = sb.append("'").toString();
+    ByteBuf out = encoder().encodeFlux(new QueryPacket(sql)).block();
+    Assertions.assertTrue(out instanceof CompositeByteBuf);
+    Assertions.assertEquals(0xffffff, out.readUnsignedMediumLE());
+    Assertions.assertEquals(0, out.readByte());
+    out.skipBytes(0xffffff);
+    Assertions.assertEquals(sql.length() + 1 - 0xffffff, out.readUnsignedMediumLE());
+    Assertions.assertEquals(1, out.readByte());
+    out.skipBytes(sql.length() + 1 - 0xffffff);
+    Assertions.assertEquals(0, out.readableBytes());
+    out.release();
+  }
+
+  @Test
+  public void estimateLength() {
+    SimpleContext context = (SimpleContext) encoderContext();
+    Object[] values =
+        new Object[] {
+          true,
+          (byte) -128,
+          (short) -32768,
+          Integer.MIN_VALUE,
+          Long.MIN_VALUE,
+          -Float.MIN_NORMAL,
+          -Double.MIN_NORMAL,
+          new BigDecimal("-123.4500"),
+          new BigDecimal("1E+5"),
+          new BigDecimal("0.000001"),
+          new BigInteger("-123456789012345678901234567890"),
+          "string \u00e9\u00e0 \ud83d\ude00",
+          new String(new char[300]).replace('\0', 'a'),
+          new byte[] {1, 2, 3},
+          BitSet.valueOf(new long[] {0x1234}),
+          LocalDate.of(2022, 12, 31),
+          LocalDateTime.of(2022, 12, 31, 23, 59, 59),
+          LocalDateTime.of(2022, 12, 31, 23, 59, 59, 123456000),
+          LocalTime.of(23, 59, 59),
+          LocalTime.of(23, 59, 59, 1000),
+          Duration.ofSeconds(-3600 * 1000 - 1, 1000)
+        };
+    for (int i = 0; i <= values.length; i++) {
+      // ByteBuffer implementations have no registered class
+      BindValue value =
+          i == values.length
+              ? new BindValue(ByteBufferCodec.INSTANCE, ByteBuffer.wrap(new byte[] {1, 2, 3}))
+              : Codecs.encode(values[i], i);
+      int textEstimate = value.estimateTextLength();
+      int binaryEstimate = value.estimateBinaryLength();
+
+      ByteBuf buf = UnpooledByteBufAllocator.DEFAULT.buffer();
+      value.encodeDirectText(buf, context);
+      int length = buf.readableBytes();
+      Assertions.assertTrue(textEstimate >= length && textEstimate <= length + 16, "text " + i);
+
+      buf.clear();
+      value.encodeDirectBinary(UnpooledByteBufAllocator.DEFAULT, buf, context);
+      length = buf.readableBytes();
+      Assertions.assertTrue(
+          binaryEstimate >= length && binaryEstimate <= length + 16, "binary " + i);
+      buf.release();
+    }
+  }
+
+  /** Return type flag of execute packet with 2 parameters, releasing packet. */
+  private static int executeTypeFlag(ByteBuf packet, int valuesLength) {
+    int flag = packet.getByte(4 + 10 + 1);
+    Assertions.assertEquals(
+        4 + 10 + 1 + 1 + (flag == 1 ? 4 : 0) + valuesLength, packet.readableBytes());
+    Assertions.assertEquals(0x17, packet.getByte(4));
+    Assertions.assertEquals(5, packet.getIntLE(5));
+    packet.release();
+    return flag;
+  }
+
+  @Test
+  public void parameterTypesSentOnlyWhenChanged() {
+    MariadbPacketEncoder encoder = encoder();
+    ServerPrepareResult prepareResult =
+        new ServerPrepareResult(5, 2, new ColumnDefinitionPacket[0]);
+    BindValue[] values = new BindValue[] {Codecs.encode(1, 0), Codecs.encode(2, 1)};
+    BindValue[] otherTypes = new BindValue[] {Codecs.encode(1, 0), Codecs.encode(2L, 1)};
+
+    Assertions.assertEquals(
+        1,
+        executeTypeFlag(
+            encoder.encodeFlux(new ExecutePacket("S", prepareResult, values)).block(), 8));
+    Assertions.assertEquals(
+        0,
+        executeTypeFlag(
+            encoder.encodeFlux(new ExecutePacket("S", prepareResult, values)).block(), 8));
+    Assertions.assertEquals(
+        1,
+        executeTypeFlag(
+            encoder.encodeFlux(new ExecutePacket("S", prepareResult, otherTypes)).block(), 12));
+
+    // types are restored when redo is done with a new statement
+    ExecutePacket execute = new ExecutePacket("S", prepareResult, otherTypes);
+    ByteBuf packet = encoder.encodeFlux(execute).block();
+    Assertions.assertEquals(0, packet.getByte(4 + 10 + 1));
+    execute.save(packet, 4);
+    packet.release();
+    execute.forceStatementId(5);
+    execute.resetSequencer();
+    Assertions.assertEquals(1, executeTypeFlag(encoder.encodeFlux(execute).block(), 12));
+  }
+
+  @Test
+  public void parameterTypesResentAfterEncodingFailure() {
+    MariadbPacketEncoder encoder = encoder();
+    ServerPrepareResult prepareResult =
+        new ServerPrepareResult(5, 2, new ColumnDefinitionPacket[0]);
+    BindValue[] values = new BindValue[] {Codecs.encode(1, 0), Codecs.encode(2, 1)};
+    // second value fails when encoded, after type block has been written
+    BindValue[] failing =
+        new BindValue[] {Codecs.encode(1, 0), new BindValue(IntCodec.INSTANCE, "not an int")};
+
+    Assertions.assertThrows(
+        ClassCastException.class,
+        () -> encoder.encodeFlux(new ExecutePacket("S", prepareResult, failing)).block());
+    Assertions.assertEquals(
+        1,
+        executeTypeFlag(
+            encoder.encodeFlux(new ExecutePacket("S", prepareResult, values)).block(), 8));
+    Assertions.assertEquals(
+        0,
+        executeTypeFlag(
+            encoder.encodeFlux(new ExecutePacket("S", prepareResult, values)).block(), 8));
+
+    // failed command: types are sent again
+    new ExecutePacket("S", prepareResult, values).failed();
+    Assertions.assertEquals(
+        1,
+        executeTypeFlag(
+            encoder.encodeFlux(new ExecutePacket("S", prepareResult, values)).block(), 8));
+  }
+
+  @Test
+  public void primitiveBinding() {
+    MariadbPacketEncoder encoder = encoder();
+    byte[] bytes = new byte[] {1, 2, 3};
+    BindValue[] values =
+        new BindValue[] {
+          Codecs.encode(-12, 0),
+          Codecs.encode(Long.MIN_VALUE, 1),
+          Codecs.encode(1.5d, 2),
+          Codecs.encode(bytes, 3)
+        };
+    Binding binding = new Binding(4);
+    binding.addInt(0, -12).addLong(1, Long.MIN_VALUE).addDouble(2, 1.5d).add(3, values[3]);
+
+    ByteBuf expected = encoder.encodeFlux(new ExecutePacket("S", null, values)).block();
+    ByteBuf packet =
+        encoder
+            .encodeFlux(new ExecutePacket("S", null, binding.getBinaryParameters(4), false))
+            .block();
+    Assertions.assertEquals(expected, packet);
+    expected.release();
+    packet.release();
+  }
+
+  @Test
+  public void loadData() {
+    Flux<ByteBuffer> data =
+        Flux.just("1,a\n", "", "2,b\n")
+            .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)));
+    LoadDataPacket packet =
+        new LoadDataPacket("LOAD DATA LOCAL INFILE 'f' INTO TABLE t", data, 16_777_216);
+    List<ByteBuf> packets = new ArrayList<>();
+    Flux.from(encoder().encode(packet)).subscribe(packets::add);
+
+    // content is only sent once server asks for it
+    Assertions.assertEquals(1, packets.size());
+    assertPacket(packets.get(0), 0, "\u0003LOAD DATA LOCAL INFILE 'f' INTO TABLE t");
+
+    packet.requested(true);
+    Assertions.assertEquals(4, packets.size());
+    assertPacket(packets.get(1), 2, "1,a\n");
+    assertPacket(packets.get(2), 3, "2,b\n");
+    assertPacket(packets.get(3), 4, "");
+  }
+
+  @Test
+  public void loadDataMaxAllowedPacket() {
+    Flux<ByteBuffer> data =
+        Flux.just("1,a\n2,b\n3,c\n").map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)));
+    LoadDataPacket packet = new LoadDataPacket("LOAD DATA LOCAL INFILE 'f' INTO TABLE t", data, 5);
+    List<ByteBuf> packets = new ArrayList<>();
+    Flux.from(encoder().encode(packet)).subscribe(packets::add);
+    packets.remove(0).release();
+
+    // content is split at max_allowed_packet
+    packet.requested(true);
+    Assertions.assertEquals(4, packets.size());
+    assertPacket(packets.get(0), 2, "1,a\n2");
+    assertPacket(packets.get(1), 3, ",b\n3,");
+    assertPacket(packets.get(2), 4, "c\n");
+    assertPacket(packets.get(3), 5, "");
+  }
+
+  @Test
+  public void localInfileEnd() {
+    // answer to server LOCAL_INFILE packet of sequence 1
+    ByteBuf packet =
+        encoder().encodeFlux(new LocalInfileEndPacket(new Sequencer((byte) 1))).block();
+    assertPacket(packet, 2, "");
+  }
+
+  @Test
+  public void loadDataNotRequested() {
+    LoadDataPacket packet =
+        new LoadDataPacket(
+            "LOAD DATA LOCAL INFILE 'f' INTO TABLE t", Flux.error(new Exception()), 16_777_216);
+    List<ByteBuf> packets =
+        Flux.from(encoder().encode(packet))
+            .cast(ByteBuf.class)
+            .doOnSubscribe(s -> packet.requested(false))
+            .collectList()
+            .block();
+    Assertions.assertEquals(1, packets.size());
+    packets.get(0).release();
+    Assertions.assertNull(packet.getDataError());
+  }
+}
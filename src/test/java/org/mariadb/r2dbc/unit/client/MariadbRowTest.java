@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.R2dbcNonTransientResourceException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.client.MariadbRowBinary;
+import org.mariadb.r2dbc.client.MariadbRowMetadata;
+import org.mariadb.r2dbc.client.MariadbRowText;
+import org.mariadb.r2dbc.client.SimpleContext;
+import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.message.server.Sequencer;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+import org.mariadb.r2dbc.util.constants.ServerStatus;
+
+public class MariadbRowTest {
+
+  private static final MariadbConnectionConfiguration conf =
+      MariadbConnectionConfiguration.builder().host("localhost").username("test").build();
+
+  private static ColumnDefinitionPacket column(String name, DataType type, int charset) {
+    ByteBuf buf = Unpooled.buffer();
+    for (String s : new String[] {"def", "db", "t", "t", name, name}) {
+      buf.writeByte(s.length());
+      buf.writeCharSequence(s, StandardCharsets.UTF_8);
+    }
+    buf.writeByte(0x0c);
+    buf.writeShortLE(charset);
+    buf.writeIntLE(255);
+    buf.writeByte(type.get());
+    buf.writeShortLE(0);
+    buf.writeByte(0);
+    buf.writeShortLE(0);
+    long capabilities = Capabilities.CLIENT_MYSQL | Capabilities.CLIENT_PROTOCOL_41;
+    return ColumnDefinitionPacket.decode(
+        new Sequencer((byte) 0),
+        buf,
+        new SimpleContext(
+            "10.6.11-MariaDB",
+            1L,
+            capabilities,
+            ServerStatus.AUTOCOMMIT,
+            true,
+            capabilities,
+            "db",
+            null,
+            IsolationLevel.REPEATABLE_READ),
+        false,
+        conf);
+  }
+
+  private static MariadbRowMetadata metadata() {
+    return new MariadbRowMetadata(
+        new ColumnDefinitionPacket[] {
+          column("a", DataType.INTEGER, 63),
+          column("b", DataType.VARSTRING, 45),
+          column("c", DataType.BIGINT, 63),
+          column("d", DataType.VARSTRING, 45)
+        });
+  }
+
+  @Test
+  public void textRandomAccess() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeBytes(new byte[] {2, '1', '2', 3, 'a', 'b', 'c', (byte) 251, 1, 'z'});
+    MariadbRowText row = new MariadbRowText(buf, metadata(), ExceptionFactory.INSTANCE);
+    Assertions.assertEquals("abc", row.get(1, String.class));
+    Assertions.assertEquals("z", row.get(3, String.class));
+    Assertions.assertEquals(12, row.get(0, Integer.class));
+    Assertions.assertNull(row.get(2, Long.class));
+    Assertions.assertEquals("abc", row.get("b", String.class));
+    Assertions.assertEquals("z", row.get(3, String.class));
+  }
+
+  @Test
+  public void binaryRandomAccess() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(0x00);
+    // null bitmap with column 1 null, offset by 2 bits
+    buf.writeByte(1 << 3);
+    buf.writeIntLE(12);
+    buf.writeLongLE(5_000_000_000L);
+    buf.writeBytes(new byte[] {1, 'z'});
+    MariadbRowBinary row = new MariadbRowBinary(buf, metadata(), ExceptionFactory.INSTANCE);
+    Assertions.assertEquals("z", row.get(3, String.class));
+    Assertions.assertEquals(12, row.get(0, Integer.class));
+    Assertions.assertNull(row.get(1, String.class));
+    Assertions.assertEquals(5_000_000_000L, row.get(2, Long.class));
+    Assertions.assertEquals("z", row.get("d", String.class));
+    Assertions.assertEquals(12, row.get(0, Integer.class));
+  }
+
+  @Test
+  public void sequentialAccess() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeBytes(new byte[] {2, '1', '2', 3, 'a', 'b', 'c', (byte) 251, 1, 'z'});
+    MariadbRowText row = new MariadbRowText(buf, metadata(), ExceptionFactory.INSTANCE);
+    Assertions.assertEquals(12, row.get(0, Integer.class));
+    Assertions.assertEquals("abc", row.get(1, String.class));
+    Assertions.assertNull(row.get(2, Long.class));
+    Assertions.assertEquals("z", row.get(3, String.class));
+  }
+
+  @Test
+  public void codecPerAskedType() {
+    MariadbRowMetadata meta = metadata();
+    for (int i = 0; i < 2; i++) {
+      ByteBuf buf = Unpooled.buffer();
+      buf.writeBytes(new byte[] {2, '1', '2', 3, 'a', 'b', 'c', (byte) 251, 1, 'z'});
+      MariadbRowText row = new MariadbRowText(buf, meta, ExceptionFactory.INSTANCE);
+      Assertions.assertEquals(12, row.get(0, Integer.class));
+      Assertions.assertEquals("12", row.get(0, String.class));
+      Assertions.assertEquals(12, row.get(0, Object.class));
+      Assertions.assertThrows(
+          R2dbcTransientResourceException.class, () -> row.get(1, Thread.class));
+      Assertions.assertEquals("abc", row.get(1, String.class));
+    }
+  }
+
+  @Test
+  public void primitiveAccessors() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeBytes(new byte[] {2, '1', '2', 3, 'a', 'b', 'c', (byte) 251, 1, '0'});
+    MariadbRowText row = new MariadbRowText(buf, metadata(), ExceptionFactory.INSTANCE);
+    Assertions.assertEquals(12, row.getInt(0));
+    Assertions.assertFalse(row.wasNull());
+    Assertions.assertEquals(0L, row.getLong(2));
+    Assertions.assertTrue(row.wasNull());
+    Assertions.assertEquals(12L, row.getLong("a"));
+    Assertions.assertEquals(12D, row.getDouble(0));
+    Assertions.assertFalse(row.getBoolean(3));
+    Assertions.assertFalse(row.wasNull());
+
+    buf = Unpooled.buffer();
+    buf.writeByte(0x00);
+    buf.writeByte(1 << 3);
+    buf.writeIntLE(-12);
+    buf.writeLongLE(5_000_000_000L);
+    buf.writeBytes(new byte[] {3, '1', '.', '5'});
+    MariadbRowBinary binRow = new MariadbRowBinary(buf, metadata(), ExceptionFactory.INSTANCE);
+    Assertions.assertEquals(5_000_000_000L, binRow.getLong(2));
+    Assertions.assertEquals(-12, binRow.getInt("a"));
+    Assertions.assertEquals(1.5D, binRow.getDouble(3));
+    Assertions.assertFalse(binRow.getBoolean(1));
+    Assertions.assertTrue(binRow.wasNull());
+    Assertions.assertThrows(R2dbcNonTransientResourceException.class, () -> binRow.getInt(2));
+    Assertions.assertThrows(R2dbcNonTransientResourceException.class, () -> row.getInt(1));
+  }
+}
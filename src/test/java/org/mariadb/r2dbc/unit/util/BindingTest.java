@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.MariadbCommonStatement;
+import org.mariadb.r2dbc.codec.Codecs;
+import org.mariadb.r2dbc.codec.list.DoubleCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.LongCodec;
+import org.mariadb.r2dbc.util.BindValue;
+import org.mariadb.r2dbc.util.Binding;
+
+public class BindingTest {
+  @Test
+  public void primitiveValues() throws Exception {
+    Binding binding = new Binding(4);
+    binding.addInt(0, 1).addLong(1, 2L).addDouble(2, 3.5d).add(3, Codecs.encode("a", 3));
+    binding.validate(4);
+
+    BindValue[] values = binding.getBindResultParameters(4);
+    Assertions.assertEquals(new BindValue(IntCodec.INSTANCE, 1), values[0]);
+    Assertions.assertEquals(new BindValue(LongCodec.INSTANCE, 2L), values[1]);
+    Assertions.assertEquals(new BindValue(DoubleCodec.INSTANCE, 3.5d), values[2]);
+    Assertions.assertEquals(Codecs.encode("a", 3), values[3]);
+
+    Binding parameters = binding.getBinaryParameters(4);
+    Assertions.assertEquals(4, parameters.size());
+    Assertions.assertFalse(parameters.isNull(1));
+    Assertions.assertSame(LongCodec.INSTANCE, parameters.getCodec(1));
+    Assertions.assertEquals(3.5d, parameters.getValue(2));
+
+    // parameters are not affected by binding reuse
+    binding.clear();
+    Assertions.assertEquals(1, parameters.getValue(0));
+  }
+
+  @Test
+  public void replaceValue() throws Exception {
+    Binding binding = new Binding(2);
+    binding.addInt(0, 1).add(1, Codecs.encodeNull(String.class, 1));
+    binding.add(0, Codecs.encode("a", 0)).addLong(1, 5L);
+    Assertions.assertEquals(Codecs.encode("a", 0), binding.get(0));
+    Assertions.assertEquals(5L, binding.getValue(1));
+    Assertions.assertFalse(binding.isNull(1));
+  }
+
+  @Test
+  public void missingValue() throws Exception {
+    Binding binding = new Binding(MariadbCommonStatement.UNKNOWN_SIZE);
+    binding.addLong(12, 1L);
+    Assertions.assertEquals(13, binding.size());
+    Assertions.assertThrows(IllegalStateException.class, binding::getBinaryParameters);
+    Assertions.assertThrows(IllegalStateException.class, () -> new Binding(2).validate(2));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> new Binding(2).addInt(2, 1));
+  }
+}
@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.util.ClockCache;
+
+public class ClockCacheTest {
+
+  @Test
+  public void secondChanceEviction() {
+    List<String> evicted = new ArrayList<>();
+    ClockCache<String, Integer> cache = new ClockCache<>(3, (k, v) -> evicted.add(k));
+    Assertions.assertNull(cache.putIfAbsent("a", 1));
+    Assertions.assertNull(cache.putIfAbsent("b", 2));
+    Assertions.assertNull(cache.putIfAbsent("c", 3));
+    Assertions.assertEquals(1, cache.putIfAbsent("a", 10));
+
+    // "a" has been referenced, "b" is evicted first
+    Assertions.assertNull(cache.putIfAbsent("d", 4));
+    Assertions.assertEquals(3, cache.size());
+    Assertions.assertNull(cache.get("b"));
+    Assertions.assertEquals(1, cache.get("a"));
+
+    // "a" reference flag has been cleared then set again, "c" is evicted
+    Assertions.assertNull(cache.putIfAbsent("e", 5));
+    Assertions.assertEquals(3, cache.size());
+    Assertions.assertTrue(cache.asMap().keySet().containsAll(Arrays.asList("a", "d", "e")));
+    Assertions.assertEquals(Arrays.asList("b", "c"), evicted);
+  }
+
+  @Test
+  public void replaceAndRemove() {
+    List<String> evicted = new ArrayList<>();
+    ClockCache<String, Integer> cache = new ClockCache<>(2, (k, v) -> evicted.add(k));
+    cache.put("a", 1);
+    cache.put("a", 2);
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertEquals(2, cache.get("a"));
+    cache.put("b", 3);
+    Assertions.assertEquals(3, cache.remove("b"));
+    Assertions.assertNull(cache.remove("b"));
+    cache.put("c", 4);
+    cache.put("d", 5);
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals(1, evicted.size());
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertNull(cache.get("d"));
+  }
+
+  @Test
+  public void repeatedReplaceBounded() {
+    ClockCache<String, Integer> cache = new ClockCache<>(4);
+    for (int i = 0; i < 100_000; i++) {
+      cache.put("a", i);
+      if (i % 2 == 0) cache.remove("b");
+      else cache.put("b", i);
+    }
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals(99_999, cache.get("a"));
+    Assertions.assertTrue(cache._test_clockSize() <= 20, "clock:" + cache._test_clockSize());
+  }
+
+  @Test
+  public void zeroSize() {
+    List<String> evicted = new ArrayList<>();
+    ClockCache<String, Integer> cache = new ClockCache<>(0, (k, v) -> evicted.add(k));
+    Assertions.assertNull(cache.putIfAbsent("a", 1));
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertEquals(Arrays.asList("a"), evicted);
+  }
+
+  @Test
+  public void concurrentAccess() throws Exception {
+    ClockCache<Integer, Integer> cache = new ClockCache<>(50);
+    ExecutorService exec = Executors.newFixedThreadPool(8);
+    for (int t = 0; t < 8; t++) {
+      final int seed = t;
+      exec.execute(
+          () -> {
+            for (int i = 0; i < 100_000; i++) {
+              int key = (i * 31 + seed) % 200;
+              Integer val = cache.get(key);
+              if (val == null) {
+                cache.putIfAbsent(key, key);
+              } else {
+                Assertions.assertEquals(key, val);
+              }
+            }
+          });
+    }
+    exec.shutdown();
+    Assertions.assertTrue(exec.awaitTermination(30, TimeUnit.SECONDS));
+    Assertions.assertTrue(cache.size() <= 50, "size:" + cache.size());
+    Assertions.assertEquals(cache.size(), cache.asMap().size());
+  }
+}
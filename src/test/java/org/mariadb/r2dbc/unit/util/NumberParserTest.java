@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.util.NumberParser;
+
+class NumberParserTest {
+
+  private static final String[] VALUES = {
+    "0",
+    "-0",
+    "+0",
+    "0.0",
+    "-0.0",
+    "1",
+    "-1",
+    "12.5",
+    "-12.50",
+    ".5",
+    "5.",
+    "0.001",
+    "100",
+    "123456789012345678",
+    "-999999999999999999",
+    "1234567890123456789",
+    "0.1",
+    "0.3",
+    "3.14159265358979",
+    "1e10",
+    "1E-5",
+    "-2.5e+3",
+    "1.7976931348623157e308",
+    "4.9e-324",
+    "9007199254740993",
+    "123456.789e-10",
+    "1e23",
+    "1e-23",
+    "8.41e21",
+    "abc",
+    "",
+    "-",
+    ".",
+    "1.2.3",
+    "1e",
+    "1e+",
+    " 1",
+    "1x"
+  };
+
+  private static ByteBuf buf(String value) {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeCharSequence("#" + value + "#", StandardCharsets.US_ASCII);
+    buf.readerIndex(1);
+    return buf;
+  }
+
+  private static void assertDouble(String value) {
+    ByteBuf buf = buf(value);
+    Double expected;
+    try {
+      expected = Double.parseDouble(value);
+    } catch (NumberFormatException e) {
+      assertThrows(
+          NumberFormatException.class, () -> NumberParser.parseDouble(buf, value.length()));
+      return;
+    }
+    assertEquals(expected, NumberParser.parseDouble(buf, value.length()), value);
+    assertEquals('#', buf.readByte());
+  }
+
+  private static void assertFloat(String value) {
+    ByteBuf buf = buf(value);
+    Float expected;
+    try {
+      expected = Float.parseFloat(value);
+    } catch (NumberFormatException e) {
+      assertThrows(NumberFormatException.class, () -> NumberParser.parseFloat(buf, value.length()));
+      return;
+    }
+    assertEquals(expected, NumberParser.parseFloat(buf, value.length()), value);
+    assertEquals('#', buf.readByte());
+  }
+
+  private static void assertDecimal(String value) {
+    ByteBuf buf = buf(value);
+    if (!NumberParser.isPlainDecimal(buf, value.length())) return;
+    assertEquals(1, buf.readerIndex());
+    BigDecimal expected = new BigDecimal(value);
+    assertEquals(expected, NumberParser.parseBigDecimal(buf, value.length()), value);
+    assertEquals('#', buf.readByte());
+
+    buf.readerIndex(1);
+    assertEquals(
+        expected.setScale(0, RoundingMode.DOWN).longValueExact(),
+        NumberParser.parseTruncatedLong(buf, value.length()),
+        value);
+    assertEquals('#', buf.readByte());
+  }
+
+  @Test
+  void values() {
+    for (String value : VALUES) {
+      assertDouble(value);
+      assertFloat(value);
+      assertDecimal(value);
+    }
+  }
+
+  @Test
+  void plainDecimal() {
+    assertTrue(NumberParser.isPlainDecimal(buf("-123.45"), 7));
+    assertTrue(NumberParser.isPlainDecimal(buf("123456789012345678"), 18));
+    assertFalse(NumberParser.isPlainDecimal(buf("1234567890123456789"), 19));
+    assertFalse(NumberParser.isPlainDecimal(buf("1e5"), 3));
+    assertFalse(NumberParser.isPlainDecimal(buf("-"), 1));
+    assertFalse(NumberParser.isPlainDecimal(buf("1.2.3"), 5));
+  }
+
+  @Test
+  void randomValues() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      String value;
+      switch (i % 4) {
+        case 0:
+          value = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+          break;
+        case 1:
+          value = Float.toString((float) (random.nextGaussian() * 1000));
+          break;
+        case 2:
+          value =
+              BigDecimal.valueOf(random.nextLong() % 1_000_000_000_000L, random.nextInt(12))
+                  .toPlainString();
+          break;
+        default:
+          value =
+              random.nextInt(100000) + "." + random.nextInt(1000) + "e" + (random.nextInt(50) - 25);
+      }
+      assertDouble(value);
+      assertFloat(value);
+      assertDecimal(value);
+    }
+  }
+}
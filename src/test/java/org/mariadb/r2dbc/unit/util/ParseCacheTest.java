@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.util.ClientParser;
+import org.mariadb.r2dbc.util.ParseCache;
+import org.mariadb.r2dbc.util.ServerNamedParamParser;
+
+public class ParseCacheTest {
+
+  @Test
+  public void sharedResult() {
+    ParseCache cache = new ParseCache(10);
+    String sql = "SELECT ?, ? FROM t WHERE a = '\\'?'";
+    ClientParser parser = cache.clientParser(sql, false);
+    Assertions.assertEquals(2, parser.getParamCount());
+    Assertions.assertSame(parser, cache.clientParser(sql, false));
+
+    // escape mode is part of the key
+    ClientParser noBackslash = cache.clientParser(sql, true);
+    Assertions.assertNotSame(parser, noBackslash);
+    Assertions.assertEquals(3, noBackslash.getParamCount());
+    Assertions.assertSame(noBackslash, cache.clientParser(sql, true));
+
+    ServerNamedParamParser serverParser = cache.serverParser("SELECT :a, :b", false);
+    Assertions.assertEquals(2, serverParser.getParamCount());
+    Assertions.assertSame(serverParser, cache.serverParser("SELECT :a, :b", false));
+    Assertions.assertNotSame(serverParser, cache.serverParser("SELECT :a, :b", true));
+  }
+
+  @Test
+  public void disabled() {
+    ParseCache cache = new ParseCache(0);
+    ClientParser parser = cache.clientParser("SELECT ?", false);
+    Assertions.assertEquals(1, parser.getParamCount());
+    Assertions.assertNotSame(parser, cache.clientParser("SELECT ?", false));
+  }
+}
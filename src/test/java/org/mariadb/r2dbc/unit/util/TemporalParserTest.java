@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.util.TemporalParser;
+
+class TemporalParserTest {
+
+  private static ByteBuf buf(String value) {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeCharSequence("#" + value + "#", StandardCharsets.US_ASCII);
+    buf.readerIndex(1);
+    return buf;
+  }
+
+  @Test
+  void layouts() {
+    assertTrue(TemporalParser.isDate(buf("2022-01-31"), 10));
+    assertFalse(TemporalParser.isDate(buf("2022-1-31"), 9));
+    assertFalse(TemporalParser.isDate(buf("2022/01/31"), 10));
+
+    assertTrue(TemporalParser.isDateTime(buf("2022-01-31 10:11:12"), 19));
+    assertTrue(TemporalParser.isDateTime(buf("2022-01-31 10:11:12.1"), 21));
+    assertTrue(TemporalParser.isDateTime(buf("2022-01-31 10:11:12.123456"), 26));
+    assertFalse(TemporalParser.isDateTime(buf("2022-01-31 10:11:12."), 20));
+    assertFalse(TemporalParser.isDateTime(buf("2022-01-31 10:11:12.1234567"), 27));
+    assertFalse(TemporalParser.isDateTime(buf("2022-01-31T10:11:12"), 19));
+    assertFalse(TemporalParser.isDateTime(buf("2022-01-31"), 10));
+
+    assertTrue(TemporalParser.isTime(buf("10:11:12"), 8));
+    assertTrue(TemporalParser.isTime(buf("10:11:12.000100"), 15));
+    assertFalse(TemporalParser.isTime(buf("-10:11:12"), 9));
+    assertFalse(TemporalParser.isTime(buf("100:11:12"), 9));
+    assertFalse(TemporalParser.isTime(buf("10:11"), 5));
+  }
+
+  @Test
+  void parseDate() {
+    ByteBuf buf = buf("2022-01-31");
+    assertEquals(LocalDate.of(2022, 1, 31), TemporalParser.parseDate(buf, 10));
+    assertEquals('#', buf.readByte());
+    assertNull(TemporalParser.parseDate(buf("0000-00-00"), 10));
+
+    buf = buf("2022-01-31 10:11:12.5");
+    assertEquals(LocalDate.of(2022, 1, 31), TemporalParser.parseDate(buf, 21));
+    assertEquals('#', buf.readByte());
+    assertNull(TemporalParser.parseDate(buf("0000-00-00 00:00:00.000"), 23));
+    assertEquals(LocalDate.of(0, 1, 1), TemporalParser.parseDate(buf("0000-00-00 00:00:01"), 19));
+  }
+
+  @Test
+  void parseDateTime() {
+    ByteBuf buf = buf("2022-01-31 10:11:12");
+    assertEquals(LocalDateTime.of(2022, 1, 31, 10, 11, 12), TemporalParser.parseDateTime(buf, 19));
+    assertEquals('#', buf.readByte());
+    assertEquals(
+        LocalDateTime.of(2022, 1, 31, 10, 11, 12, 100_000_000),
+        TemporalParser.parseDateTime(buf("2022-01-31 10:11:12.1"), 21));
+    assertEquals(
+        LocalDateTime.of(2022, 1, 31, 10, 11, 12, 123_456_000),
+        TemporalParser.parseDateTime(buf("2022-01-31 10:11:12.123456"), 26));
+    assertNull(TemporalParser.parseDateTime(buf("0000-00-00 00:00:00"), 19));
+    assertEquals(
+        LocalDateTime.of(0, 1, 1, 0, 0, 0, 1000),
+        TemporalParser.parseDateTime(buf("0000-00-00 00:00:00.000001"), 26));
+  }
+
+  @Test
+  void parseTime() {
+    ByteBuf buf = buf("10:11:12.000100");
+    assertEquals(LocalTime.of(10, 11, 12, 100_000), TemporalParser.parseTime(buf, 15));
+    assertEquals('#', buf.readByte());
+    assertEquals(LocalTime.of(1, 0, 0), TemporalParser.parseTime(buf("25:00:00"), 8));
+    assertEquals(
+        LocalTime.of(10, 11, 12, 500_000_000),
+        TemporalParser.parseTime(buf("2022-01-31 10:11:12.5"), 21));
+    assertNull(TemporalParser.parseTime(buf("0000-00-00 00:00:00"), 19));
+
+    buf = buf("99:59:58.25");
+    assertEquals(
+        Duration.ofHours(99).plusMinutes(59).plusSeconds(58).plusMillis(250),
+        TemporalParser.parseDuration(buf, 11));
+    assertEquals('#', buf.readByte());
+  }
+
+  @Test
+  void dateCache() {
+    LocalDate date = TemporalParser.date(2022, 3, 4);
+    assertSame(date, TemporalParser.date(2022, 3, 4));
+    assertEquals(LocalDate.of(2022, 3, 5), TemporalParser.date(2022, 3, 5));
+    for (int i = 0; i < 2000; i++) {
+      LocalDate expected = LocalDate.of(2000, 1, 1).plusDays(i);
+      assertEquals(
+          expected,
+          TemporalParser.date(
+              expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()));
+    }
+  }
+}